@@ -1,13 +1,46 @@
 package com.bank.kata;
 
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import com.bank.kata.server.BankHttpServer;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.CachingTransactionFormatterServiceImpl;
+import com.bank.kata.service.TransactionFormatterServiceImpl;
+import com.bank.kata.service.TransactionService;
+import com.bank.kata.service.TransactionServiceImpl;
+
+import java.io.IOException;
+
 /**
- * Hello world!
+ * Entry point of the bank service.
  *
+ * <p>Wires the services together and exposes them through the embedded
+ * {@link BankHttpServer}. The port is taken from the first argument and
+ * defaults to 8080.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
  */
-public class App 
-{
-    public static void main( String[] args )
-    {
-        System.out.println( "Hello World!" );
+public class App {
+
+    /**
+     * Port used when none is given on the command line.
+     */
+    private static final int DEFAULT_PORT = 8080;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        AccountRepository accountRepository = new AccountRepositoryImpl();
+        TransactionService transactionService = new TransactionServiceImpl();
+        AccountService accountService = new AccountServiceImpl(transactionService);
+
+        BankHttpServer server = new BankHttpServer(port, accountRepository, accountService,
+                transactionService, new CachingTransactionFormatterServiceImpl(new TransactionFormatterServiceImpl()));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        System.out.println("Bank service listening on port " + server.getPort()
+                + (BankHttpServer.usesVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
     }
 }
@@ -35,31 +35,80 @@ public class Account {
      */
     private final String currency;
 
+    /**
+     * Interned id of the account currency, see {@link CurrencyRegistry}.
+     */
+    private final int currencyId;
+
     /**
      * Date when the account was created.
      */
     private final LocalDateTime createdAt;
 
     /**
-     * Represents the current balance of the account.
+     * Represents the current balance of the account, unless it is kept in a {@link AccountTable}.
      */
     private double balance;
+
+    /**
+     * Table keeping the balance once the account is registered in one, or null.
+     */
+    private volatile AccountTable table;
+
+    /**
+     * Index of the balance in the slots of {@link #table}; written before the table is published.
+     */
+    private int tableSlot;
+
+    /**
+     * A list of transactions associated with the account; null while the account is archived.
+     */
+    private volatile List<Transaction> transactions;
+
+    /**
+     * Handle to the archived transactions, or null when they are in memory.
+     *
+     * <p>It is published before the transactions are released and cleared after they are
+     * loaded back, so that the two fields are never null at the same time.
+     */
+    private volatile ArchivedHistory archivedHistory;
+
     /**
-     * A list of transactions associated with the account.
+     * Number of archived transactions; guarded by the account monitor.
      */
-    private List<Transaction> transactions;
+    private int archivedTransactionCount;
 
     /**
      * Initializes a new account
      *
      * @param ownerName the name of the account holder.
-     * @param currency  the currency for the account (e.g., "USD").
+     * @param currency  the currency for the account (e.g., "USD"), or null if it has none.
      */
     public Account(String ownerName, String currency) {
-        this.accountId = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), ownerName, currency, LocalDateTime.now());
+    }
+
+    /**
+     * Initializes an empty account with a known identity, for instance when an
+     * account is rebuilt from its recorded transactions.
+     *
+     * <p>Any currency string is accepted; one that is not a three-letter code is kept
+     * as given but gets the {@link CurrencyRegistry#UNKNOWN} id, so no operation in
+     * another currency can be converted into it.
+     *
+     * @param accountId the unique identifier of the account.
+     * @param ownerName the name of the account holder.
+     * @param currency  the currency for the account (e.g., "USD"), or null if it has none.
+     * @param createdAt the date and time the account was created.
+     */
+    public Account(String accountId, String ownerName, String currency, LocalDateTime createdAt) {
+        this.accountId = accountId;
         this.ownerName = ownerName;
         this.currency = currency;
-        this.createdAt = LocalDateTime.now();
+        this.currencyId = CurrencyRegistry.isWellFormed(currency)
+                ? CurrencyRegistry.idOf(currency)
+                : CurrencyRegistry.UNKNOWN;
+        this.createdAt = createdAt;
         this.balance = 0.0;
         this.transactions = new ArrayList<>();
     }
@@ -91,6 +140,15 @@ public class Account {
         return currency;
     }
 
+    /**
+     * Returns the interned id of the account currency.
+     *
+     * @return the currency id as assigned by {@link CurrencyRegistry}.
+     */
+    public int getCurrencyId() {
+        return currencyId;
+    }
+
     /**
      * Returns the date and time when the account was created.
      *
@@ -106,24 +164,132 @@ public class Account {
      * @return the current balance.
      */
     public double getBalance() {
-        return balance;
+        AccountTable owner = table;
+        return owner != null ? owner.balanceAt(tableSlot) : balance;
     }
 
     /**
      * Updates the balance of the account.
      *
+     * <p>Callers update the balance under the account lock, as {@code AccountService} does.
+     *
      * @param balance the new balance to set.
      */
     public void setBalance(double balance) {
-        this.balance = balance;
+        AccountTable owner = table;
+        if (owner != null) {
+            owner.storeBalance(tableSlot, balance);
+        } else {
+            this.balance = balance;
+        }
+    }
+
+    /**
+     * Moves the balance into a slot of the given table, see {@link AccountTable#register(Account)}.
+     *
+     * @param owner the table keeping the balance from now on.
+     * @param slot the index of the balance in the table slots.
+     * @throws IllegalStateException if the account is already in a table.
+     */
+    synchronized void bind(AccountTable owner, int slot) {
+        if (table != null) {
+            throw new IllegalStateException("Account " + accountId + " is already in an account table.");
+        }
+        owner.storeBalance(slot, balance);
+        this.tableSlot = slot;
+        this.table = owner;
     }
 
     /**
      * Retrieves the list of transactions for the account.
      *
+     * <p>If the account is archived, its transactions are loaded back first.
+     *
      * @return a list of {@link Transaction} objects associated with the account.
      */
     public List<Transaction> getTransactions() {
+        List<Transaction> current = transactions;
+        return current != null ? current : rehydrate();
+    }
+
+    /**
+     * Returns a copy of the transactions of the account, taken under the account lock.
+     *
+     * <p>Unlike {@link #getTransactions()}, an archived account is not loaded back:
+     * its transactions are read from the archive handle and only the copy holds them.
+     *
+     * @return a list of {@link Transaction} objects that later operations do not change.
+     */
+    public List<Transaction> snapshotTransactions() {
+        ArchivedHistory history;
+        synchronized (this) {
+            List<Transaction> current = transactions;
+            if (current != null) {
+                return new ArrayList<>(current);
+            }
+            history = archivedHistory;
+        }
+        // Archived transactions are not changed any more, so they can be read outside the lock
+        return new ArrayList<>(history.load());
+    }
+
+    /**
+     * Returns the number of transactions of the account, without loading archived ones back.
+     *
+     * @return the number of transactions recorded on the account.
+     */
+    public int getTransactionCount() {
+        List<Transaction> current = transactions;
+        if (current != null) {
+            return current.size();
+        }
+        synchronized (this) {
+            current = transactions;
+            return current != null ? current.size() : archivedTransactionCount;
+        }
+    }
+
+    /**
+     * Releases the transactions of the account, which can be loaded back from the given handle.
+     *
+     * <p>Callers archive an account while holding its lock, so that no transaction
+     * is recorded between the moment its history is written and the moment it is released.
+     *
+     * @param history the handle to the archived transactions.
+     * @throws IllegalArgumentException if the handle is null.
+     */
+    public synchronized void archive(ArchivedHistory history) {
+        if (history == null) {
+            throw new IllegalArgumentException("Archived history cannot be null.");
+        }
+        List<Transaction> current = transactions;
+        if (current != null) {
+            this.archivedTransactionCount = current.size();
+        }
+        this.archivedHistory = history;
+        this.transactions = null;
+    }
+
+    /**
+     * Tells whether the transactions of the account are archived.
+     *
+     * @return true if the transactions are not in memory.
+     */
+    public boolean isArchived() {
+        return archivedHistory != null;
+    }
+
+    /**
+     * Loads the archived transactions back into memory.
+     *
+     * @return the transactions of the account.
+     */
+    private synchronized List<Transaction> rehydrate() {
+        ArchivedHistory history = archivedHistory;
+        if (history != null && transactions == null) {
+            this.transactions = new ArrayList<>(history.load());
+        }
+        this.archivedHistory = null;
         return transactions;
     }
 }
@@ -0,0 +1,177 @@
+package com.bank.kata.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Struct-of-arrays table of account balances, addressed by an int handle.
+ *
+ * <p>An {@link Account} keeps its mutable balance next to immutable fields, and
+ * accounts allocated together share cache lines, so threads updating different
+ * accounts keep invalidating each other's caches. Once registered here, an account
+ * keeps its balance in a slot of a single {@code long[]} instead. With the default
+ * {@value #PADDED_SLOT_LONGS}-long slots, each balance owns two whole cache lines,
+ * which also defeats the adjacent-line prefetcher; a 1-long slot packs eight
+ * balances per line for the smallest footprint.
+ *
+ * <p>The slot is the only copy of the balance: {@link Account#getBalance()} and
+ * {@link Account#setBalance(double)} read and write it, so deposits and withdrawals
+ * still go through {@code AccountService}, under the account lock, and record
+ * their transactions as before. The table itself never changes a balance. The
+ * {@link Account} objects stay the view of each handle, and {@link #getBalance(int)}
+ * reads a balance without touching its account.
+ *
+ * <p>The capacity is fixed at construction, so that updates never race with growth.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class AccountTable {
+
+    /**
+     * Slot width, in longs, giving each balance its own pair of 64-byte cache lines.
+     */
+    public static final int PADDED_SLOT_LONGS = 16;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * Balance bits: one slot of {@code slotLongs} longs per handle, the balance first.
+     */
+    private final long[] slots;
+
+    /**
+     * Width of a slot, in longs.
+     */
+    private final int slotLongs;
+
+    /**
+     * Object view of each handle.
+     */
+    private final Account[] accounts;
+
+    /**
+     * Number of handles in use; written under the table monitor.
+     */
+    private volatile int size;
+
+    /**
+     * Creates a table with padded slots.
+     *
+     * @param capacity the maximum number of accounts.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public AccountTable(int capacity) {
+        this(capacity, PADDED_SLOT_LONGS);
+    }
+
+    /**
+     * Creates a table with the given slot width.
+     *
+     * @param capacity the maximum number of accounts.
+     * @param slotLongs the width of a slot in longs; 1 packs balances, {@value #PADDED_SLOT_LONGS} pads them.
+     * @throws IllegalArgumentException if the capacity or the slot width is not positive, or the table is too large.
+     */
+    public AccountTable(int capacity, int slotLongs) {
+        if (capacity <= 0 || slotLongs <= 0) {
+            throw new IllegalArgumentException("Capacity and slot width must be positive.");
+        }
+        if ((long) capacity * slotLongs > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Account table too large.");
+        }
+        this.slots = new long[capacity * slotLongs];
+        this.slotLongs = slotLongs;
+        this.accounts = new Account[capacity];
+    }
+
+    /**
+     * Moves the balance of an account into the table.
+     *
+     * <p>From then on the account reads and writes its balance in its slot.
+     *
+     * @param account the account to add.
+     * @return the handle of the account.
+     * @throws IllegalArgumentException if the account is null.
+     * @throws IllegalStateException if the table is full or the account is already in a table.
+     */
+    public synchronized int register(Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("The account cannot be null.");
+        }
+        int handle = size;
+        if (handle == accounts.length) {
+            throw new IllegalStateException("Account table is full.");
+        }
+        account.bind(this, handle * slotLongs);
+        accounts[handle] = account;
+        size = handle + 1;
+        return handle;
+    }
+
+    /**
+     * Retrieves the balance of an account.
+     *
+     * @param handle the handle of the account.
+     * @return the current balance.
+     * @throws IllegalArgumentException if the handle is unknown.
+     */
+    public double getBalance(int handle) {
+        return balanceAt(slotOf(handle));
+    }
+
+    /**
+     * Retrieves the object view of an account.
+     *
+     * @param handle the handle of the account.
+     * @return the account.
+     * @throws IllegalArgumentException if the handle is unknown.
+     */
+    public Account getAccount(int handle) {
+        slotOf(handle);
+        return accounts[handle];
+    }
+
+    /**
+     * @return the number of accounts in the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of accounts.
+     */
+    public int capacity() {
+        return accounts.length;
+    }
+
+    /**
+     * Estimates the memory used by the table itself, accounts excluded.
+     *
+     * @return an estimate in bytes.
+     */
+    public long estimateMemoryBytes() {
+        return 8L * slots.length + 4L * accounts.length + 48;
+    }
+
+    private int slotOf(int handle) {
+        if (handle < 0 || handle >= size) {
+            throw new IllegalArgumentException("Unknown account handle: " + handle + ".");
+        }
+        return handle * slotLongs;
+    }
+
+    /**
+     * Reads the balance stored in a slot; {@link Account} keeps the index of its own slot.
+     */
+    double balanceAt(int slot) {
+        return Double.longBitsToDouble((long) LONGS.getAcquire(slots, slot));
+    }
+
+    /**
+     * Stores a balance in a slot; writers of a slot are serialized by the lock of its account.
+     */
+    void storeBalance(int slot, double balance) {
+        LONGS.setRelease(slots, slot, Double.doubleToRawLongBits(balance));
+    }
+}
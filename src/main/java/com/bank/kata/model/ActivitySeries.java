@@ -0,0 +1,129 @@
+package com.bank.kata.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deposit and withdrawal activity over consecutive time buckets.
+ *
+ * <p>Bucket {@code i} covers {@code [getBucketStart(i), getBucketStart(i + 1))}.
+ * Buckets older than the retention of the rollup read as empty.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class ActivitySeries {
+
+    /**
+     * Width of the buckets.
+     */
+    private final Granularity granularity;
+
+    /**
+     * Start of the first bucket.
+     */
+    private final LocalDateTime start;
+
+    /**
+     * Number of deposits per bucket.
+     */
+    private final long[] depositCounts;
+
+    /**
+     * Volume deposited per bucket.
+     */
+    private final double[] depositVolumes;
+
+    /**
+     * Number of withdrawals per bucket.
+     */
+    private final long[] withdrawalCounts;
+
+    /**
+     * Volume withdrawn per bucket.
+     */
+    private final double[] withdrawalVolumes;
+
+    /**
+     * Creates a new ActivitySeries.
+     *
+     * @param granularity the width of the buckets.
+     * @param start the start of the first bucket.
+     * @param depositCounts the number of deposits per bucket.
+     * @param depositVolumes the volume deposited per bucket.
+     * @param withdrawalCounts the number of withdrawals per bucket.
+     * @param withdrawalVolumes the volume withdrawn per bucket.
+     */
+    public ActivitySeries(Granularity granularity, LocalDateTime start, long[] depositCounts, double[] depositVolumes,
+                          long[] withdrawalCounts, double[] withdrawalVolumes) {
+        this.granularity = granularity;
+        this.start = start;
+        this.depositCounts = depositCounts;
+        this.depositVolumes = depositVolumes;
+        this.withdrawalCounts = withdrawalCounts;
+        this.withdrawalVolumes = withdrawalVolumes;
+    }
+
+    /**
+     * Retrieves the width of the buckets.
+     *
+     * @return the granularity of the series.
+     */
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * Retrieves the number of buckets.
+     *
+     * @return the number of buckets in the series.
+     */
+    public int size() {
+        return depositCounts.length;
+    }
+
+    /**
+     * Retrieves the start of a bucket.
+     *
+     * @param index the index of the bucket.
+     * @return the start of the bucket.
+     */
+    public LocalDateTime getBucketStart(int index) {
+        return start.plusSeconds(index * granularity.getSeconds());
+    }
+
+    /**
+     * Retrieves the number of deposits per bucket.
+     *
+     * @return the number of deposits, by bucket.
+     */
+    public long[] getDepositCounts() {
+        return depositCounts;
+    }
+
+    /**
+     * Retrieves the volume deposited per bucket.
+     *
+     * @return the volume deposited, by bucket.
+     */
+    public double[] getDepositVolumes() {
+        return depositVolumes;
+    }
+
+    /**
+     * Retrieves the number of withdrawals per bucket.
+     *
+     * @return the number of withdrawals, by bucket.
+     */
+    public long[] getWithdrawalCounts() {
+        return withdrawalCounts;
+    }
+
+    /**
+     * Retrieves the volume withdrawn per bucket.
+     *
+     * @return the volume withdrawn, by bucket.
+     */
+    public double[] getWithdrawalVolumes() {
+        return withdrawalVolumes;
+    }
+}
@@ -0,0 +1,105 @@
+package com.bank.kata.model;
+
+/**
+ * Summary of an archival run.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class ArchivalReport {
+
+    /**
+     * Number of accounts examined.
+     */
+    private final long accountsScanned;
+
+    /**
+     * Number of accounts whose transactions were archived.
+     */
+    private final long accountsArchived;
+
+    /**
+     * Number of transactions moved out of memory.
+     */
+    private final long transactionsArchived;
+
+    /**
+     * Number of bytes appended to the archive.
+     */
+    private final long bytesWritten;
+
+    /**
+     * Wall-clock duration of the run, in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new ArchivalReport.
+     *
+     * @param accountsScanned the number of accounts examined.
+     * @param accountsArchived the number of accounts archived.
+     * @param transactionsArchived the number of transactions moved out of memory.
+     * @param bytesWritten the number of bytes appended to the archive.
+     * @param elapsedNanos the duration of the run, in nanoseconds.
+     */
+    public ArchivalReport(long accountsScanned, long accountsArchived, long transactionsArchived,
+                          long bytesWritten, long elapsedNanos) {
+        this.accountsScanned = accountsScanned;
+        this.accountsArchived = accountsArchived;
+        this.transactionsArchived = transactionsArchived;
+        this.bytesWritten = bytesWritten;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retrieves the number of accounts examined.
+     *
+     * @return the number of accounts examined.
+     */
+    public long getAccountsScanned() {
+        return accountsScanned;
+    }
+
+    /**
+     * Retrieves the number of accounts archived.
+     *
+     * @return the number of accounts whose transactions were archived.
+     */
+    public long getAccountsArchived() {
+        return accountsArchived;
+    }
+
+    /**
+     * Retrieves the number of transactions archived.
+     *
+     * @return the number of transactions moved out of memory.
+     */
+    public long getTransactionsArchived() {
+        return transactionsArchived;
+    }
+
+    /**
+     * Retrieves the size of the archived data.
+     *
+     * @return the number of bytes appended to the archive.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Retrieves the wall-clock duration of the run.
+     *
+     * @return the duration, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d accounts archived, %d transactions, %.1f MB in %d ms",
+                accountsArchived, accountsScanned, transactionsArchived, bytesWritten / 1e6,
+                elapsedNanos / 1_000_000);
+    }
+}
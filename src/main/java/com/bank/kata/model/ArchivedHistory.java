@@ -0,0 +1,23 @@
+package com.bank.kata.model;
+
+import java.util.List;
+
+/**
+ * Handle to the transaction history of an archived account.
+ *
+ * <p>An archived {@link Account} keeps its balance and metadata in memory but
+ * releases its transactions, keeping only this handle to load them back.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface ArchivedHistory {
+
+    /**
+     * Loads the archived transactions.
+     *
+     * @return the transactions, in the order they were recorded.
+     * @throws java.io.UncheckedIOException if the archive cannot be read.
+     */
+    List<Transaction> load();
+}
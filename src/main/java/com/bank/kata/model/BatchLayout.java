@@ -0,0 +1,113 @@
+package com.bank.kata.model;
+
+import java.util.List;
+
+/**
+ * Describes how the accounts of a batch run are split into partitions.
+ *
+ * <p>Checkpoints refer to accounts by partition index and position, so they are
+ * only meaningful for the same partition size and the same accounts in the same
+ * order. The layout records the partition size, the number of accounts and a
+ * fingerprint of their identifiers in order, and is saved with the checkpoints
+ * so that a resume with a different layout can be refused.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class BatchLayout {
+
+    /**
+     * Number of accounts per partition.
+     */
+    private final int partitionSize;
+
+    /**
+     * Number of accounts in the run.
+     */
+    private final int accountCount;
+
+    /**
+     * Hash of the account identifiers, in order.
+     */
+    private final long fingerprint;
+
+    /**
+     * Creates a new BatchLayout.
+     *
+     * @param partitionSize the number of accounts per partition.
+     * @param accountCount the number of accounts in the run.
+     * @param fingerprint the hash of the account identifiers, in order.
+     */
+    public BatchLayout(int partitionSize, int accountCount, long fingerprint) {
+        this.partitionSize = partitionSize;
+        this.accountCount = accountCount;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Computes the layout of a run over a list of accounts.
+     *
+     * @param partitionSize the number of accounts per partition.
+     * @param accounts the accounts of the run, in the order they are processed.
+     * @return the layout of the run.
+     */
+    public static BatchLayout of(int partitionSize, List<Account> accounts) {
+        long fingerprint = accounts.size();
+        for (Account account : accounts) {
+            // Multiplying after each identifier makes the hash depend on the order
+            fingerprint = (fingerprint ^ account.getAccountId().hashCode()) * 0x9E3779B97F4A7C15L;
+            fingerprint ^= fingerprint >>> 29;
+        }
+        return new BatchLayout(partitionSize, accounts.size(), fingerprint);
+    }
+
+    /**
+     * Retrieves the number of accounts per partition.
+     *
+     * @return the partition size.
+     */
+    public int getPartitionSize() {
+        return partitionSize;
+    }
+
+    /**
+     * Retrieves the number of accounts in the run.
+     *
+     * @return the number of accounts.
+     */
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    /**
+     * Retrieves the hash of the account identifiers, in order.
+     *
+     * @return the fingerprint of the account list.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BatchLayout)) {
+            return false;
+        }
+        BatchLayout layout = (BatchLayout) other;
+        return partitionSize == layout.partitionSize && accountCount == layout.accountCount
+                && fingerprint == layout.fingerprint;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint) * 31 + partitionSize;
+    }
+
+    @Override
+    public String toString() {
+        return partitionSize + " " + accountCount + " " + fingerprint;
+    }
+}
@@ -0,0 +1,135 @@
+package com.bank.kata.model;
+
+/**
+ * Summary of a batch run over many accounts.
+ *
+ * <p>A batch report counts the accounts processed during the run, the
+ * transactions posted and the postings that were rejected by the business
+ * rules, along with the partitions skipped because an earlier, interrupted
+ * run had already completed them.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class BatchReport {
+
+    /**
+     * Identifier of the run, used for checkpointing.
+     */
+    private final String runId;
+
+    /**
+     * Number of accounts processed during this run.
+     */
+    private final long accountsProcessed;
+
+    /**
+     * Number of transactions posted during this run.
+     */
+    private final long transactionsPosted;
+
+    /**
+     * Number of postings rejected by the business rules (e.g., insufficient funds).
+     */
+    private final long postingsRejected;
+
+    /**
+     * Number of partitions skipped or resumed because an earlier run completed or started them.
+     */
+    private final int partitionsResumed;
+
+    /**
+     * Wall-clock duration of the run, in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new BatchReport.
+     *
+     * @param runId the identifier of the run.
+     * @param accountsProcessed the number of accounts processed during this run.
+     * @param transactionsPosted the number of transactions posted.
+     * @param postingsRejected the number of rejected postings.
+     * @param partitionsResumed the number of partitions skipped or resumed from an earlier run.
+     * @param elapsedNanos the duration of the run, in nanoseconds.
+     */
+    public BatchReport(String runId, long accountsProcessed, long transactionsPosted,
+                       long postingsRejected, int partitionsResumed, long elapsedNanos) {
+        this.runId = runId;
+        this.accountsProcessed = accountsProcessed;
+        this.transactionsPosted = transactionsPosted;
+        this.postingsRejected = postingsRejected;
+        this.partitionsResumed = partitionsResumed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retrieves the identifier of the run.
+     *
+     * @return the identifier of the run.
+     */
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Retrieves the number of accounts processed.
+     *
+     * @return the number of accounts processed during this run.
+     */
+    public long getAccountsProcessed() {
+        return accountsProcessed;
+    }
+
+    /**
+     * Retrieves the number of transactions posted.
+     *
+     * @return the number of transactions posted.
+     */
+    public long getTransactionsPosted() {
+        return transactionsPosted;
+    }
+
+    /**
+     * Retrieves the number of postings rejected by the business rules.
+     *
+     * @return the number of rejected postings.
+     */
+    public long getPostingsRejected() {
+        return postingsRejected;
+    }
+
+    /**
+     * Retrieves the number of partitions completed or started by an earlier run.
+     *
+     * @return the number of partitions skipped or resumed from an earlier run.
+     */
+    public int getPartitionsResumed() {
+        return partitionsResumed;
+    }
+
+    /**
+     * Retrieves the wall-clock duration of the run.
+     *
+     * @return the duration of the run, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the throughput of the run.
+     *
+     * @return the number of accounts processed per second.
+     */
+    public double getAccountsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : accountsProcessed * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d accounts, %d posted, %d rejected, %d partitions resumed, %.0f accounts/s",
+                runId, accountsProcessed, transactionsPosted, postingsRejected, partitionsResumed,
+                getAccountsPerSecond());
+    }
+}
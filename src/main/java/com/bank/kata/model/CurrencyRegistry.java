@@ -0,0 +1,165 @@
+package com.bank.kata.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns currency codes to small integer identifiers.
+ *
+ * <p>Each distinct currency code (e.g., "USD", "EUR") is assigned a dense id
+ * the first time it is seen. Accounts, transactions and exchange rate tables
+ * work with these ids so that hot paths compare integers rather than strings.
+ * Ids are never reused or removed for the lifetime of the JVM, so only
+ * well-formed ISO 4217 style codes (three ASCII letters) are registered, and
+ * code paths fed by untrusted input look codes up with {@link #find(String)},
+ * which never registers anything.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class CurrencyRegistry {
+
+    /**
+     * Id used when no currency is known (e.g., a transaction created without one).
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * Lookup from currency code to id.
+     */
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+    /**
+     * Lookup from id to currency code, replaced when it grows.
+     */
+    private static volatile String[] codes = new String[16];
+
+    /**
+     * Number of ids assigned so far.
+     */
+    private static int size;
+
+    private CurrencyRegistry() {
+    }
+
+    /**
+     * Returns the id of a currency code, assigning a new one if needed.
+     *
+     * <p>Codes are normalized to upper case, so "eur" and "EUR" share an id.
+     *
+     * @param code the currency code.
+     * @return the interned id of the currency.
+     * @throws IllegalArgumentException if the code is null, blank or not made of three letters.
+     */
+    public static int idOf(String code) {
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("Currency code cannot be null or blank.");
+        }
+        Integer id = IDS.get(code);
+        if (id != null) {
+            return id;
+        }
+        String normalized = normalize(code);
+        if (normalized == null) {
+            throw new IllegalArgumentException("Currency code must be made of three letters.");
+        }
+        return register(code, normalized);
+    }
+
+    /**
+     * Tells whether a code is made of three ASCII letters, once trimmed, and can be registered.
+     *
+     * @param code the currency code, possibly null.
+     * @return true if {@link #idOf(String)} accepts the code.
+     */
+    public static boolean isWellFormed(String code) {
+        return code != null && normalize(code) != null;
+    }
+
+    /**
+     * Returns the id of a currency code without registering it.
+     *
+     * @param code the currency code.
+     * @return the interned id of the currency, or {@link #UNKNOWN} if the code is malformed
+     *         or was never registered.
+     * @throws IllegalArgumentException if the code is null.
+     */
+    public static int find(String code) {
+        if (code == null) {
+            throw new IllegalArgumentException("Currency code cannot be null.");
+        }
+        Integer id = IDS.get(code);
+        if (id != null) {
+            return id;
+        }
+        String normalized = normalize(code);
+        if (normalized == null) {
+            return UNKNOWN;
+        }
+        id = IDS.get(normalized);
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * Returns the currency code associated with an id.
+     *
+     * @param id the interned id of the currency.
+     * @return the currency code, or {@code null} if the id is unknown.
+     */
+    public static String codeOf(int id) {
+        String[] current = codes;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+
+    /**
+     * Returns the number of currencies registered so far.
+     *
+     * @return the number of interned currency codes.
+     */
+    public static int size() {
+        synchronized (IDS) {
+            return size;
+        }
+    }
+
+    /**
+     * Trims and upper-cases a code, or returns null if it is not made of three ASCII letters.
+     */
+    private static String normalize(String code) {
+        String normalized = code.trim().toUpperCase(Locale.ROOT);
+        if (normalized.length() != 3) {
+            return null;
+        }
+        for (int i = 0; i < 3; i++) {
+            char c = normalized.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return null;
+            }
+        }
+        return normalized;
+    }
+
+    private static int register(String code, String normalized) {
+        synchronized (IDS) {
+            Integer id = IDS.get(normalized);
+            if (id == null) {
+                id = size++;
+                String[] current = codes;
+                if (id >= current.length) {
+                    current = Arrays.copyOf(current, current.length * 2);
+                }
+                current[id] = normalized;
+                codes = current;
+                IDS.put(normalized, id);
+            }
+            // Remember a differently cased spelling too so the next lookup is a single map hit;
+            // untrimmed spellings are not kept, as their variants are unbounded
+            if (code.length() == 3) {
+                IDS.putIfAbsent(code, id);
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bank.kata.model;
+
+/**
+ * A broken invariant found by a reconciliation.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class Discrepancy {
+
+    /**
+     * Identifier of the account whose history is inconsistent.
+     */
+    private final String accountId;
+
+    /**
+     * Kind of invariant that is broken.
+     */
+    private final DiscrepancyKind kind;
+
+    /**
+     * Index of the offending transaction in the history, or -1 when the account itself is concerned.
+     */
+    private final int transactionIndex;
+
+    /**
+     * The balance the invariant requires.
+     */
+    private final double expected;
+
+    /**
+     * The balance actually recorded.
+     */
+    private final double actual;
+
+    /**
+     * Creates a new Discrepancy.
+     *
+     * @param accountId the identifier of the account.
+     * @param kind the kind of invariant that is broken.
+     * @param transactionIndex the index of the offending transaction, or -1.
+     * @param expected the balance the invariant requires.
+     * @param actual the balance actually recorded.
+     */
+    public Discrepancy(String accountId, DiscrepancyKind kind, int transactionIndex, double expected, double actual) {
+        this.accountId = accountId;
+        this.kind = kind;
+        this.transactionIndex = transactionIndex;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    /**
+     * Retrieves the identifier of the account.
+     *
+     * @return the identifier of the account whose history is inconsistent.
+     */
+    public String getAccountId() {
+        return accountId;
+    }
+
+    /**
+     * Retrieves the kind of invariant that is broken.
+     *
+     * @return the kind of discrepancy.
+     */
+    public DiscrepancyKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the position of the offending transaction.
+     *
+     * @return the index of the transaction in the history, or -1 when the account itself is concerned.
+     */
+    public int getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    /**
+     * Retrieves the balance the invariant requires.
+     *
+     * @return the expected balance.
+     */
+    public double getExpected() {
+        return expected;
+    }
+
+    /**
+     * Retrieves the balance actually recorded.
+     *
+     * @return the recorded balance.
+     */
+    public double getActual() {
+        return actual;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s #%d: expected %.2f, found %.2f",
+                accountId, kind, transactionIndex, expected, actual);
+    }
+}
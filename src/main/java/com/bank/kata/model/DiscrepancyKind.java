@@ -0,0 +1,30 @@
+package com.bank.kata.model;
+
+/**
+ * Enum representing the invariants checked by a reconciliation.
+ *
+ * <p>For example:
+ * - BROKEN_CHAIN: A transaction's balance does not follow from the previous one.
+ * - BALANCE_MISMATCH: The last recorded balance differs from the account balance.
+ * - UNKNOWN_ACCOUNT: An archived history belongs to no known account.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public enum DiscrepancyKind {
+
+    /**
+     * The balance after a transaction is not the previous balance plus or minus its amount.
+     */
+    BROKEN_CHAIN,
+
+    /**
+     * The balance after the last transaction is not the balance of the account.
+     */
+    BALANCE_MISMATCH,
+
+    /**
+     * The history references an account that could not be found.
+     */
+    UNKNOWN_ACCOUNT
+}
@@ -0,0 +1,43 @@
+package com.bank.kata.model;
+
+/**
+ * Enum representing the width of the time buckets of activity rollups.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public enum Granularity {
+
+    /**
+     * One bucket per minute.
+     */
+    MINUTE(60),
+
+    /**
+     * One bucket per hour.
+     */
+    HOUR(3_600),
+
+    /**
+     * One bucket per day.
+     */
+    DAY(86_400);
+
+    /**
+     * Width of a bucket, in seconds.
+     */
+    private final long seconds;
+
+    Granularity(long seconds) {
+        this.seconds = seconds;
+    }
+
+    /**
+     * Retrieves the width of a bucket.
+     *
+     * @return the width of a bucket, in seconds.
+     */
+    public long getSeconds() {
+        return seconds;
+    }
+}
@@ -0,0 +1,62 @@
+package com.bank.kata.model;
+
+/**
+ * Represents the result of a non-throwing account operation.
+ *
+ * <p>An operation result pairs the {@link OperationStatus} of a deposit or
+ * withdrawal with the account balance once the operation has been evaluated.
+ * When the operation is rejected, the balance is the unchanged current balance.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class OperationResult {
+
+    /**
+     * The outcome of the operation.
+     */
+    private final OperationStatus status;
+
+    /**
+     * The account balance after the operation was evaluated.
+     */
+    private final double balance;
+
+    /**
+     * Creates a new OperationResult.
+     *
+     * @param status the outcome of the operation.
+     * @param balance the account balance after the operation was evaluated.
+     */
+    public OperationResult(OperationStatus status, double balance) {
+        this.status = status;
+        this.balance = balance;
+    }
+
+    /**
+     * Retrieves the outcome of the operation.
+     *
+     * @return the status of the operation.
+     */
+    public OperationStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Retrieves the account balance after the operation was evaluated.
+     *
+     * @return the new balance, or the unchanged balance if the operation was rejected.
+     */
+    public double getBalance() {
+        return balance;
+    }
+
+    /**
+     * Indicates whether the operation was applied.
+     *
+     * @return {@code true} if the status is {@link OperationStatus#OK}.
+     */
+    public boolean isSuccessful() {
+        return status == OperationStatus.OK;
+    }
+}
@@ -0,0 +1,43 @@
+package com.bank.kata.model;
+
+/**
+ * Enum representing the outcome of an account operation.
+ *
+ * <p>Each status corresponds to a business rule that can accept or reject
+ * a deposit or a withdrawal. For example:
+ * - OK: The operation was applied and recorded.
+ * - INVALID_AMOUNT: The amount was zero, negative or not a number.
+ * - INSUFFICIENT_FUNDS: The withdrawal exceeds the available balance.
+ * - UNSUPPORTED_CURRENCY: No exchange rate is available for the requested currency.
+ * - DECLINED: The operation was blocked by the risk checks.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public enum OperationStatus {
+
+    /**
+     * The operation was applied to the account.
+     */
+    OK,
+
+    /**
+     * The amount was rejected because it is not strictly positive.
+     */
+    INVALID_AMOUNT,
+
+    /**
+     * The withdrawal was rejected because the balance is too low.
+     */
+    INSUFFICIENT_FUNDS,
+
+    /**
+     * The operation was rejected because its currency cannot be converted.
+     */
+    UNSUPPORTED_CURRENCY,
+
+    /**
+     * The operation was declined by the risk checks run before it is committed.
+     */
+    DECLINED
+}
@@ -0,0 +1,145 @@
+package com.bank.kata.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of a reconciliation over many accounts.
+ *
+ * <p>A reconciliation report counts the accounts and transaction rows checked
+ * and the discrepancies found. To stay compact, it only keeps the first
+ * discrepancies in account order; the counts cover all of them.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class ReconciliationReport {
+
+    /**
+     * Number of accounts checked.
+     */
+    private final long accountsChecked;
+
+    /**
+     * Number of transaction rows checked.
+     */
+    private final long rowsChecked;
+
+    /**
+     * Number of discrepancies found, including the ones not kept in the report.
+     */
+    private final long discrepancyCount;
+
+    /**
+     * Number of accounts with at least one discrepancy.
+     */
+    private final long accountsWithDiscrepancies;
+
+    /**
+     * The first discrepancies found, in account order.
+     */
+    private final List<Discrepancy> discrepancies;
+
+    /**
+     * Wall-clock duration of the reconciliation, in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new ReconciliationReport.
+     *
+     * @param accountsChecked the number of accounts checked.
+     * @param rowsChecked the number of transaction rows checked.
+     * @param discrepancyCount the total number of discrepancies found.
+     * @param accountsWithDiscrepancies the number of accounts with at least one discrepancy.
+     * @param discrepancies the first discrepancies found.
+     * @param elapsedNanos the duration of the reconciliation, in nanoseconds.
+     */
+    public ReconciliationReport(long accountsChecked, long rowsChecked, long discrepancyCount,
+                                long accountsWithDiscrepancies, List<Discrepancy> discrepancies, long elapsedNanos) {
+        this.accountsChecked = accountsChecked;
+        this.rowsChecked = rowsChecked;
+        this.discrepancyCount = discrepancyCount;
+        this.accountsWithDiscrepancies = accountsWithDiscrepancies;
+        this.discrepancies = Collections.unmodifiableList(discrepancies);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retrieves the number of accounts checked.
+     *
+     * @return the number of accounts checked.
+     */
+    public long getAccountsChecked() {
+        return accountsChecked;
+    }
+
+    /**
+     * Retrieves the number of transaction rows checked.
+     *
+     * @return the number of rows checked.
+     */
+    public long getRowsChecked() {
+        return rowsChecked;
+    }
+
+    /**
+     * Retrieves the number of discrepancies found.
+     *
+     * @return the total number of discrepancies, including the ones not listed.
+     */
+    public long getDiscrepancyCount() {
+        return discrepancyCount;
+    }
+
+    /**
+     * Retrieves the number of inconsistent accounts.
+     *
+     * @return the number of accounts with at least one discrepancy.
+     */
+    public long getAccountsWithDiscrepancies() {
+        return accountsWithDiscrepancies;
+    }
+
+    /**
+     * Retrieves the discrepancies kept in the report.
+     *
+     * @return the first discrepancies found, in account order.
+     */
+    public List<Discrepancy> getDiscrepancies() {
+        return discrepancies;
+    }
+
+    /**
+     * Retrieves the wall-clock duration of the reconciliation.
+     *
+     * @return the duration, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Tells whether every invariant holds.
+     *
+     * @return true if no discrepancy was found.
+     */
+    public boolean isClean() {
+        return discrepancyCount == 0;
+    }
+
+    /**
+     * Returns the throughput of the reconciliation.
+     *
+     * @return the number of rows checked per second.
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rowsChecked * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d accounts, %d rows, %d discrepancies in %d accounts, %.0f rows/s",
+                accountsChecked, rowsChecked, discrepancyCount, accountsWithDiscrepancies, getRowsPerSecond());
+    }
+}
@@ -0,0 +1,106 @@
+package com.bank.kata.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The moment at which accounts are reconstructed by a replay.
+ *
+ * <p>A point is either a feed sequence number, in which case every event up to and
+ * including that sequence number is replayed, or a date, in which case every
+ * transaction dated at or before it is replayed.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class ReplayPoint {
+
+    /**
+     * Last sequence number replayed, or {@link Long#MAX_VALUE} for a date point.
+     */
+    private final long sequence;
+
+    /**
+     * Last date replayed, or null for a sequence point.
+     */
+    private final LocalDateTime date;
+
+    private ReplayPoint(long sequence, LocalDateTime date) {
+        this.sequence = sequence;
+        this.date = date;
+    }
+
+    /**
+     * Creates a point that stops after a given feed event.
+     *
+     * @param sequence the sequence number of the last event replayed.
+     * @return the replay point.
+     * @throws IllegalArgumentException if the sequence number is negative.
+     */
+    public static ReplayPoint atSequence(long sequence) {
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence cannot be negative.");
+        }
+        return new ReplayPoint(sequence, null);
+    }
+
+    /**
+     * Creates a point that stops at a given date.
+     *
+     * @param date the date of the last transactions replayed, inclusive.
+     * @return the replay point.
+     * @throws IllegalArgumentException if the date is null.
+     */
+    public static ReplayPoint atDate(LocalDateTime date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null.");
+        }
+        return new ReplayPoint(Long.MAX_VALUE, date);
+    }
+
+    /**
+     * Tells whether an event happened at or before this point.
+     *
+     * @param event the recorded event.
+     * @return true if the event must be replayed.
+     */
+    public boolean includes(TransactionEvent event) {
+        return event.getSequence() <= sequence
+                && (date == null || !event.getTransaction().getDate().isAfter(date));
+    }
+
+    /**
+     * Tells whether an event and every event following it in the feed are past this point.
+     *
+     * <p>Only sequence points can end a replay early: transactions of different accounts
+     * are not recorded in date order across the feed.
+     *
+     * @param event the recorded event.
+     * @return true if the replay can stop.
+     */
+    public boolean ends(TransactionEvent event) {
+        return event.getSequence() > sequence;
+    }
+
+    /**
+     * Retrieves the sequence number of the last event replayed.
+     *
+     * @return the sequence number, or {@link Long#MAX_VALUE} for a date point.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Retrieves the date of the last transactions replayed.
+     *
+     * @return the date, or null for a sequence point.
+     */
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    @Override
+    public String toString() {
+        return date == null ? "sequence " + sequence : date.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package com.bank.kata.model;
+
+/**
+ * An operation that raised at least one risk flag.
+ *
+ * <p>Flags are bits of an int, so that several checks can fire at once:
+ * - AMOUNT_OUTLIER: The amount is far above the account's usual amounts.
+ * - BURST: Too many operations in a short time.
+ * - UNUSUAL_HOUR: The account is rarely active at this hour of the day.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class RiskAlert {
+
+    /**
+     * The amount is more than the allowed number of standard deviations above the mean.
+     */
+    public static final int AMOUNT_OUTLIER = 1;
+
+    /**
+     * The account exceeded the allowed number of operations in the burst window.
+     */
+    public static final int BURST = 1 << 1;
+
+    /**
+     * The account is rarely active at this hour of the day.
+     */
+    public static final int UNUSUAL_HOUR = 1 << 2;
+
+    /**
+     * Identifier of the account.
+     */
+    private final String accountId;
+
+    /**
+     * Type of the operation.
+     */
+    private final TransactionType type;
+
+    /**
+     * Amount of the operation, in the account currency.
+     */
+    private final double amount;
+
+    /**
+     * Flags raised by the operation.
+     */
+    private final int flags;
+
+    /**
+     * Number of standard deviations between the amount and the mean of the account.
+     */
+    private final double zScore;
+
+    /**
+     * Whether the operation was declined, or only flagged.
+     */
+    private final boolean declined;
+
+    /**
+     * Creates a new RiskAlert.
+     *
+     * @param accountId the identifier of the account.
+     * @param type the type of the operation.
+     * @param amount the amount of the operation.
+     * @param flags the flags raised.
+     * @param zScore the distance between the amount and the mean, in standard deviations.
+     * @param declined whether the operation was declined.
+     */
+    public RiskAlert(String accountId, TransactionType type, double amount, int flags, double zScore,
+                     boolean declined) {
+        this.accountId = accountId;
+        this.type = type;
+        this.amount = amount;
+        this.flags = flags;
+        this.zScore = zScore;
+        this.declined = declined;
+    }
+
+    /**
+     * Retrieves the identifier of the account.
+     *
+     * @return the identifier of the account.
+     */
+    public String getAccountId() {
+        return accountId;
+    }
+
+    /**
+     * Retrieves the type of the operation.
+     *
+     * @return the type of the operation.
+     */
+    public TransactionType getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the amount of the operation.
+     *
+     * @return the amount, in the account currency.
+     */
+    public double getAmount() {
+        return amount;
+    }
+
+    /**
+     * Retrieves the flags raised by the operation.
+     *
+     * @return a combination of {@link #AMOUNT_OUTLIER}, {@link #BURST} and {@link #UNUSUAL_HOUR}.
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Tells whether a flag was raised.
+     *
+     * @param flag one of the flag constants.
+     * @return true if the flag was raised.
+     */
+    public boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    /**
+     * Retrieves the distance between the amount and the mean of the account.
+     *
+     * @return the z-score of the amount, or 0 when the account has too little history.
+     */
+    public double getZScore() {
+        return zScore;
+    }
+
+    /**
+     * Tells whether the operation was declined.
+     *
+     * @return true if the operation was declined, false if it was only flagged.
+     */
+    public boolean isDeclined() {
+        return declined;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %.2f flags=%d z=%.1f%s", accountId, type, amount, flags, zScore,
+                declined ? " declined" : "");
+    }
+}
@@ -33,6 +33,21 @@ public class Transaction {
      */
     private final double balanceAfterTransaction;
 
+    /**
+     * The amount as requested, in the original currency of the operation.
+     */
+    private final double originalAmount;
+
+    /**
+     * Interned id of the original currency, or {@link CurrencyRegistry#UNKNOWN}.
+     */
+    private final int originalCurrencyId;
+
+    /**
+     * The exchange rate applied to convert the original amount into the account currency.
+     */
+    private final double exchangeRate;
+
     /**
      * Creates a new Transaction.
      *
@@ -41,10 +56,45 @@ public class Transaction {
      * @param balanceAfterTransaction the balance after the transaction is completed.
      */
     public Transaction(TransactionType type, double amount, double balanceAfterTransaction) {
-        this.date = Transaction.getCurrentDate();
+        this(type, amount, balanceAfterTransaction, amount, CurrencyRegistry.UNKNOWN, 1.0);
+    }
+
+    /**
+     * Creates a new Transaction that records a currency conversion.
+     *
+     * @param type the type of the transaction (e.g., DEPOSIT, WITHDRAWAL).
+     * @param amount the amount involved in the transaction, in the account currency.
+     * @param balanceAfterTransaction the balance after the transaction is completed.
+     * @param originalAmount the amount as requested, in the original currency.
+     * @param originalCurrencyId the interned id of the original currency.
+     * @param exchangeRate the rate applied to convert the original amount.
+     */
+    public Transaction(TransactionType type, double amount, double balanceAfterTransaction,
+                       double originalAmount, int originalCurrencyId, double exchangeRate) {
+        this(Transaction.getCurrentDate(), type, amount, balanceAfterTransaction,
+                originalAmount, originalCurrencyId, exchangeRate);
+    }
+
+    /**
+     * Creates a Transaction that happened at a given date, e.g. when it is restored from storage.
+     *
+     * @param date the timestamp when the transaction was performed.
+     * @param type the type of the transaction (e.g., DEPOSIT, WITHDRAWAL).
+     * @param amount the amount involved in the transaction, in the account currency.
+     * @param balanceAfterTransaction the balance after the transaction is completed.
+     * @param originalAmount the amount as requested, in the original currency.
+     * @param originalCurrencyId the interned id of the original currency, or {@link CurrencyRegistry#UNKNOWN}.
+     * @param exchangeRate the rate applied to convert the original amount.
+     */
+    public Transaction(LocalDateTime date, TransactionType type, double amount, double balanceAfterTransaction,
+                       double originalAmount, int originalCurrencyId, double exchangeRate) {
+        this.date = date;
         this.type = type;
         this.amount = amount;
         this.balanceAfterTransaction = balanceAfterTransaction;
+        this.originalAmount = originalAmount;
+        this.originalCurrencyId = originalCurrencyId;
+        this.exchangeRate = exchangeRate;
     }
 
     /**
@@ -83,6 +133,42 @@ public class Transaction {
         return balanceAfterTransaction;
     }
 
+    /**
+     * Retrieves the amount as requested, before any currency conversion.
+     *
+     * @return the original amount of the transaction.
+     */
+    public double getOriginalAmount() {
+        return originalAmount;
+    }
+
+    /**
+     * Retrieves the interned id of the original currency.
+     *
+     * @return the original currency id, or {@link CurrencyRegistry#UNKNOWN}.
+     */
+    public int getOriginalCurrencyId() {
+        return originalCurrencyId;
+    }
+
+    /**
+     * Retrieves the code of the original currency.
+     *
+     * @return the original currency code, or {@code null} if it was not recorded.
+     */
+    public String getOriginalCurrency() {
+        return CurrencyRegistry.codeOf(originalCurrencyId);
+    }
+
+    /**
+     * Retrieves the exchange rate applied to the original amount.
+     *
+     * @return the exchange rate, 1.0 when no conversion took place.
+     */
+    public double getExchangeRate() {
+        return exchangeRate;
+    }
+
     public static LocalDateTime getCurrentDate() {
         return LocalDateTime.now();
     }
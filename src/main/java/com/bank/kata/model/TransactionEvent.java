@@ -0,0 +1,69 @@
+package com.bank.kata.model;
+
+/**
+ * Represents a transaction published on the change feed.
+ *
+ * <p>A transaction event wraps a recorded {@link Transaction} with the
+ * identifier of its account and a global, strictly increasing sequence
+ * number that consumers use as their position in the feed.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class TransactionEvent {
+
+    /**
+     * Position of the event in the feed, starting at 0.
+     */
+    private final long sequence;
+
+    /**
+     * Identifier of the account on which the transaction was recorded.
+     */
+    private final String accountId;
+
+    /**
+     * The recorded transaction.
+     */
+    private final Transaction transaction;
+
+    /**
+     * Creates a new TransactionEvent.
+     *
+     * @param sequence the position of the event in the feed.
+     * @param accountId the identifier of the account.
+     * @param transaction the recorded transaction.
+     */
+    public TransactionEvent(long sequence, String accountId, Transaction transaction) {
+        this.sequence = sequence;
+        this.accountId = accountId;
+        this.transaction = transaction;
+    }
+
+    /**
+     * Retrieves the position of the event in the feed.
+     *
+     * @return the sequence number of the event.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Retrieves the identifier of the account on which the transaction was recorded.
+     *
+     * @return the account identifier.
+     */
+    public String getAccountId() {
+        return accountId;
+    }
+
+    /**
+     * Retrieves the recorded transaction.
+     *
+     * @return the transaction carried by the event.
+     */
+    public Transaction getTransaction() {
+        return transaction;
+    }
+}
@@ -0,0 +1,91 @@
+package com.bank.kata.repository;
+
+import com.bank.kata.model.Account;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps track of the accounts known to the bank.
+ *
+ * <p>The repository lets front-ends and batch jobs find an account by its
+ * identifier instead of holding on to the {@link Account} objects themselves.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link AccountRepositoryImpl}: In-memory, thread-safe implementation.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface AccountRepository {
+
+    /**
+     * Stores an account, replacing any account with the same identifier.
+     *
+     * @param account the account to store.
+     * @return the stored account.
+     * @throws IllegalArgumentException if the account is null.
+     */
+    Account save(Account account);
+
+    /**
+     * Finds an account by its identifier.
+     *
+     * @param accountId the identifier of the account.
+     * @return the account, or an empty optional if it is unknown.
+     */
+    Optional<Account> findById(String accountId);
+
+    /**
+     * Returns every stored account.
+     *
+     * @return an unmodifiable view of the accounts.
+     */
+    Collection<Account> findAll();
+
+    /**
+     * Finds the accounts of an owner.
+     *
+     * <p>Owner names are compared case-insensitively.
+     *
+     * @param ownerName the name of the account holder.
+     * @return the accounts of the owner, in the order they were first saved.
+     */
+    List<Account> findByOwnerName(String ownerName);
+
+    /**
+     * Finds the accounts whose owner name starts with a prefix.
+     *
+     * <p>Owner names are compared case-insensitively and results are ordered by owner name.
+     *
+     * @param prefix the beginning of the owner name.
+     * @param limit the maximum number of accounts to return.
+     * @return the matching accounts, at most {@code limit} of them.
+     */
+    List<Account> findByOwnerNamePrefix(String prefix, int limit);
+
+    /**
+     * Finds the accounts held in a currency.
+     *
+     * @param currency the currency code (e.g., "EUR").
+     * @param limit the maximum number of accounts to return.
+     * @return the matching accounts, at most {@code limit} of them, in the order they were first saved.
+     */
+    List<Account> findByCurrency(String currency, int limit);
+
+    /**
+     * Counts the accounts held in a currency.
+     *
+     * @param currency the currency code (e.g., "EUR").
+     * @return the number of accounts in that currency.
+     */
+    long countByCurrency(String currency);
+
+    /**
+     * Returns the number of stored accounts.
+     *
+     * @return the number of accounts.
+     */
+    int count();
+}
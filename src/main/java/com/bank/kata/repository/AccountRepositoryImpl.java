@@ -0,0 +1,267 @@
+package com.bank.kata.repository;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.CurrencyRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementation of the AccountRepository interface.
+ *
+ * <p>Accounts are kept in memory in a concurrent map keyed by account
+ * identifier, so lookups by identifier never lock. Each account also gets a
+ * dense ordinal the first time it is saved, and two secondary indexes refer to
+ * accounts by ordinal:
+ * <ul>
+ *     <li>owner name (lower case) to a sorted array of ordinals, in a sorted map for prefix search;</li>
+ *     <li>currency id to a {@link CompressedBitmap} of ordinals.</li>
+ * </ul>
+ * The indexes are guarded by a read-write lock: saves update them under the
+ * write lock, and lookups share the read lock.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountRepositoryImpl implements AccountRepository {
+
+    private static final int[] NO_ORDINALS = new int[0];
+
+    /**
+     * Stored accounts, by identifier.
+     */
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * Lock guarding the ordinals and the secondary indexes.
+     */
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+
+    /**
+     * Accounts, by ordinal.
+     */
+    private final List<Account> accountsByOrdinal = new ArrayList<>();
+
+    /**
+     * Ordinals, by account identifier.
+     */
+    private final Map<String, Integer> ordinals = new HashMap<>();
+
+    /**
+     * Secondary index from lower-case owner name to ordinals.
+     */
+    private final NavigableMap<String, int[]> ownerIndex = new TreeMap<>();
+
+    /**
+     * Secondary index from currency id to ordinals.
+     */
+    private final Map<Integer, CompressedBitmap> currencyIndex = new HashMap<>();
+
+    @Override
+    public Account save(Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("Account cannot be null.");
+        }
+        indexLock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(account.getAccountId());
+            if (ordinal == null) {
+                ordinal = accountsByOrdinal.size();
+                accountsByOrdinal.add(account);
+                ordinals.put(account.getAccountId(), ordinal);
+            } else {
+                unindex(accountsByOrdinal.get(ordinal), ordinal);
+                accountsByOrdinal.set(ordinal, account);
+            }
+            index(account, ordinal);
+            accounts.put(account.getAccountId(), account);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+        return account;
+    }
+
+    @Override
+    public Optional<Account> findById(String accountId) {
+        return accountId == null ? Optional.empty() : Optional.ofNullable(accounts.get(accountId));
+    }
+
+    @Override
+    public Collection<Account> findAll() {
+        return Collections.unmodifiableCollection(accounts.values());
+    }
+
+    @Override
+    public List<Account> findByOwnerName(String ownerName) {
+        if (ownerName == null) {
+            return List.of();
+        }
+        indexLock.readLock().lock();
+        try {
+            return resolve(ownerIndex.getOrDefault(normalize(ownerName), NO_ORDINALS), Integer.MAX_VALUE,
+                    new ArrayList<>());
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Account> findByOwnerNamePrefix(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return List.of();
+        }
+        String from = normalize(prefix);
+        indexLock.readLock().lock();
+        try {
+            List<Account> result = new ArrayList<>();
+            // Every key starting with the prefix sorts before the prefix followed by the highest char
+            for (int[] owned : ownerIndex.subMap(from, true, from + Character.MAX_VALUE, false).values()) {
+                resolve(owned, limit, result);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Account> findByCurrency(String currency, int limit) {
+        if (currency == null || currency.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        // Look the code up without registering it; a currency nobody registered has no accounts
+        int currencyId = CurrencyRegistry.find(currency);
+        if (currencyId == CurrencyRegistry.UNKNOWN) {
+            return List.of();
+        }
+        indexLock.readLock().lock();
+        try {
+            CompressedBitmap bitmap = currencyIndex.get(currencyId);
+            if (bitmap == null) {
+                return List.of();
+            }
+            List<Account> result = new ArrayList<>((int) Math.min(limit, bitmap.cardinality()));
+            bitmap.forEach(ordinal -> {
+                result.add(accountsByOrdinal.get(ordinal));
+                return result.size() < limit;
+            });
+            return result;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long countByCurrency(String currency) {
+        if (currency == null || currency.isBlank()) {
+            return 0L;
+        }
+        // Look the code up without registering it; a currency nobody registered has no accounts
+        int currencyId = CurrencyRegistry.find(currency);
+        if (currencyId == CurrencyRegistry.UNKNOWN) {
+            return 0L;
+        }
+        indexLock.readLock().lock();
+        try {
+            CompressedBitmap bitmap = currencyIndex.get(currencyId);
+            return bitmap == null ? 0L : bitmap.cardinality();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        return accounts.size();
+    }
+
+    /**
+     * Estimates the heap used by the ordinals and the secondary indexes.
+     *
+     * <p>The estimate counts the index structures themselves, not the accounts
+     * nor the strings they already hold.
+     *
+     * @return an estimate in bytes.
+     */
+    public long estimateIndexMemoryBytes() {
+        indexLock.readLock().lock();
+        try {
+            // Ordinal list slot, plus a hash map entry and a boxed Integer per account
+            long bytes = accountsByOrdinal.size() * (8L + 48L + 16L);
+            for (Map.Entry<String, int[]> entry : ownerIndex.entrySet()) {
+                // Tree map entry, lower-case key and ordinal array
+                bytes += 40L + 40L + 2L * entry.getKey().length() + 16L + 4L * entry.getValue().length;
+            }
+            for (CompressedBitmap bitmap : currencyIndex.values()) {
+                bytes += 48L + bitmap.estimateMemoryBytes();
+            }
+            return bytes;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private List<Account> resolve(int[] owned, int limit, List<Account> result) {
+        for (int i = 0; i < owned.length && result.size() < limit; i++) {
+            result.add(accountsByOrdinal.get(owned[i]));
+        }
+        return result;
+    }
+
+    private void index(Account account, int ordinal) {
+        if (account.getOwnerName() != null) {
+            String owner = normalize(account.getOwnerName());
+            int[] owned = ownerIndex.getOrDefault(owner, NO_ORDINALS);
+            int position = -Arrays.binarySearch(owned, ordinal) - 1;
+            if (position >= 0) {
+                int[] updated = new int[owned.length + 1];
+                System.arraycopy(owned, 0, updated, 0, position);
+                updated[position] = ordinal;
+                System.arraycopy(owned, position, updated, position + 1, owned.length - position);
+                ownerIndex.put(owner, updated);
+            }
+        }
+        currencyIndex.computeIfAbsent(account.getCurrencyId(), id -> new CompressedBitmap()).add(ordinal);
+    }
+
+    private void unindex(Account account, int ordinal) {
+        if (account.getOwnerName() != null) {
+            String owner = normalize(account.getOwnerName());
+            int[] owned = ownerIndex.getOrDefault(owner, NO_ORDINALS);
+            int position = Arrays.binarySearch(owned, ordinal);
+            if (position >= 0) {
+                if (owned.length == 1) {
+                    ownerIndex.remove(owner);
+                } else {
+                    int[] updated = new int[owned.length - 1];
+                    System.arraycopy(owned, 0, updated, 0, position);
+                    System.arraycopy(owned, position + 1, updated, position, owned.length - position - 1);
+                    ownerIndex.put(owner, updated);
+                }
+            }
+        }
+        CompressedBitmap bitmap = currencyIndex.get(account.getCurrencyId());
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+        }
+    }
+
+    private static String normalize(String ownerName) {
+        return ownerName.toLowerCase(Locale.ROOT);
+    }
+}
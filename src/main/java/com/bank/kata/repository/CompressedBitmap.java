@@ -0,0 +1,236 @@
+package com.bank.kata.repository;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Compressed set of non-negative integers, in the spirit of Roaring bitmaps.
+ *
+ * <p>Values are grouped by their upper 16 bits into containers of 65536
+ * values. A sparse container is a sorted array of 16-bit values; once it holds
+ * more than {@value #ARRAY_LIMIT} values it turns into a plain 8 KB bitmap,
+ * which is smaller from that point on. Empty containers are not allocated.
+ *
+ * <p>This class is not thread-safe; callers guard it with their own lock.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class CompressedBitmap {
+
+    /**
+     * Largest cardinality of an array container.
+     */
+    static final int ARRAY_LIMIT = 4096;
+
+    private static final int BITMAP_WORDS = 1024;
+
+    /**
+     * Array containers, by upper 16 bits; {@code null} when the container is a bitmap or empty.
+     */
+    private char[][] arrays = new char[0][];
+
+    /**
+     * Bitmap containers, by upper 16 bits; {@code null} when the container is an array or empty.
+     */
+    private long[][] bitmaps = new long[0][];
+
+    /**
+     * Cardinality of each container.
+     */
+    private int[] cardinalities = new int[0];
+
+    private long cardinality;
+
+    /**
+     * Adds a value.
+     *
+     * @param value a non-negative integer.
+     * @return {@code true} if the value was not already present.
+     */
+    public boolean add(int value) {
+        int key = value >>> 16;
+        char low = (char) value;
+        ensureKey(key);
+        if (bitmaps[key] != null) {
+            long[] words = bitmaps[key];
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                return false;
+            }
+            words[low >>> 6] |= bit;
+        } else {
+            char[] values = arrays[key] == null ? new char[4] : arrays[key];
+            int size = cardinalities[key];
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return false;
+            }
+            if (size == ARRAY_LIMIT) {
+                bitmaps[key] = toBitmap(values, size);
+                arrays[key] = null;
+                bitmaps[key][low >>> 6] |= 1L << low;
+            } else {
+                index = -index - 1;
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, size * 2));
+                }
+                System.arraycopy(values, index, values, index + 1, size - index);
+                values[index] = low;
+                arrays[key] = values;
+            }
+        }
+        cardinalities[key]++;
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param value a non-negative integer.
+     * @return {@code true} if the value was present.
+     */
+    public boolean remove(int value) {
+        int key = value >>> 16;
+        if (key >= cardinalities.length || cardinalities[key] == 0) {
+            return false;
+        }
+        char low = (char) value;
+        if (bitmaps[key] != null) {
+            long[] words = bitmaps[key];
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                return false;
+            }
+            words[low >>> 6] &= ~bit;
+            if (cardinalities[key] - 1 <= ARRAY_LIMIT / 2) {
+                // Shrink back to an array, with hysteresis to avoid flapping
+                arrays[key] = toArray(words, cardinalities[key] - 1);
+                bitmaps[key] = null;
+            }
+        } else {
+            char[] values = arrays[key];
+            int size = cardinalities[key];
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            if (size == 1) {
+                arrays[key] = null;
+            }
+        }
+        cardinalities[key]--;
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * Tells whether a value is present.
+     *
+     * @param value a non-negative integer.
+     * @return {@code true} if the value is present.
+     */
+    public boolean contains(int value) {
+        int key = value >>> 16;
+        if (key >= cardinalities.length || cardinalities[key] == 0) {
+            return false;
+        }
+        char low = (char) value;
+        if (bitmaps[key] != null) {
+            return (bitmaps[key][low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch(arrays[key], 0, cardinalities[key], low) >= 0;
+    }
+
+    /**
+     * Returns the number of values in the set.
+     *
+     * @return the cardinality of the set.
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Visits the values in ascending order until the visitor returns {@code false}.
+     *
+     * @param visitor receives each value and returns whether to continue.
+     */
+    public void forEach(IntPredicate visitor) {
+        for (int key = 0; key < cardinalities.length; key++) {
+            if (cardinalities[key] == 0) {
+                continue;
+            }
+            int high = key << 16;
+            if (bitmaps[key] != null) {
+                long[] words = bitmaps[key];
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        int bit = Long.numberOfTrailingZeros(word);
+                        if (!visitor.test(high | (w << 6) | bit)) {
+                            return;
+                        }
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                char[] values = arrays[key];
+                for (int i = 0; i < cardinalities[key]; i++) {
+                    if (!visitor.test(high | values[i])) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Estimates the heap used by the set, including its container directory.
+     *
+     * @return an estimate in bytes.
+     */
+    public long estimateMemoryBytes() {
+        long bytes = 16L + 3 * (16L + 8L * cardinalities.length);
+        for (int key = 0; key < cardinalities.length; key++) {
+            if (bitmaps[key] != null) {
+                bytes += 16L + 8L * BITMAP_WORDS;
+            } else if (arrays[key] != null) {
+                bytes += 16L + 2L * arrays[key].length;
+            }
+        }
+        return bytes;
+    }
+
+    private void ensureKey(int key) {
+        if (key >= cardinalities.length) {
+            int length = Math.max(key + 1, cardinalities.length * 2);
+            arrays = Arrays.copyOf(arrays, length);
+            bitmaps = Arrays.copyOf(bitmaps, length);
+            cardinalities = Arrays.copyOf(cardinalities, length);
+        }
+    }
+
+    private static long[] toBitmap(char[] values, int size) {
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < size; i++) {
+            words[values[i] >>> 6] |= 1L << values[i];
+        }
+        return words;
+    }
+
+    private static char[] toArray(long[] words, int size) {
+        char[] values = new char[Math.max(4, size)];
+        int index = 0;
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                values[index++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,273 @@
+package com.bank.kata.server;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.CurrencyRegistry;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.TransactionFormatterService;
+import com.bank.kata.service.TransactionService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP/JSON front-end for the bank services, built on the JDK HTTP server.
+ *
+ * <p>Endpoints:
+ * <ul>
+ *     <li>{@code POST /accounts} with {@code {"ownerName": "...", "currency": "EUR"}}: opens an account.</li>
+ *     <li>{@code GET /accounts/{id}}: returns the account.</li>
+ *     <li>{@code POST /accounts/{id}/deposit} with {@code {"amount": 100.0, "currency": "USD"}}: deposits;
+ *         the currency is optional.</li>
+ *     <li>{@code POST /accounts/{id}/withdraw}: withdraws, with the same body.</li>
+ *     <li>{@code GET /accounts/{id}/history}: returns the transactions as a JSON array.</li>
+ *     <li>{@code GET /accounts/{id}/statement}: returns the plain-text statement.</li>
+ * </ul>
+ *
+ * <p>Deposits and withdrawals answer {@code 200} with the new balance, or
+ * {@code 422} with the rejection status. Request bodies larger than
+ * {@value #MAX_BODY_BYTES} bytes are refused with {@code 413}. Each request is handled on its own
+ * virtual thread when the runtime provides them (Java 21 and later), and on a
+ * bounded pool of platform threads otherwise.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BankHttpServer {
+
+    /**
+     * Number of platform threads used when virtual threads are not available.
+     */
+    private static final int FALLBACK_THREADS = 256;
+
+    /**
+     * Largest request body accepted, in bytes; larger ones are answered with {@code 413}.
+     */
+    static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final TransactionService transactionService;
+    private final TransactionFormatterService formatterService;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a server bound to the given port; it does not accept requests until started.
+     *
+     * @param port the port to listen on, or 0 for an ephemeral port.
+     * @param accountRepository the repository holding the accounts.
+     * @param accountService the service performing deposits and withdrawals.
+     * @param transactionService the service returning transaction histories.
+     * @param formatterService the service rendering statements.
+     * @throws IOException if the port cannot be bound.
+     */
+    public BankHttpServer(int port, AccountRepository accountRepository, AccountService accountService,
+                          TransactionService transactionService, TransactionFormatterService formatterService)
+            throws IOException {
+        this.accountRepository = accountRepository;
+        this.accountService = accountService;
+        this.transactionService = transactionService;
+        this.formatterService = formatterService;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.executor = newRequestExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/accounts", this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and releases the request threads.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     *
+     * @return the local port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns whether requests run on virtual threads.
+     *
+     * @return {@code true} on Java 21 and later.
+     */
+    public static boolean usesVirtualThreads() {
+        return virtualThreadFactory() != null;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (BodyTooLargeException e) {
+            send(exchange, 413, JsonEncoder.error(new StringBuilder(), e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, JsonEncoder.error(new StringBuilder(), e.getMessage()));
+        } catch (RuntimeException e) {
+            send(exchange, 500, JsonEncoder.error(new StringBuilder(), "Internal error."));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] segments = exchange.getRequestURI().getPath().split("/");
+        // segments[0] is empty and segments[1] is "accounts"
+        if (segments.length == 2 && "POST".equals(method)) {
+            Map<String, String> body = JsonObjectReader.parse(readBody(exchange));
+            String currency = required(body, "currency");
+            // Opening an account registers its currency for good, so only well-formed codes get that far
+            if (!CurrencyRegistry.isWellFormed(currency)) {
+                throw new IllegalArgumentException("Currency code must be made of three letters.");
+            }
+            Account account = accountRepository.save(new Account(body.get("ownerName"), currency));
+            send(exchange, 201, JsonEncoder.encode(new StringBuilder(), account));
+            return;
+        }
+        if (segments.length < 3 || segments.length > 4) {
+            send(exchange, 404, JsonEncoder.error(new StringBuilder(), "Not found."));
+            return;
+        }
+        Optional<Account> found = accountRepository.findById(segments[2]);
+        if (found.isEmpty()) {
+            send(exchange, 404, JsonEncoder.error(new StringBuilder(), "Account not found."));
+            return;
+        }
+        Account account = found.get();
+        String action = segments.length == 4 ? segments[3] : "";
+        switch (method + " " + action) {
+            case "GET ":
+                StringBuilder json = new StringBuilder();
+                // Read the balance and the transaction count together, as deposits update them under the lock
+                synchronized (account) {
+                    JsonEncoder.encode(json, account);
+                }
+                send(exchange, 200, json);
+                break;
+            case "GET history":
+                // Copy the history under the account lock, as other requests append to it concurrently
+                List<Transaction> history;
+                synchronized (account) {
+                    history = new ArrayList<>(transactionService.getTransactionHistory(account));
+                }
+                send(exchange, 200, JsonEncoder.encode(new StringBuilder(), history));
+                break;
+            case "GET statement":
+                // The formatter reads the history under the account lock itself
+                sendText(exchange, formatterService.format(account));
+                break;
+            case "POST deposit":
+            case "POST withdraw":
+                Map<String, String> body = JsonObjectReader.parse(readBody(exchange));
+                double amount = Double.parseDouble(required(body, "amount"));
+                String currency = body.get("currency");
+                boolean deposit = "deposit".equals(action);
+                OperationResult result;
+                if (currency == null) {
+                    result = deposit ? accountService.tryDeposit(account, amount) : accountService.tryWithdraw(account, amount);
+                } else {
+                    result = deposit ? accountService.tryDeposit(account, amount, currency)
+                            : accountService.tryWithdraw(account, amount, currency);
+                }
+                send(exchange, result.isSuccessful() ? 200 : 422, JsonEncoder.encode(new StringBuilder(), result));
+                break;
+            default:
+                send(exchange, 404, JsonEncoder.error(new StringBuilder(), "Not found."));
+        }
+    }
+
+    private static String required(Map<String, String> body, String name) {
+        String value = body.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing field: " + name);
+        }
+        return value;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            // Read one byte past the limit to tell a full body from a truncated one
+            byte[] body = input.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new BodyTooLargeException();
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        write(exchange, status, json);
+    }
+
+    private static void sendText(HttpExchange exchange, String text) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        write(exchange, 200, text);
+    }
+
+    private static void write(HttpExchange exchange, int status, CharSequence body) throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static ExecutorService newRequestExecutor() {
+        Method factory = virtualThreadFactory();
+        if (factory != null) {
+            try {
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Fall back to platform threads below
+            }
+        }
+        return Executors.newFixedThreadPool(FALLBACK_THREADS);
+    }
+
+    private static Method virtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Thrown when a request body exceeds {@link #MAX_BODY_BYTES}.
+     */
+    private static final class BodyTooLargeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private BodyTooLargeException() {
+            super("Request body too large.");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bank.kata.server;
+
+/**
+ * Constants of the compact binary wire protocol.
+ *
+ * <p>Every message is a frame made of a 4-byte big-endian length followed by
+ * that many bytes. Requests:
+ * <pre>
+ * BIND     : opcode(1) requestId(8) idLength(2) accountId(idLength, US-ASCII)
+ * DEPOSIT  : opcode(1) requestId(8) handle(4) amount(8, IEEE 754 double)
+ * WITHDRAW : opcode(1) requestId(8) handle(4) amount(8, IEEE 754 double)
+ * BALANCE  : opcode(1) requestId(8) handle(4)
+ * </pre>
+ * Every request is answered by one fixed-size response, in request order:
+ * <pre>
+ * RESPONSE : status(1) requestId(8) handle(4) balance(8)
+ * </pre>
+ * A client first binds an account identifier to a small integer handle,
+ * then uses that handle for every operation. Clients may pipeline any number
+ * of requests without waiting for responses.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class BinaryProtocol {
+
+    public static final byte OP_BIND = 1;
+    public static final byte OP_DEPOSIT = 2;
+    public static final byte OP_WITHDRAW = 3;
+    public static final byte OP_BALANCE = 4;
+
+    /**
+     * Status codes 0 to 99 are the ordinals of {@link com.bank.kata.model.OperationStatus}.
+     */
+    public static final byte STATUS_UNKNOWN_ACCOUNT = 100;
+    public static final byte STATUS_BAD_REQUEST = 101;
+
+    /**
+     * Size of the length prefix of every frame.
+     */
+    public static final int LENGTH_SIZE = 4;
+
+    /**
+     * Size of a response frame body.
+     */
+    public static final int RESPONSE_SIZE = 1 + 8 + 4 + 8;
+
+    /**
+     * Size of a deposit or withdraw request frame body.
+     */
+    public static final int OPERATION_SIZE = 1 + 8 + 4 + 8;
+
+    /**
+     * Largest accepted frame body.
+     */
+    public static final int MAX_FRAME_SIZE = 1024;
+
+    private BinaryProtocol() {
+    }
+}
@@ -0,0 +1,168 @@
+package com.bank.kata.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Blocking client for the {@link BinaryProtocol}.
+ *
+ * <p>Requests are appended to a direct output buffer and only sent on
+ * {@link #flush()} (or when the buffer is full), so that many requests can be
+ * pipelined in a single write. Responses are delivered, in request order, to a
+ * {@link ResponseListener} without allocating. A client is not thread-safe.
+ *
+ * <p>The server stops reading from a client whose responses pile up, so a
+ * caller should bound the number of requests in flight (a few thousand at
+ * most) and receive their responses before sending more.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BinaryProtocolClient implements Closeable {
+
+    /**
+     * Receives responses decoded by {@link #receive(ResponseListener, int)}.
+     */
+    public interface ResponseListener {
+
+        /**
+         * Called for each response.
+         *
+         * @param requestId the identifier of the request being answered.
+         * @param status the ordinal of the operation status, or a {@code STATUS_*} code of {@link BinaryProtocol}.
+         * @param handle the account handle.
+         * @param balance the balance of the account after the request.
+         */
+        void onResponse(long requestId, int status, int handle, double balance);
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Connects to a server.
+     *
+     * @param host the host of the server.
+     * @param port the port of the server.
+     * @throws IOException if the connection fails.
+     */
+    public BinaryProtocolClient(String host, int port) throws IOException {
+        this.channel = SocketChannel.open(new InetSocketAddress(host, port));
+        this.channel.socket().setTcpNoDelay(true);
+        this.in.flip();
+    }
+
+    /**
+     * Queues a request binding an account identifier to a handle.
+     *
+     * @param requestId the identifier echoed in the response.
+     * @param accountId the identifier of the account.
+     * @throws IOException if the buffer had to be flushed and the write failed.
+     */
+    public void sendBind(long requestId, String accountId) throws IOException {
+        byte[] id = accountId.getBytes(StandardCharsets.US_ASCII);
+        ensureCapacity(BinaryProtocol.LENGTH_SIZE + 11 + id.length);
+        out.putInt(11 + id.length).put(BinaryProtocol.OP_BIND).putLong(requestId)
+                .putShort((short) id.length).put(id);
+    }
+
+    /**
+     * Queues a deposit.
+     *
+     * @param requestId the identifier echoed in the response.
+     * @param handle the handle of the account.
+     * @param amount the amount to deposit.
+     * @throws IOException if the buffer had to be flushed and the write failed.
+     */
+    public void sendDeposit(long requestId, int handle, double amount) throws IOException {
+        sendOperation(BinaryProtocol.OP_DEPOSIT, requestId, handle, amount);
+    }
+
+    /**
+     * Queues a withdrawal.
+     *
+     * @param requestId the identifier echoed in the response.
+     * @param handle the handle of the account.
+     * @param amount the amount to withdraw.
+     * @throws IOException if the buffer had to be flushed and the write failed.
+     */
+    public void sendWithdraw(long requestId, int handle, double amount) throws IOException {
+        sendOperation(BinaryProtocol.OP_WITHDRAW, requestId, handle, amount);
+    }
+
+    /**
+     * Queues a balance query.
+     *
+     * @param requestId the identifier echoed in the response.
+     * @param handle the handle of the account.
+     * @throws IOException if the buffer had to be flushed and the write failed.
+     */
+    public void sendBalance(long requestId, int handle) throws IOException {
+        ensureCapacity(BinaryProtocol.LENGTH_SIZE + 13);
+        out.putInt(13).put(BinaryProtocol.OP_BALANCE).putLong(requestId).putInt(handle);
+    }
+
+    /**
+     * Sends every queued request.
+     *
+     * @throws IOException if the write fails.
+     */
+    public void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * Flushes queued requests, then blocks until the given number of responses has been received.
+     *
+     * @param listener the listener receiving the responses.
+     * @param count the number of responses to wait for.
+     * @throws IOException if the connection fails.
+     */
+    public void receive(ResponseListener listener, int count) throws IOException {
+        flush();
+        int frame = BinaryProtocol.LENGTH_SIZE + BinaryProtocol.RESPONSE_SIZE;
+        for (int received = 0; received < count; received++) {
+            while (in.remaining() < frame) {
+                in.compact();
+                int read = channel.read(in);
+                in.flip();
+                if (read < 0) {
+                    throw new IOException("Connection closed by server.");
+                }
+            }
+            in.getInt();
+            byte status = in.get();
+            long requestId = in.getLong();
+            int handle = in.getInt();
+            double balance = in.getDouble();
+            listener.onResponse(requestId, status & 0xFF, handle, balance);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void sendOperation(byte opcode, long requestId, int handle, double amount) throws IOException {
+        ensureCapacity(BinaryProtocol.LENGTH_SIZE + BinaryProtocol.OPERATION_SIZE);
+        out.putInt(BinaryProtocol.OPERATION_SIZE).put(opcode).putLong(requestId).putInt(handle).putDouble(amount);
+    }
+
+    private void ensureCapacity(int size) throws IOException {
+        if (out.remaining() < size) {
+            flush();
+        }
+    }
+}
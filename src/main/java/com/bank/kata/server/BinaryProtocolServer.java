@@ -0,0 +1,324 @@
+package com.bank.kata.server;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.service.AccountService;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Non-blocking server for the {@link BinaryProtocol}, built on a single NIO selector.
+ *
+ * <p>One selector thread accepts connections, reads requests and writes
+ * responses. Each connection owns a pair of direct buffers allocated once:
+ * every complete frame in the read buffer is processed in turn, its response
+ * is appended to the write buffer, and the write buffer is flushed once per
+ * read, so pipelined requests are acknowledged in batches. When more requests
+ * are pending than the write buffer can answer, the server alternates between
+ * processing and writing until the read buffer is empty or a write is partial. When a client does
+ * not read its responses and the write buffer fills up, the server stops
+ * reading from that client until the buffer drains.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BinaryProtocolServer implements Runnable {
+
+    /**
+     * Size of the read and write buffers of each connection.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+
+    /**
+     * Bound accounts, by handle. Only touched by the selector thread.
+     */
+    private final List<Account> handles = new ArrayList<>();
+
+    /**
+     * Handles, by account identifier. Only touched by the selector thread.
+     */
+    private final Map<String, Integer> handlesByAccountId = new HashMap<>();
+
+    private volatile Thread selectorThread;
+
+    /**
+     * Creates a server bound to the given port; it does not accept connections until started.
+     *
+     * @param port the port to listen on, or 0 for an ephemeral port.
+     * @param accountRepository the repository used to bind account identifiers.
+     * @param accountService the service performing deposits and withdrawals.
+     * @throws IOException if the port cannot be bound.
+     */
+    public BinaryProtocolServer(int port, AccountRepository accountRepository, AccountService accountService)
+            throws IOException {
+        this.accountRepository = accountRepository;
+        this.accountService = accountService;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(port));
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Starts the selector thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this, "binary-protocol-selector");
+        thread.setDaemon(true);
+        selectorThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Closes every connection and stops the selector thread.
+     */
+    public void stop() {
+        try {
+            selector.close();
+            serverChannel.close();
+            Thread thread = selectorThread;
+            if (thread != null) {
+                thread.join(1_000);
+            }
+        } catch (IOException e) {
+            // Nothing left to release
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     *
+     * @return the local port.
+     * @throws IOException if the address cannot be read.
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isWritable()) {
+                                connection.flush(key);
+                            }
+                            if (key.isValid() && key.isReadable()) {
+                                connection.read(key);
+                            }
+                        }
+                    } catch (IOException | CancelledKeyException e) {
+                        close(key);
+                    }
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            // The server was stopped
+        } catch (IOException e) {
+            throw new IllegalStateException("Binary protocol server failed.", e);
+        } finally {
+            for (SelectionKey key : selectorKeys()) {
+                close(key);
+            }
+        }
+    }
+
+    private Iterable<SelectionKey> selectorKeys() {
+        try {
+            return new ArrayList<>(selector.keys());
+        } catch (ClosedSelectorException e) {
+            return List.of();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+    }
+
+    private static void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+
+    /**
+     * Decodes one request from the read buffer and appends its response to the write buffer.
+     *
+     * @param in the read buffer, positioned at the start of the request body.
+     * @param length the length of the request body.
+     * @param out the write buffer.
+     */
+    private void process(ByteBuffer in, int length, ByteBuffer out) {
+        int end = in.position() + length;
+        byte opcode = length >= 9 ? in.get() : 0;
+        long requestId = length >= 9 ? in.getLong() : 0L;
+        int handle = -1;
+        byte status = BinaryProtocol.STATUS_BAD_REQUEST;
+        double balance = 0.0;
+
+        if (opcode == BinaryProtocol.OP_BIND && length >= 11) {
+            int idLength = in.getShort() & 0xFFFF;
+            if (idLength == end - in.position()) {
+                byte[] id = new byte[idLength];
+                in.get(id);
+                handle = bind(new String(id, StandardCharsets.US_ASCII));
+                status = handle < 0 ? BinaryProtocol.STATUS_UNKNOWN_ACCOUNT : 0;
+                balance = handle < 0 ? 0.0 : handles.get(handle).getBalance();
+            }
+        } else if ((opcode == BinaryProtocol.OP_DEPOSIT || opcode == BinaryProtocol.OP_WITHDRAW)
+                && length == BinaryProtocol.OPERATION_SIZE) {
+            handle = in.getInt();
+            double amount = in.getDouble();
+            if (handle < 0 || handle >= handles.size()) {
+                status = BinaryProtocol.STATUS_UNKNOWN_ACCOUNT;
+            } else {
+                Account account = handles.get(handle);
+                OperationResult result = opcode == BinaryProtocol.OP_DEPOSIT
+                        ? accountService.tryDeposit(account, amount)
+                        : accountService.tryWithdraw(account, amount);
+                status = (byte) result.getStatus().ordinal();
+                balance = result.getBalance();
+            }
+        } else if (opcode == BinaryProtocol.OP_BALANCE && length == 13) {
+            handle = in.getInt();
+            if (handle < 0 || handle >= handles.size()) {
+                status = BinaryProtocol.STATUS_UNKNOWN_ACCOUNT;
+            } else {
+                status = 0;
+                balance = handles.get(handle).getBalance();
+            }
+        }
+        in.position(end);
+
+        out.putInt(BinaryProtocol.RESPONSE_SIZE)
+                .put(status)
+                .putLong(requestId)
+                .putInt(handle)
+                .putDouble(balance);
+    }
+
+    private int bind(String accountId) {
+        Integer handle = handlesByAccountId.get(accountId);
+        if (handle != null) {
+            return handle;
+        }
+        Optional<Account> account = accountRepository.findById(accountId);
+        if (account.isEmpty()) {
+            return -1;
+        }
+        handles.add(account.get());
+        handlesByAccountId.put(accountId, handles.size() - 1);
+        return handles.size() - 1;
+    }
+
+    /**
+     * State of one client connection.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void read(SelectionKey key) throws IOException {
+            if (channel.read(in) < 0) {
+                throw new IOException("Connection closed by client.");
+            }
+            drain(key);
+        }
+
+        private void drain(SelectionKey key) throws IOException {
+            int frame = BinaryProtocol.LENGTH_SIZE + BinaryProtocol.RESPONSE_SIZE;
+            do {
+                in.flip();
+                while (in.remaining() >= BinaryProtocol.LENGTH_SIZE && out.remaining() >= frame) {
+                    int length = in.getInt(in.position());
+                    if (length < 0 || length > BinaryProtocol.MAX_FRAME_SIZE) {
+                        throw new IOException("Invalid frame length: " + length);
+                    }
+                    if (in.remaining() < BinaryProtocol.LENGTH_SIZE + length) {
+                        break;
+                    }
+                    in.position(in.position() + BinaryProtocol.LENGTH_SIZE);
+                    process(in, length, out);
+                }
+                in.compact();
+                // Keep going while the write buffer was the limit and the client took all of it
+            } while (write(key) && hasCompleteFrame());
+        }
+
+        /**
+         * Tells whether the read buffer, in write mode, holds a whole frame or an invalid length.
+         */
+        private boolean hasCompleteFrame() {
+            if (in.position() < BinaryProtocol.LENGTH_SIZE) {
+                return false;
+            }
+            int length = in.getInt(0);
+            return length < 0 || length > BinaryProtocol.MAX_FRAME_SIZE
+                    || in.position() >= BinaryProtocol.LENGTH_SIZE + length;
+        }
+
+        private void flush(SelectionKey key) throws IOException {
+            if (write(key)) {
+                // Responses drained: resume the requests left in the read buffer
+                drain(key);
+            }
+        }
+
+        private boolean write(SelectionKey key) throws IOException {
+            out.flip();
+            channel.write(out);
+            boolean drained = !out.hasRemaining();
+            out.compact();
+            // While responses are pending, stop reading so that a slow client cannot grow the backlog
+            key.interestOps(drained ? SelectionKey.OP_READ : SelectionKey.OP_WRITE);
+            return drained;
+        }
+    }
+}
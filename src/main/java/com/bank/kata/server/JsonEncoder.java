@@ -0,0 +1,167 @@
+package com.bank.kata.server;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.model.Transaction;
+
+import java.util.List;
+
+/**
+ * Hand-written JSON encoder for the model classes.
+ *
+ * <p>Every field is written explicitly, without reflection, straight into a
+ * caller-supplied {@link StringBuilder} so that a response can be built in a
+ * single buffer. Non-finite numbers are written as {@code null}, since JSON
+ * has no representation for them.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class JsonEncoder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonEncoder() {
+    }
+
+    /**
+     * Writes an account, without its transactions.
+     *
+     * @param builder the buffer receiving the JSON text.
+     * @param account the account to encode.
+     * @return the buffer, for chaining.
+     */
+    public static StringBuilder encode(StringBuilder builder, Account account) {
+        builder.append("{\"accountId\":");
+        string(builder, account.getAccountId());
+        builder.append(",\"ownerName\":");
+        string(builder, account.getOwnerName());
+        builder.append(",\"currency\":");
+        string(builder, account.getCurrency());
+        builder.append(",\"createdAt\":");
+        string(builder, String.valueOf(account.getCreatedAt()));
+        builder.append(",\"balance\":");
+        number(builder, account.getBalance());
+        builder.append(",\"transactionCount\":").append(account.getTransactionCount());
+        return builder.append('}');
+    }
+
+    /**
+     * Writes a transaction.
+     *
+     * @param builder the buffer receiving the JSON text.
+     * @param transaction the transaction to encode.
+     * @return the buffer, for chaining.
+     */
+    public static StringBuilder encode(StringBuilder builder, Transaction transaction) {
+        builder.append("{\"date\":");
+        string(builder, String.valueOf(transaction.getDate()));
+        builder.append(",\"type\":");
+        string(builder, transaction.getType().name());
+        builder.append(",\"amount\":");
+        number(builder, transaction.getAmount());
+        builder.append(",\"balanceAfterTransaction\":");
+        number(builder, transaction.getBalanceAfterTransaction());
+        String originalCurrency = transaction.getOriginalCurrency();
+        if (originalCurrency != null) {
+            builder.append(",\"originalAmount\":");
+            number(builder, transaction.getOriginalAmount());
+            builder.append(",\"originalCurrency\":");
+            string(builder, originalCurrency);
+            builder.append(",\"exchangeRate\":");
+            number(builder, transaction.getExchangeRate());
+        }
+        return builder.append('}');
+    }
+
+    /**
+     * Writes a list of transactions as a JSON array.
+     *
+     * @param builder the buffer receiving the JSON text.
+     * @param transactions the transactions to encode, in order.
+     * @return the buffer, for chaining.
+     */
+    public static StringBuilder encode(StringBuilder builder, List<Transaction> transactions) {
+        builder.append('[');
+        for (int i = 0; i < transactions.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            encode(builder, transactions.get(i));
+        }
+        return builder.append(']');
+    }
+
+    /**
+     * Writes the outcome of an operation.
+     *
+     * @param builder the buffer receiving the JSON text.
+     * @param result the outcome to encode.
+     * @return the buffer, for chaining.
+     */
+    public static StringBuilder encode(StringBuilder builder, OperationResult result) {
+        builder.append("{\"status\":");
+        string(builder, result.getStatus().name());
+        builder.append(",\"balance\":");
+        number(builder, result.getBalance());
+        return builder.append('}');
+    }
+
+    /**
+     * Writes an error object with a single message.
+     *
+     * @param builder the buffer receiving the JSON text.
+     * @param message the error message.
+     * @return the buffer, for chaining.
+     */
+    public static StringBuilder error(StringBuilder builder, String message) {
+        builder.append("{\"error\":");
+        string(builder, message);
+        return builder.append('}');
+    }
+
+    /**
+     * Writes a string literal, escaping quotes, backslashes and control characters.
+     *
+     * @param builder the buffer receiving the JSON text.
+     * @param value the string to write, or {@code null}.
+     */
+    static void string(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': builder.append("\\\""); break;
+                case '\\': builder.append("\\\\"); break;
+                case '\n': builder.append("\\n"); break;
+                case '\r': builder.append("\\r"); break;
+                case '\t': builder.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Writes a number, or {@code null} if it is not finite.
+     *
+     * @param builder the buffer receiving the JSON text.
+     * @param value the number to write.
+     */
+    static void number(StringBuilder builder, double value) {
+        if (Double.isFinite(value)) {
+            builder.append(value);
+        } else {
+            builder.append("null");
+        }
+    }
+}
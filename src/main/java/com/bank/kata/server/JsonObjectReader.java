@@ -0,0 +1,146 @@
+package com.bank.kata.server;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal reader for flat JSON request bodies.
+ *
+ * <p>Request bodies are single objects whose values are strings, numbers,
+ * booleans or {@code null}, such as {@code {"amount": 100.0, "currency": "USD"}}.
+ * Values are returned as their text; nested objects and arrays are rejected.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+final class JsonObjectReader {
+
+    private final String text;
+    private int position;
+
+    private JsonObjectReader(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a flat JSON object.
+     *
+     * @param text the JSON text.
+     * @return the members of the object, by name; {@code null} values are omitted.
+     * @throws IllegalArgumentException if the text is not a flat JSON object.
+     */
+    static Map<String, String> parse(String text) {
+        if (text == null || text.isBlank()) {
+            return new HashMap<>();
+        }
+        JsonObjectReader reader = new JsonObjectReader(text);
+        Map<String, String> members = reader.readObject();
+        reader.skipWhitespace();
+        if (reader.position != text.length()) {
+            throw new IllegalArgumentException("Unexpected content after JSON object.");
+        }
+        return members;
+    }
+
+    private Map<String, String> readObject() {
+        Map<String, String> members = new HashMap<>();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return members;
+        }
+        while (true) {
+            skipWhitespace();
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            String value = peek() == '"' ? readString() : readLiteral();
+            if (value != null) {
+                members.put(name, value);
+            }
+            skipWhitespace();
+            char next = next();
+            if (next == '}') {
+                return members;
+            }
+            if (next != ',') {
+                throw new IllegalArgumentException("Expected ',' or '}' in JSON object.");
+            }
+        }
+    }
+
+    private String readString() {
+        expect('"');
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case '"': case '\\': case '/': builder.append(escaped); break;
+                case 'b': builder.append('\b'); break;
+                case 'f': builder.append('\f'); break;
+                case 'n': builder.append('\n'); break;
+                case 'r': builder.append('\r'); break;
+                case 't': builder.append('\t'); break;
+                case 'u':
+                    if (position + 4 > text.length()) {
+                        throw new IllegalArgumentException("Truncated unicode escape in JSON string.");
+                    }
+                    builder.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    position += 4;
+                    break;
+                default: throw new IllegalArgumentException("Invalid escape in JSON string.");
+            }
+        }
+    }
+
+    private String readLiteral() {
+        int start = position;
+        while (position < text.length() && ",} \t\r\n".indexOf(text.charAt(position)) < 0) {
+            char c = text.charAt(position);
+            if (c == '{' || c == '[') {
+                throw new IllegalArgumentException("Nested JSON values are not supported.");
+            }
+            position++;
+        }
+        String literal = text.substring(start, position);
+        if (literal.isEmpty()) {
+            throw new IllegalArgumentException("Missing JSON value.");
+        }
+        return "null".equals(literal) ? null : literal;
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        if (position >= text.length()) {
+            throw new IllegalArgumentException("Unexpected end of JSON text.");
+        }
+        return text.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' in JSON text.");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ArchivalReport;
+
+import java.util.Collection;
+
+/**
+ * Moves the transactions of dormant accounts out of memory.
+ *
+ * <p>An archived account keeps its identity, metadata and balance in memory and
+ * can be used as before: its transactions are loaded back transparently the next
+ * time they are needed, e.g. by a deposit, a withdrawal or a history read.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link AccountArchivalServiceImpl}: Archives to an {@link AccountArchiveStore}.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface AccountArchivalService {
+
+    /**
+     * Archives the accounts without any transaction for the given number of days.
+     *
+     * <p>Accounts without transactions and accounts already archived are left as they are.
+     *
+     * @param accounts the accounts to examine.
+     * @param dormantDays the number of days without activity after which an account is archived.
+     * @return the report of the run.
+     * @throws IllegalArgumentException if the collection or one of its accounts is null, or the number of days is negative.
+     */
+    ArchivalReport archiveDormant(Collection<Account> accounts, int dormantDays);
+}
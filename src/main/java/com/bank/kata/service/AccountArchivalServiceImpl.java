@@ -0,0 +1,101 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ArchivalReport;
+import com.bank.kata.model.Transaction;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of the AccountArchivalService interface.
+ *
+ * <p>An account is dormant when its last transaction is older than the cutoff,
+ * measured on the injected clock. Each dormant account is written to the store
+ * and archived while its lock is held, so that a concurrent operation either
+ * happens before it is archived or finds it archived and loads it back.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountArchivalServiceImpl implements AccountArchivalService {
+
+    /**
+     * Store receiving the archived transactions.
+     */
+    private final AccountArchiveStore store;
+
+    /**
+     * Clock giving the current date.
+     */
+    private final Clock clock;
+
+    /**
+     * Constructs an AccountArchivalServiceImpl on the system clock.
+     *
+     * @param store the store receiving the archived transactions.
+     * @throws IllegalArgumentException if the store is null.
+     */
+    public AccountArchivalServiceImpl(AccountArchiveStore store) {
+        this(store, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs an AccountArchivalServiceImpl.
+     *
+     * @param store the store receiving the archived transactions.
+     * @param clock the clock giving the current date.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    public AccountArchivalServiceImpl(AccountArchiveStore store, Clock clock) {
+        if (store == null) {
+            throw new IllegalArgumentException("Archive store cannot be null.");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null.");
+        }
+        this.store = store;
+        this.clock = clock;
+    }
+
+    @Override
+    public ArchivalReport archiveDormant(Collection<Account> accounts, int dormantDays) {
+        if (accounts == null) {
+            throw new IllegalArgumentException("Accounts cannot be null.");
+        }
+        if (dormantDays < 0) {
+            throw new IllegalArgumentException("Number of days cannot be negative.");
+        }
+        long begin = System.nanoTime();
+        long sizeBefore = store.getSizeBytes();
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusDays(dormantDays);
+        long scanned = 0;
+        long archived = 0;
+        long transactionsArchived = 0;
+
+        for (Account account : accounts) {
+            if (account == null) {
+                throw new IllegalArgumentException("The account cannot be null.");
+            }
+            scanned++;
+            synchronized (account) {
+                if (account.isArchived()) {
+                    continue;
+                }
+                List<Transaction> transactions = account.getTransactions();
+                if (transactions.isEmpty()
+                        || !transactions.get(transactions.size() - 1).getDate().isBefore(cutoff)) {
+                    continue;
+                }
+                account.archive(store.write(account));
+                archived++;
+                transactionsArchived += transactions.size();
+            }
+        }
+        store.flush();
+        return new ArchivalReport(scanned, archived, transactionsArchived,
+                store.getSizeBytes() - sizeBefore, System.nanoTime() - begin);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ArchivedHistory;
+
+import java.io.Closeable;
+
+/**
+ * Keeps the transaction histories of archived accounts out of memory.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link AccountArchiveStoreImpl}: Append-only archive file with positional reads.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface AccountArchiveStore extends Closeable {
+
+    /**
+     * Writes the transactions of an account to the archive.
+     *
+     * <p>The caller holds the account lock, so that the history cannot change while it is written.
+     *
+     * @param account the account whose transactions are archived.
+     * @return the handle loading the transactions back.
+     * @throws IllegalArgumentException if the account is null.
+     * @throws java.io.UncheckedIOException if the archive cannot be written.
+     */
+    ArchivedHistory write(Account account);
+
+    /**
+     * Makes every written history readable from the archive file.
+     *
+     * @throws java.io.UncheckedIOException if the archive cannot be written.
+     */
+    void flush();
+
+    /**
+     * Returns the size of the archive, including histories not flushed yet.
+     *
+     * @return the size in bytes.
+     */
+    long getSizeBytes();
+
+    /**
+     * Flushes and closes the archive; archived histories can no longer be loaded.
+     *
+     * @throws java.io.UncheckedIOException if the archive cannot be written.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,345 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ArchivedHistory;
+import com.bank.kata.model.CurrencyRegistry;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of the AccountArchiveStore interface.
+ *
+ * <p>Histories are appended to a single file, through a write buffer, and read
+ * back with positional reads, so that loads never wait for each other. A handle
+ * is only the position and length of its record, about 40 bytes in memory.
+ * Records are never rewritten: the history of a rehydrated account stays in the
+ * file until it is recreated.
+ *
+ * <p>A record holds the account id and, per transaction, the date as a varint
+ * delta of epoch nanoseconds, a flags byte, the amount and the balance after it;
+ * the original amount, currency and rate are only written for converted
+ * transactions. This is about 25 bytes per transaction, against more than
+ * 100 bytes for a {@link Transaction} and its date on the heap.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountArchiveStoreImpl implements AccountArchiveStore {
+
+    /**
+     * Size of the write buffer.
+     */
+    static final int BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Flag of a withdrawal; deposits have no flag.
+     */
+    private static final int WITHDRAWAL = 1;
+
+    /**
+     * Flag of a transaction whose original currency was not recorded.
+     */
+    private static final int NO_ORIGINAL = 1 << 1;
+
+    /**
+     * Flag of a converted transaction, followed by its original amount, currency and rate.
+     */
+    private static final int CONVERTED = 1 << 2;
+
+    private final FileChannel channel;
+    private final ByteBuffer pending = ByteBuffer.allocate(BUFFER_BYTES);
+
+    /**
+     * Position of the end of the file, guarded by this store.
+     */
+    private long flushedPosition;
+
+    /**
+     * Position of the end of the file once pending records are flushed, guarded by this store.
+     */
+    private volatile long endPosition;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * Constructs an AccountArchiveStoreImpl writing to a new archive file.
+     *
+     * @param file the archive file, truncated if it exists.
+     * @throws IllegalArgumentException if the file is null.
+     * @throws UncheckedIOException if the file cannot be opened.
+     */
+    public AccountArchiveStoreImpl(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Archive file cannot be null.");
+        }
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open archive " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized ArchivedHistory write(Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("The account cannot be null.");
+        }
+        ByteBuffer record = encode(account);
+        long position = endPosition;
+        int length = record.remaining();
+        try {
+            if (length > pending.remaining()) {
+                flushPending();
+            }
+            if (length > pending.remaining()) {
+                // Larger than the buffer: written on its own
+                writeFully(record, flushedPosition);
+                flushedPosition += length;
+            } else {
+                pending.put(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write archive", e);
+        }
+        endPosition = position + length;
+        return new Handle(account.getAccountId(), account.getCurrencyId(), position, length);
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            flushPending();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write archive", e);
+        }
+    }
+
+    @Override
+    public long getSizeBytes() {
+        return endPosition;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            flushPending();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close archive", e);
+        }
+    }
+
+    /**
+     * @return the number of histories loaded back from the archive.
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * @return the total time spent loading histories back, in nanoseconds.
+     */
+    public long getLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    /**
+     * Reads and decodes a record.
+     */
+    private List<Transaction> load(Handle handle) {
+        long begin = System.nanoTime();
+        synchronized (this) {
+            if (handle.position + handle.length > flushedPosition) {
+                flush();
+            }
+        }
+        ByteBuffer record = ByteBuffer.allocate(handle.length);
+        try {
+            while (record.hasRemaining()) {
+                if (channel.read(record, handle.position + record.position()) < 0) {
+                    throw new IOException("Unexpected end of archive");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read archive of account " + handle.accountId, e);
+        }
+        record.flip();
+        List<Transaction> transactions = decode(record, handle.accountId, handle.currencyId);
+        loads.increment();
+        loadNanos.add(System.nanoTime() - begin);
+        return transactions;
+    }
+
+    private void flushPending() throws IOException {
+        pending.flip();
+        int length = pending.remaining();
+        writeFully(pending, flushedPosition);
+        flushedPosition += length;
+        pending.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    /**
+     * Encodes the history of an account into a record.
+     */
+    static ByteBuffer encode(Account account) {
+        List<Transaction> transactions = account.getTransactions();
+        byte[] id = account.getAccountId().getBytes(StandardCharsets.UTF_8);
+        int rows = transactions.size();
+        ByteBuffer buffer = ByteBuffer.allocate(2 + id.length + 4 + rows * 28);
+        buffer.putShort((short) id.length).put(id).putInt(rows);
+
+        long previous = 0;
+        for (Transaction transaction : transactions) {
+            long nanos = toEpochNanos(transaction.getDate());
+            int flags = transaction.getType() == TransactionType.WITHDRAWAL ? WITHDRAWAL : 0;
+            byte[] code = null;
+            if (transaction.getOriginalCurrencyId() == CurrencyRegistry.UNKNOWN) {
+                flags |= NO_ORIGINAL;
+            } else if (transaction.getOriginalCurrencyId() != account.getCurrencyId()
+                    || transaction.getExchangeRate() != 1.0
+                    || transaction.getOriginalAmount() != transaction.getAmount()) {
+                flags |= CONVERTED;
+                code = transaction.getOriginalCurrency().getBytes(StandardCharsets.UTF_8);
+            }
+            buffer = ensure(buffer, 10 + 1 + 16 + (code == null ? 0 : 17 + code.length));
+            putVarint(buffer, zigZag(nanos - previous));
+            previous = nanos;
+            buffer.put((byte) flags)
+                    .putDouble(transaction.getAmount())
+                    .putDouble(transaction.getBalanceAfterTransaction());
+            if (code != null) {
+                buffer.putDouble(transaction.getOriginalAmount())
+                        .put((byte) code.length).put(code)
+                        .putDouble(transaction.getExchangeRate());
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes a record, checking that it belongs to the expected account.
+     */
+    static List<Transaction> decode(ByteBuffer record, String accountId, int accountCurrencyId) {
+        byte[] id = new byte[record.getShort() & 0xFFFF];
+        record.get(id);
+        if (!accountId.equals(new String(id, StandardCharsets.UTF_8))) {
+            throw new IllegalStateException("Archive record does not belong to account " + accountId + ".");
+        }
+        int rows = record.getInt();
+        List<Transaction> transactions = new ArrayList<>(rows);
+        long nanos = 0;
+        for (int i = 0; i < rows; i++) {
+            nanos += unZigZag(getVarint(record));
+            int flags = record.get();
+            TransactionType type = (flags & WITHDRAWAL) != 0 ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT;
+            double amount = record.getDouble();
+            double balance = record.getDouble();
+            double originalAmount = amount;
+            int currencyId = CurrencyRegistry.UNKNOWN;
+            double rate = 1.0;
+            if ((flags & CONVERTED) != 0) {
+                originalAmount = record.getDouble();
+                byte[] code = new byte[record.get() & 0xFF];
+                record.get(code);
+                currencyId = CurrencyRegistry.idOf(new String(code, StandardCharsets.UTF_8));
+                rate = record.getDouble();
+            } else if ((flags & NO_ORIGINAL) == 0) {
+                currencyId = accountCurrencyId;
+            }
+            transactions.add(new Transaction(fromEpochNanos(nanos), type, amount, balance,
+                    originalAmount, currencyId, rate));
+        }
+        return transactions;
+    }
+
+    private static ByteBuffer ensure(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        return larger.put(buffer);
+    }
+
+    private static long toEpochNanos(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + date.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    /**
+     * Position and length of the record of an archived history.
+     */
+    private final class Handle implements ArchivedHistory {
+        private final String accountId;
+        private final int currencyId;
+        private final long position;
+        private final int length;
+
+        private Handle(String accountId, int currencyId, long position, int length) {
+            this.accountId = accountId;
+            this.currencyId = currencyId;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        public List<Transaction> load() {
+            return AccountArchiveStoreImpl.this.load(this);
+        }
+    }
+}
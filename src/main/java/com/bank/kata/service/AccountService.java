@@ -1,6 +1,7 @@
 package com.bank.kata.service;
 
 import com.bank.kata.model.Account;
+import com.bank.kata.model.OperationResult;
 
 /**
  * Defines the operations that can be performed on a bank account.
@@ -32,4 +33,73 @@ public interface AccountService {
 
     void withdraw(Account account, double amount);
 
+    /**
+     * Attempts to deposit a specified amount into the given account without throwing.
+     *
+     * <p>Business rules are the same as {@link #deposit(Account, double)}, but a
+     * rejected deposit is reported through the returned status instead of an
+     * exception, which keeps high-rate rejections free of stack-trace capture.
+     *
+     * @param account the account into which the deposit is made.
+     * @param amount the amount to deposit.
+     * @return the outcome of the deposit and the resulting balance.
+     */
+    OperationResult tryDeposit(Account account, double amount);
+
+    /**
+     * Attempts to withdraw a specified amount from the given account without throwing.
+     *
+     * <p>Business rules are the same as {@link #withdraw(Account, double)}, but a
+     * rejected withdrawal is reported through the returned status instead of an
+     * exception.
+     *
+     * @param account the account from which the withdrawal is made.
+     * @param amount the amount to withdraw.
+     * @return the outcome of the withdrawal and the resulting balance.
+     */
+    OperationResult tryWithdraw(Account account, double amount);
+
+    /**
+     * Deposits an amount expressed in another currency into the given account.
+     *
+     * <p>The amount is converted into the account currency using the current
+     * exchange rate, and both amounts and the rate are recorded on the transaction.
+     *
+     * @param account the account into which the deposit is made.
+     * @param amount the amount to deposit, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @throws IllegalArgumentException if the amount is not positive or no rate is available.
+     */
+    void deposit(Account account, double amount, String currency);
+
+    /**
+     * Withdraws an amount expressed in another currency from the given account.
+     *
+     * @param account the account from which the withdrawal is made.
+     * @param amount the amount to withdraw, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @throws IllegalArgumentException if the amount is not positive, funds are
+     *         insufficient or no rate is available.
+     */
+    void withdraw(Account account, double amount, String currency);
+
+    /**
+     * Attempts to deposit an amount expressed in another currency without throwing.
+     *
+     * @param account the account into which the deposit is made.
+     * @param amount the amount to deposit, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @return the outcome of the deposit and the resulting balance.
+     */
+    OperationResult tryDeposit(Account account, double amount, String currency);
+
+    /**
+     * Attempts to withdraw an amount expressed in another currency without throwing.
+     *
+     * @param account the account from which the withdrawal is made.
+     * @param amount the amount to withdraw, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @return the outcome of the withdrawal and the resulting balance.
+     */
+    OperationResult tryWithdraw(Account account, double amount, String currency);
 }
@@ -1,8 +1,14 @@
 package com.bank.kata.service;
 
 import com.bank.kata.model.Account;
+import com.bank.kata.model.CurrencyRegistry;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.model.OperationStatus;
+import com.bank.kata.model.Transaction;
 import com.bank.kata.model.TransactionType;
 
+import java.util.List;
+
 /**
  * Implementation of the AccountService interface.
  *
@@ -10,6 +16,10 @@ import com.bank.kata.model.TransactionType;
  * operations such as deposits and withdrawals. It ensures that
  * all operations comply with defined business rules.
  *
+ * <p>Operations on the same account are serialized on the account itself, so
+ * that its balance and the balance recorded on each transaction stay
+ * consistent when several threads operate on it.
+ *
  * @author [Houssem Eddine Yahia]
  * @version 1.0
  */
@@ -19,17 +29,60 @@ public class AccountServiceImpl implements AccountService {
      */
     private final TransactionService transactionService;
 
+    /**
+     * Service providing exchange rates for operations in a foreign currency.
+     */
+    private final ExchangeRateService exchangeRateService;
+
+    /**
+     * Stage scoring operations before they are committed, or null when there is none.
+     */
+    private final RiskScoringService riskScoringService;
+
     /**
      * Constructs an AccountServiceImpl with the specified TransactionService.
      *
+     * <p>Operations in a foreign currency are rejected until rates are
+     * provided through {@link #AccountServiceImpl(TransactionService, ExchangeRateService)}.
+     *
      * @param transactionService the service used to manage transactions.
      * @throws IllegalArgumentException if the transactionService is null.
      */
     public AccountServiceImpl(TransactionService transactionService) {
+        this(transactionService, new ExchangeRateServiceImpl());
+    }
+
+    /**
+     * Constructs an AccountServiceImpl with the specified TransactionService and ExchangeRateService.
+     *
+     * @param transactionService the service used to manage transactions.
+     * @param exchangeRateService the service used to convert foreign currency amounts.
+     * @throws IllegalArgumentException if either service is null.
+     */
+    public AccountServiceImpl(TransactionService transactionService, ExchangeRateService exchangeRateService) {
+        this(transactionService, exchangeRateService, null);
+    }
+
+    /**
+     * Constructs an AccountServiceImpl whose operations are scored before they are committed.
+     *
+     * @param transactionService the service used to manage transactions.
+     * @param exchangeRateService the service used to convert foreign currency amounts.
+     * @param riskScoringService the stage approving each operation before it is committed,
+     *        or null to commit operations without scoring them.
+     * @throws IllegalArgumentException if the transaction or exchange rate service is null.
+     */
+    public AccountServiceImpl(TransactionService transactionService, ExchangeRateService exchangeRateService,
+                              RiskScoringService riskScoringService) {
         if (transactionService == null) {
             throw new IllegalArgumentException("TransactionService cannot be null.");
         }
+        if (exchangeRateService == null) {
+            throw new IllegalArgumentException("ExchangeRateService cannot be null.");
+        }
         this.transactionService = transactionService;
+        this.exchangeRateService = exchangeRateService;
+        this.riskScoringService = riskScoringService;
     }
 
     /**
@@ -45,43 +98,201 @@ public class AccountServiceImpl implements AccountService {
      */
     @Override
     public void deposit(Account account, double amount) {
-        // Validate the deposit amount
-        if (amount <= 0) {
-            throw new IllegalArgumentException("Deposit amount must be positive.");
-        }
-        // Update the account balance
-        account.setBalance(account.getBalance() + amount);
-
-        // Record the transaction
-        transactionService.recordTransaction(account, TransactionType.DEPOSIT, amount);
+        throwOnFailure(tryDeposit(account, amount), TransactionType.DEPOSIT);
     }
 
     /**
      * Withdraws a specified amount from the given account.
      *
      * <p>Business Rule:
-     * - The withdrawal amount is deducted from the account's current balance.
-     * - This method assumes that the withdrawal amount is valid and that sufficient funds
-     *   are available in the account. Any validations related to negative amounts or
-     *   insufficient funds should be handled before calling this method.
+     * - The withdrawal amount must be greater than 0.
+     * - The withdrawal amount must not exceed the account's current balance.
+     * - If the withdrawal is valid, it is deducted from the account's balance.
      *
      * @param account the account from which the withdrawal is made.
      * @param amount the amount to withdraw.
+     * @throws IllegalArgumentException if the amount is zero or negative, or if funds are insufficient.
      */
     @Override
     public void withdraw(Account account, double amount) {
-        // Validate the withdrawal amount
-        if (amount <= 0) {
-            throw new IllegalArgumentException("Withdrawal amount must be positive.");
+        throwOnFailure(tryWithdraw(account, amount), TransactionType.WITHDRAWAL);
+    }
+
+    /**
+     * Attempts to deposit a specified amount into the given account.
+     *
+     * @param account the account into which the deposit is made.
+     * @param amount the amount to deposit.
+     * @return the outcome of the deposit and the resulting balance.
+     */
+    @Override
+    public OperationResult tryDeposit(Account account, double amount) {
+        return apply(account, TransactionType.DEPOSIT, amount, account.getCurrencyId());
+    }
+
+    /**
+     * Attempts to withdraw a specified amount from the given account.
+     *
+     * @param account the account from which the withdrawal is made.
+     * @param amount the amount to withdraw.
+     * @return the outcome of the withdrawal and the resulting balance.
+     */
+    @Override
+    public OperationResult tryWithdraw(Account account, double amount) {
+        return apply(account, TransactionType.WITHDRAWAL, amount, account.getCurrencyId());
+    }
+
+    /**
+     * Deposits an amount expressed in another currency into the given account.
+     *
+     * @param account the account into which the deposit is made.
+     * @param amount the amount to deposit, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @throws IllegalArgumentException if the amount is not positive or no rate is available.
+     */
+    @Override
+    public void deposit(Account account, double amount, String currency) {
+        throwOnFailure(tryDeposit(account, amount, currency), TransactionType.DEPOSIT);
+    }
+
+    /**
+     * Withdraws an amount expressed in another currency from the given account.
+     *
+     * @param account the account from which the withdrawal is made.
+     * @param amount the amount to withdraw, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @throws IllegalArgumentException if the amount is not positive, funds are
+     *         insufficient or no rate is available.
+     */
+    @Override
+    public void withdraw(Account account, double amount, String currency) {
+        throwOnFailure(tryWithdraw(account, amount, currency), TransactionType.WITHDRAWAL);
+    }
+
+    /**
+     * Attempts to deposit an amount expressed in another currency.
+     *
+     * @param account the account into which the deposit is made.
+     * @param amount the amount to deposit, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @return the outcome of the deposit and the resulting balance.
+     */
+    @Override
+    public OperationResult tryDeposit(Account account, double amount, String currency) {
+        return applyInCurrency(account, TransactionType.DEPOSIT, amount, currency);
+    }
+
+    /**
+     * Attempts to withdraw an amount expressed in another currency.
+     *
+     * @param account the account from which the withdrawal is made.
+     * @param amount the amount to withdraw, in the given currency.
+     * @param currency the currency of the amount (e.g., "USD").
+     * @return the outcome of the withdrawal and the resulting balance.
+     */
+    @Override
+    public OperationResult tryWithdraw(Account account, double amount, String currency) {
+        return applyInCurrency(account, TransactionType.WITHDRAWAL, amount, currency);
+    }
+
+    /**
+     * Resolves the currency of an amount, then applies the operation.
+     *
+     * <p>A null, malformed or unregistered code is reported as unsupported before
+     * it can match an account that has no currency and be posted without a rate.
+     *
+     * @param account the account on which the operation is performed.
+     * @param type the type of the operation.
+     * @param amount the requested amount, in the given currency.
+     * @param currency the currency code of the amount, possibly null.
+     * @return the outcome of the operation and the resulting balance.
+     */
+    private OperationResult applyInCurrency(Account account, TransactionType type, double amount, String currency) {
+        int currencyId = currency == null ? CurrencyRegistry.UNKNOWN : CurrencyRegistry.find(currency);
+        if (currencyId == CurrencyRegistry.UNKNOWN) {
+            return new OperationResult(OperationStatus.UNSUPPORTED_CURRENCY, account.getBalance());
+        }
+        return apply(account, type, amount, currencyId);
+    }
+
+    /**
+     * Validates, converts, applies and records a deposit or a withdrawal.
+     *
+     * @param account the account on which the operation is performed.
+     * @param type the type of the operation.
+     * @param originalAmount the requested amount, in the currency identified by currencyId.
+     * @param currencyId the interned id of the currency of the amount.
+     * @return the outcome of the operation and the resulting balance.
+     */
+    private OperationResult apply(Account account, TransactionType type, double originalAmount, int currencyId) {
+        // Validate the amount (NaN and infinities are rejected as well)
+        if (!Double.isFinite(originalAmount) || originalAmount <= 0) {
+            return new OperationResult(OperationStatus.INVALID_AMOUNT, account.getBalance());
+        }
+        // Convert into the account currency when needed
+        boolean converted = currencyId != account.getCurrencyId();
+        double rate = converted ? exchangeRateService.getRate(currencyId, account.getCurrencyId()) : 1.0;
+        if (Double.isNaN(rate)) {
+            return new OperationResult(OperationStatus.UNSUPPORTED_CURRENCY, account.getBalance());
         }
-        // Ensure sufficient funds are available
-        if (amount > account.getBalance()) {
-            throw new IllegalArgumentException("Insufficient funds.");
+        double amount = originalAmount * rate;
+        // A huge amount or rate can overflow, or a tiny one vanish, once converted
+        if (!Double.isFinite(amount) || amount <= 0) {
+            return new OperationResult(OperationStatus.INVALID_AMOUNT, account.getBalance());
         }
-        // Deduct the withdrawal amount from the account balance
-        account.setBalance(account.getBalance() - amount);
 
-        // Record the transaction
-        transactionService.recordTransaction(account, TransactionType.WITHDRAWAL, amount);
+        synchronized (account) {
+            // Ensure sufficient funds are available for a withdrawal
+            if (type == TransactionType.WITHDRAWAL && amount > account.getBalance()) {
+                return new OperationResult(OperationStatus.INSUFFICIENT_FUNDS, account.getBalance());
+            }
+            // Let the risk checks decline the operation before anything changes
+            if (riskScoringService != null && !riskScoringService.approve(account, type, amount)) {
+                return new OperationResult(OperationStatus.DECLINED, account.getBalance());
+            }
+            if (type == TransactionType.DEPOSIT) {
+                // Update the account balance
+                account.setBalance(account.getBalance() + amount);
+            } else {
+                // Deduct the withdrawal amount from the account balance
+                account.setBalance(account.getBalance() - amount);
+            }
+
+            // Record the transaction
+            if (converted) {
+                transactionService.recordTransaction(account, type, amount, originalAmount, currencyId, rate);
+            } else {
+                transactionService.recordTransaction(account, type, amount);
+            }
+            if (riskScoringService != null) {
+                List<Transaction> transactions = account.getTransactions();
+                riskScoringService.onCommitted(account, transactions.get(transactions.size() - 1));
+            }
+            return new OperationResult(OperationStatus.OK, account.getBalance());
+        }
+    }
+
+    /**
+     * Translates a rejected operation into the exception of the throwing API.
+     *
+     * @param result the outcome of the operation.
+     * @param type the type of the operation.
+     * @throws IllegalArgumentException if the operation was rejected.
+     */
+    private static void throwOnFailure(OperationResult result, TransactionType type) {
+        switch (result.getStatus()) {
+            case INVALID_AMOUNT:
+                throw new IllegalArgumentException(type == TransactionType.DEPOSIT
+                        ? "Deposit amount must be positive."
+                        : "Withdrawal amount must be positive.");
+            case INSUFFICIENT_FUNDS:
+                throw new IllegalArgumentException("Insufficient funds.");
+            case UNSUPPORTED_CURRENCY:
+                throw new IllegalArgumentException("No exchange rate available for this currency.");
+            case DECLINED:
+                throw new IllegalArgumentException("Operation declined by risk checks.");
+            default:
+                break;
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ActivitySeries;
+import com.bank.kata.model.Granularity;
+import com.bank.kata.model.Transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maintains deposit and withdrawal volumes per minute, hour and day, per account and overall.
+ *
+ * <p>Rollups are fed by {@link TransactionServiceImpl} as transactions are recorded,
+ * so that dashboards never scan transaction histories. Buckets follow the
+ * wall-clock dates of the transactions.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link ActivityRollupServiceImpl}: Lock-free ring buffers of buckets.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface ActivityRollupService {
+
+    /**
+     * Adds a recorded transaction to the rollups.
+     *
+     * @param account the account on which the transaction was recorded.
+     * @param transaction the recorded transaction.
+     */
+    void record(Account account, Transaction transaction);
+
+    /**
+     * Returns the activity of an account over a window.
+     *
+     * @param accountId the identifier of the account.
+     * @param granularity the width of the buckets.
+     * @param from the start of the window, rounded down to a bucket.
+     * @param to the end of the window (exclusive), rounded up to a bucket.
+     * @return the activity of the account, empty if it has none.
+     * @throws IllegalArgumentException if an argument is null, the window is reversed or longer than the retention.
+     */
+    ActivitySeries getAccountSeries(String accountId, Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the activity of all accounts over a window.
+     *
+     * @param granularity the width of the buckets.
+     * @param from the start of the window, rounded down to a bucket.
+     * @param to the end of the window (exclusive), rounded up to a bucket.
+     * @return the activity of all accounts.
+     * @throws IllegalArgumentException if an argument is null, the window is reversed or longer than the retention.
+     */
+    ActivitySeries getGlobalSeries(Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * @return the number of deposits recorded since startup.
+     */
+    long getTotalDepositCount();
+
+    /**
+     * @return the volume deposited since startup.
+     */
+    double getTotalDepositVolume();
+
+    /**
+     * @return the number of withdrawals recorded since startup.
+     */
+    long getTotalWithdrawalCount();
+
+    /**
+     * @return the volume withdrawn since startup.
+     */
+    double getTotalWithdrawalVolume();
+}
@@ -0,0 +1,292 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ActivitySeries;
+import com.bank.kata.model.Granularity;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of the ActivityRollupService interface.
+ *
+ * <p>Each granularity is a {@link RollupRing} of fixed size, one set for all
+ * accounts and one per active account. Recording a transaction updates six rings
+ * and the running totals: a constant number of compare-and-set operations, without
+ * locks and without allocation once the account has its rings.
+ *
+ * <p>The rings of an account are allocated one granularity at a time, with the
+ * first transaction that needs them, and dropped once all their buckets are older
+ * than the retention. Every hour of transaction time, the first writer to notice it
+ * sweeps the accounts: an account idle for two hours keeps only its hour and day
+ * rings, one idle for two days only its day ring, and one idle for 92 days,
+ * archived accounts included, nothing at all. A swept account is retired while its
+ * rings are dropped; writers announce themselves on the account before using its
+ * rings, and wait for the sweep of that account to end.
+ *
+ * <p>Retention, in buckets:
+ * - Per account: 60 minutes, 48 hours and 92 days (about 10 KB for an account with all three).
+ * - Overall: 1,440 minutes, 744 hours and 732 days.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ActivityRollupServiceImpl implements ActivityRollupService {
+
+    /**
+     * Buckets kept per account, by granularity.
+     */
+    static final int[] ACCOUNT_RETENTION = {60, 48, 92};
+
+    /**
+     * Buckets kept for all accounts, by granularity.
+     */
+    static final int[] GLOBAL_RETENTION = {1_440, 744, 732};
+
+    private static final Granularity[] GRANULARITIES = Granularity.values();
+
+    private final RollupRing[] global = rings(GLOBAL_RETENTION);
+    private final ConcurrentHashMap<String, AccountRollup> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * Hour of transaction time of the last sweep of idle accounts.
+     */
+    private final AtomicLong sweptHour = new AtomicLong(Long.MIN_VALUE);
+
+    private final LongAdder depositCount = new LongAdder();
+    private final DoubleAdder depositVolume = new DoubleAdder();
+    private final LongAdder withdrawalCount = new LongAdder();
+    private final DoubleAdder withdrawalVolume = new DoubleAdder();
+
+    @Override
+    public void record(Account account, Transaction transaction) {
+        if (account == null) {
+            throw new IllegalArgumentException("Account cannot be null.");
+        }
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null.");
+        }
+        long epochSecond = transaction.getDate().toEpochSecond(ZoneOffset.UTC);
+        boolean deposit = transaction.getType() == TransactionType.DEPOSIT;
+        double amount = transaction.getAmount();
+        for (int g = 0; g < GRANULARITIES.length; g++) {
+            global[g].add(epochSecond, deposit, amount);
+        }
+        for (;;) {
+            AccountRollup rollup = accounts.get(account.getAccountId());
+            if (rollup == null) {
+                rollup = accounts.computeIfAbsent(account.getAccountId(), id -> new AccountRollup());
+            }
+            rollup.writers.incrementAndGet();
+            try {
+                if (!rollup.retired) {
+                    for (int g = 0; g < GRANULARITIES.length; g++) {
+                        rollup.ring(g).add(epochSecond, deposit, amount);
+                    }
+                    break;
+                }
+            } finally {
+                rollup.writers.decrementAndGet();
+            }
+            // The account is being swept; it is either kept or replaced in the map shortly
+            Thread.onSpinWait();
+        }
+        if (deposit) {
+            depositCount.increment();
+            depositVolume.add(amount);
+        } else {
+            withdrawalCount.increment();
+            withdrawalVolume.add(amount);
+        }
+        long hour = Math.floorDiv(epochSecond, Granularity.HOUR.getSeconds());
+        long swept = sweptHour.get();
+        if (hour > swept && sweptHour.compareAndSet(swept, hour)) {
+            sweep(epochSecond);
+        }
+    }
+
+    @Override
+    public ActivitySeries getAccountSeries(String accountId, Granularity granularity,
+                                           LocalDateTime from, LocalDateTime to) {
+        if (accountId == null) {
+            throw new IllegalArgumentException("Account id cannot be null.");
+        }
+        AccountRollup rollup = accounts.get(accountId);
+        RollupRing ring = rollup == null || granularity == null ? null : rollup.rings.get(granularity.ordinal());
+        return series(ring, ACCOUNT_RETENTION, granularity, from, to);
+    }
+
+    @Override
+    public ActivitySeries getGlobalSeries(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        return series(granularity == null ? null : global[granularity.ordinal()], GLOBAL_RETENTION,
+                granularity, from, to);
+    }
+
+    @Override
+    public long getTotalDepositCount() {
+        return depositCount.sum();
+    }
+
+    @Override
+    public double getTotalDepositVolume() {
+        return depositVolume.sum();
+    }
+
+    @Override
+    public long getTotalWithdrawalCount() {
+        return withdrawalCount.sum();
+    }
+
+    @Override
+    public double getTotalWithdrawalVolume() {
+        return withdrawalVolume.sum();
+    }
+
+    /**
+     * Drops the rings whose buckets are all older than their retention, and the accounts left without rings.
+     *
+     * @param epochSecond the current transaction time, in seconds.
+     */
+    void sweep(long epochSecond) {
+        for (Map.Entry<String, AccountRollup> entry : accounts.entrySet()) {
+            AccountRollup rollup = entry.getValue();
+            if (!rollup.hasExpiredRing(epochSecond)) {
+                continue;
+            }
+            // Retire the account, then wait for the writers that announced themselves before
+            rollup.retired = true;
+            while (rollup.writers.get() != 0) {
+                Thread.onSpinWait();
+            }
+            if (rollup.dropExpiredRings(epochSecond)) {
+                // Writers waiting on the retired account find it gone and start a new one
+                accounts.remove(entry.getKey(), rollup);
+            } else {
+                rollup.retired = false;
+            }
+        }
+    }
+
+    /**
+     * Counts the rings allocated for the accounts.
+     *
+     * @return the number of per-account rings.
+     */
+    int accountRingCount() {
+        int count = 0;
+        for (AccountRollup rollup : accounts.values()) {
+            for (int g = 0; g < GRANULARITIES.length; g++) {
+                if (rollup.rings.get(g) != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads a window from a ring, or an empty series when there is none.
+     */
+    private static ActivitySeries series(RollupRing ring, int[] retention, Granularity granularity,
+                                         LocalDateTime from, LocalDateTime to) {
+        if (granularity == null || from == null || to == null) {
+            throw new IllegalArgumentException("Granularity and window cannot be null.");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Window end cannot be before its start.");
+        }
+        long seconds = granularity.getSeconds();
+        long first = Math.floorDiv(from.toEpochSecond(ZoneOffset.UTC), seconds);
+        long end = -Math.floorDiv(-to.toEpochSecond(ZoneOffset.UTC), seconds);
+        if (end - first > retention[granularity.ordinal()]) {
+            throw new IllegalArgumentException("Window exceeds the retention of " + granularity + " rollups.");
+        }
+        int buckets = (int) (end - first);
+        long[] depositCounts = new long[buckets];
+        double[] depositVolumes = new double[buckets];
+        long[] withdrawalCounts = new long[buckets];
+        double[] withdrawalVolumes = new double[buckets];
+        if (ring != null) {
+            ring.read(first, depositCounts, depositVolumes, withdrawalCounts, withdrawalVolumes);
+        }
+        return new ActivitySeries(granularity, LocalDateTime.ofEpochSecond(first * seconds, 0, ZoneOffset.UTC),
+                depositCounts, depositVolumes, withdrawalCounts, withdrawalVolumes);
+    }
+
+    private static RollupRing[] rings(int[] retention) {
+        RollupRing[] rings = new RollupRing[GRANULARITIES.length];
+        for (int g = 0; g < rings.length; g++) {
+            rings[g] = new RollupRing(retention[g], GRANULARITIES[g].getSeconds());
+        }
+        return rings;
+    }
+
+    /**
+     * Rings of one account, allocated one granularity at a time.
+     */
+    private static final class AccountRollup {
+
+        /**
+         * Ring of each granularity, or null until it is needed or once it has expired.
+         */
+        private final AtomicReferenceArray<RollupRing> rings = new AtomicReferenceArray<>(GRANULARITIES.length);
+
+        /**
+         * Number of writers using the rings.
+         */
+        private final AtomicInteger writers = new AtomicInteger();
+
+        /**
+         * Set while the account is swept, and for good once it is removed.
+         */
+        private volatile boolean retired;
+
+        private RollupRing ring(int granularity) {
+            RollupRing ring = rings.get(granularity);
+            if (ring == null) {
+                ring = new RollupRing(ACCOUNT_RETENTION[granularity], GRANULARITIES[granularity].getSeconds());
+                if (!rings.compareAndSet(granularity, null, ring)) {
+                    ring = rings.get(granularity);
+                }
+            }
+            return ring;
+        }
+
+        private boolean hasExpiredRing(long epochSecond) {
+            for (int g = 0; g < GRANULARITIES.length; g++) {
+                RollupRing ring = rings.get(g);
+                if (ring != null && ring.isExpiredAt(epochSecond)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Drops the expired rings; only called while the account is retired and has no writer.
+         *
+         * @return true if the account has no ring left.
+         */
+        private boolean dropExpiredRings(long epochSecond) {
+            boolean empty = true;
+            for (int g = 0; g < GRANULARITIES.length; g++) {
+                RollupRing ring = rings.get(g);
+                if (ring != null && ring.isExpiredAt(epochSecond)) {
+                    rings.set(g, null);
+                } else if (ring != null) {
+                    empty = false;
+                }
+            }
+            return empty;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.BatchLayout;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers how far each partition of a batch run has been posted.
+ *
+ * <p>A batch run is split into numbered partitions. Once a partition has been
+ * posted, it is marked as completed; a partition stopped midway records how many
+ * of its accounts were posted. A run interrupted midway can then be started again
+ * with the same identifier and resume exactly where it stopped. The layout of the
+ * run is recorded first, so that a resume over different partitions is refused.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link BatchCheckpointStoreImpl}: Append-only checkpoint files in a directory.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface BatchCheckpointStore {
+
+    /**
+     * Returns the layout recorded when a run was started.
+     *
+     * @param runId the identifier of the run.
+     * @return the layout of the run, or null for a new run.
+     */
+    BatchLayout getLayout(String runId);
+
+    /**
+     * Records the layout of a run before any of its partitions is posted.
+     *
+     * @param runId the identifier of the run.
+     * @param layout the layout of the run.
+     */
+    void recordLayout(String runId, BatchLayout layout);
+
+    /**
+     * Returns the partitions already completed for a run.
+     *
+     * @param runId the identifier of the run.
+     * @return the indexes of the completed partitions, empty for a new run.
+     */
+    Set<Integer> getCompletedPartitions(String runId);
+
+    /**
+     * Returns the number of accounts posted in each partition stopped midway.
+     *
+     * @param runId the identifier of the run.
+     * @return the number of accounts posted by partition index, for partitions neither new nor completed.
+     */
+    Map<Integer, Integer> getPartitionProgress(String runId);
+
+    /**
+     * Records that the first accounts of a partition have been posted.
+     *
+     * @param runId the identifier of the run.
+     * @param partition the index of the partition.
+     * @param accountsPosted the number of accounts of the partition posted so far.
+     */
+    void markProgress(String runId, int partition, int accountsPosted);
+
+    /**
+     * Marks a partition as completed.
+     *
+     * @param runId the identifier of the run.
+     * @param partition the index of the completed partition.
+     */
+    void markCompleted(String runId, int partition);
+
+    /**
+     * Forgets every checkpoint of a run, so that it can be run again from scratch.
+     *
+     * @param runId the identifier of the run.
+     */
+    void clear(String runId);
+}
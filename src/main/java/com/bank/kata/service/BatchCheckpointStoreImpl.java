@@ -0,0 +1,156 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.BatchLayout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of the BatchCheckpointStore interface.
+ *
+ * <p>Each run has its own file in the checkpoint directory. Its first line holds
+ * the layout of the run ({@code layout <partitionSize> <accountCount> <fingerprint>});
+ * then the index of every completed partition is appended on its own line, and
+ * the progress of a partition stopped midway as {@code <partition>:<accountsPosted>},
+ * the last progress line of a partition being the one that counts. Appends are
+ * synced and serialized so that concurrent partitions never interleave their lines.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BatchCheckpointStoreImpl implements BatchCheckpointStore {
+
+    /**
+     * Directory holding one checkpoint file per run.
+     */
+    private final Path directory;
+
+    /**
+     * Constructs a BatchCheckpointStoreImpl writing to the given directory.
+     *
+     * @param directory the directory holding the checkpoint files.
+     * @throws IllegalArgumentException if the directory is null.
+     */
+    public BatchCheckpointStoreImpl(Path directory) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Checkpoint directory cannot be null.");
+        }
+        this.directory = directory;
+    }
+
+    @Override
+    public BatchLayout getLayout(String runId) {
+        for (String line : readLines(runId)) {
+            String[] fields = line.split(" ");
+            if (fields.length == 4 && fields[0].equals("layout")) {
+                try {
+                    return new BatchLayout(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                            Long.parseLong(fields[3]));
+                } catch (NumberFormatException e) {
+                    throw new IllegalStateException("Corrupted layout in checkpoint of run " + runId + ".", e);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void recordLayout(String runId, BatchLayout layout) {
+        if (layout == null) {
+            throw new IllegalArgumentException("Layout cannot be null.");
+        }
+        append(runId, "layout " + layout + "\n");
+    }
+
+    @Override
+    public Set<Integer> getCompletedPartitions(String runId) {
+        Set<Integer> completed = new HashSet<>();
+        for (String line : readLines(runId)) {
+            if (!line.isBlank() && line.chars().allMatch(Character::isDigit)) {
+                completed.add(Integer.parseInt(line));
+            }
+        }
+        return completed;
+    }
+
+    @Override
+    public Map<Integer, Integer> getPartitionProgress(String runId) {
+        Map<Integer, Integer> progress = new HashMap<>();
+        Set<Integer> completed = new HashSet<>();
+        for (String line : readLines(runId)) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && colon < line.length() - 1
+                    && line.chars().allMatch(c -> c == ':' || Character.isDigit(c))
+                    && line.indexOf(':', colon + 1) < 0) {
+                progress.put(Integer.parseInt(line.substring(0, colon)), Integer.parseInt(line.substring(colon + 1)));
+            } else if (!line.isBlank() && line.chars().allMatch(Character::isDigit)) {
+                completed.add(Integer.parseInt(line));
+            }
+        }
+        progress.keySet().removeAll(completed);
+        return progress;
+    }
+
+    @Override
+    public void markProgress(String runId, int partition, int accountsPosted) {
+        append(runId, partition + ":" + accountsPosted + "\n");
+    }
+
+    @Override
+    public void markCompleted(String runId, int partition) {
+        append(runId, partition + "\n");
+    }
+
+    @Override
+    public synchronized void clear(String runId) {
+        try {
+            Files.deleteIfExists(fileOf(runId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot clear checkpoint of run " + runId, e);
+        }
+    }
+
+    private List<String> readLines(String runId) {
+        Path file = fileOf(runId);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try {
+            String content = Files.readString(file, StandardCharsets.US_ASCII);
+            // Only lines ended by a newline were fully written: a progress line cut short
+            // by a crash could otherwise read as a smaller count and post accounts twice
+            List<String> lines = new ArrayList<>(List.of(content.split("\n", -1)));
+            lines.remove(lines.size() - 1);
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read checkpoint of run " + runId, e);
+        }
+    }
+
+    private synchronized void append(String runId, String line) {
+        try {
+            Files.createDirectories(directory);
+            Files.write(fileOf(runId), line.getBytes(StandardCharsets.US_ASCII),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write checkpoint of run " + runId, e);
+        }
+    }
+
+    private Path fileOf(String runId) {
+        if (runId == null || !runId.matches("[A-Za-z0-9._-]+")) {
+            throw new IllegalArgumentException("Run id must only contain letters, digits, '.', '_' or '-'.");
+        }
+        return directory.resolve(runId + ".checkpoint");
+    }
+}
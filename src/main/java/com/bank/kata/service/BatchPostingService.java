@@ -0,0 +1,57 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.BatchReport;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Posts interest and fees to many accounts in a single batch run.
+ *
+ * <p>Accounts are split into partitions that are processed in parallel. Each
+ * completed partition is checkpointed under the run identifier, so a run that
+ * is interrupted can be started again with the same identifier and the same
+ * list of accounts, in the same order, and it resumes instead of restarting.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link BatchPostingServiceImpl}: Default implementation over an {@link AccountService}.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface BatchPostingService {
+
+    /**
+     * Accrues interest on the average daily balance of each account over a period.
+     *
+     * <p>The end-of-day balance of every day in the period is derived from the
+     * transaction history. The interest is
+     * {@code averageDailyBalance * annualRate * days / 365}, rounded to cents,
+     * and is posted as a deposit when positive.
+     *
+     * @param runId the identifier of the run, used for checkpointing.
+     * @param accounts the accounts to process.
+     * @param annualRate the yearly interest rate (e.g., 0.02 for 2%).
+     * @param from the first day of the period (inclusive).
+     * @param to the last day of the period (exclusive).
+     * @return the report of the run.
+     * @throws IllegalArgumentException if an argument is null or the period is empty.
+     */
+    BatchReport accrueInterest(String runId, List<Account> accounts, double annualRate,
+                               LocalDate from, LocalDate to);
+
+    /**
+     * Charges a fixed fee to each account.
+     *
+     * <p>The fee is posted as a withdrawal; accounts without sufficient funds
+     * are counted as rejected and left unchanged.
+     *
+     * @param runId the identifier of the run, used for checkpointing.
+     * @param accounts the accounts to process.
+     * @param fee the fee to charge to each account.
+     * @return the report of the run.
+     * @throws IllegalArgumentException if an argument is null or the fee is not positive.
+     */
+    BatchReport chargeFee(String runId, List<Account> accounts, double fee);
+}
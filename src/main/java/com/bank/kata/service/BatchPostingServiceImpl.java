@@ -0,0 +1,331 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.BatchLayout;
+import com.bank.kata.model.BatchReport;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Implementation of the BatchPostingService interface.
+ *
+ * <p>Partitions are contiguous slices of the account list, processed by a fixed
+ * pool of threads. Postings go through the non-throwing {@link AccountService}
+ * operations so that a rejected posting costs no exception.
+ *
+ * <p>Progress is checkpointed per account. Workers only stop between two
+ * accounts: when a partition fails or the run is interrupted, every other
+ * partition finishes the posting in hand, records how many of its accounts it
+ * posted and stops, so resuming the run posts each remaining account exactly
+ * once. Progress is also saved every {@value #PROGRESS_INTERVAL} accounts; if the
+ * process itself is killed, at most the accounts posted since the last save are
+ * posted again on resume, and only if their balances outlived the process.
+ * Checkpoints are kept once a run completes, so running it again with the same
+ * identifier posts nothing.
+ *
+ * <p>The layout of the run, that is the partition size and a fingerprint of the
+ * account list, is recorded with the checkpoints, and resuming a run with another
+ * layout is refused rather than skipping the wrong accounts.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BatchPostingServiceImpl implements BatchPostingService {
+
+    /**
+     * Number of accounts per partition when none is given.
+     */
+    public static final int DEFAULT_PARTITION_SIZE = 10_000;
+
+    /**
+     * Number of accounts posted between two progress checkpoints of a partition.
+     */
+    public static final int PROGRESS_INTERVAL = 1_000;
+
+    /**
+     * Service used to post the transactions.
+     */
+    private final AccountService accountService;
+
+    /**
+     * Store remembering the completed partitions of each run.
+     */
+    private final BatchCheckpointStore checkpointStore;
+
+    /**
+     * Number of accounts per partition.
+     */
+    private final int partitionSize;
+
+    /**
+     * Number of partitions processed in parallel.
+     */
+    private final int parallelism;
+
+    /**
+     * Constructs a BatchPostingServiceImpl using every available core.
+     *
+     * @param accountService the service used to post the transactions.
+     * @param checkpointStore the store remembering completed partitions.
+     * @throws IllegalArgumentException if a service is null.
+     */
+    public BatchPostingServiceImpl(AccountService accountService, BatchCheckpointStore checkpointStore) {
+        this(accountService, checkpointStore, DEFAULT_PARTITION_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a BatchPostingServiceImpl with explicit partitioning.
+     *
+     * @param accountService the service used to post the transactions.
+     * @param checkpointStore the store remembering completed partitions.
+     * @param partitionSize the number of accounts per partition.
+     * @param parallelism the number of partitions processed in parallel.
+     * @throws IllegalArgumentException if a service is null or a size is not positive.
+     */
+    public BatchPostingServiceImpl(AccountService accountService, BatchCheckpointStore checkpointStore,
+                                   int partitionSize, int parallelism) {
+        if (accountService == null) {
+            throw new IllegalArgumentException("AccountService cannot be null.");
+        }
+        if (checkpointStore == null) {
+            throw new IllegalArgumentException("BatchCheckpointStore cannot be null.");
+        }
+        if (partitionSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Partition size and parallelism must be positive.");
+        }
+        this.accountService = accountService;
+        this.checkpointStore = checkpointStore;
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public BatchReport accrueInterest(String runId, List<Account> accounts, double annualRate,
+                                      LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("The accrual period cannot be empty.");
+        }
+        long days = ChronoUnit.DAYS.between(from, to);
+        return run(runId, accounts, TransactionType.DEPOSIT, account -> {
+            double interest = averageDailyBalance(account, from, to) * annualRate * days / 365.0;
+            return Math.round(interest * 100.0) / 100.0;
+        });
+    }
+
+    @Override
+    public BatchReport chargeFee(String runId, List<Account> accounts, double fee) {
+        if (!(fee > 0)) {
+            throw new IllegalArgumentException("Fee must be positive.");
+        }
+        return run(runId, accounts, TransactionType.WITHDRAWAL, account -> fee);
+    }
+
+    /**
+     * Computes the average of the end-of-day balances of an account over a period.
+     *
+     * <p>Transactions are expected in chronological order, as recorded. When the
+     * account has no history, its current balance is used for every day. The history
+     * is copied under the account lock, and an archived one is read without being
+     * loaded back into the account.
+     *
+     * @param account the account whose balance is averaged.
+     * @param from the first day of the period (inclusive).
+     * @param to the last day of the period (exclusive).
+     * @return the average daily balance over the period.
+     */
+    static double averageDailyBalance(Account account, LocalDate from, LocalDate to) {
+        List<Transaction> transactions = account.snapshotTransactions();
+        if (transactions.isEmpty()) {
+            return account.getBalance();
+        }
+        LocalDateTime periodStart = from.atStartOfDay();
+        int index = 0;
+        int size = transactions.size();
+
+        // Opening balance: the last balance before the period, or the one preceding the first transaction
+        Transaction first = transactions.get(0);
+        double balance = first.getBalanceAfterTransaction() - signedAmount(first);
+        while (index < size && transactions.get(index).getDate().isBefore(periodStart)) {
+            balance = transactions.get(index).getBalanceAfterTransaction();
+            index++;
+        }
+
+        double sum = 0.0;
+        long days = 0;
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            LocalDateTime endOfDay = day.plusDays(1).atStartOfDay();
+            while (index < size && transactions.get(index).getDate().isBefore(endOfDay)) {
+                balance = transactions.get(index).getBalanceAfterTransaction();
+                index++;
+            }
+            sum += balance;
+            days++;
+        }
+        return sum / days;
+    }
+
+    private static double signedAmount(Transaction transaction) {
+        return transaction.getType() == TransactionType.WITHDRAWAL ? -transaction.getAmount() : transaction.getAmount();
+    }
+
+    /**
+     * Posts one amount per account, partition by partition, resuming from the checkpoints.
+     */
+    private BatchReport run(String runId, List<Account> accounts, TransactionType type,
+                            ToDoubleFunction<Account> amountOf) {
+        if (accounts == null) {
+            throw new IllegalArgumentException("Accounts cannot be null.");
+        }
+        long start = System.nanoTime();
+        BatchLayout layout = BatchLayout.of(partitionSize, accounts);
+        BatchLayout recorded = checkpointStore.getLayout(runId);
+        Set<Integer> completed = checkpointStore.getCompletedPartitions(runId);
+        Map<Integer, Integer> progress = checkpointStore.getPartitionProgress(runId);
+        if (recorded == null) {
+            if (!completed.isEmpty() || !progress.isEmpty()) {
+                throw new IllegalArgumentException("Batch run " + runId + " has checkpoints but no layout.");
+            }
+            checkpointStore.recordLayout(runId, layout);
+        } else if (!recorded.equals(layout)) {
+            throw new IllegalArgumentException("Batch run " + runId
+                    + " was started with another partition size or account list; clear it to run it again.");
+        }
+        int partitions = (accounts.size() + partitionSize - 1) / partitionSize;
+        AtomicLong processed = new AtomicLong();
+        AtomicLong posted = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicBoolean stopping = new AtomicBoolean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, partitions)));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int partition = 0; partition < partitions; partition++) {
+                if (completed.contains(partition)) {
+                    continue;
+                }
+                int index = partition;
+                int resumeAt = progress.getOrDefault(partition, 0);
+                futures.add(executor.submit(() -> {
+                    List<Account> slice = accounts.subList(index * partitionSize,
+                            Math.min(accounts.size(), (index + 1) * partitionSize));
+                    int done = resumeAt;
+                    long partitionPosted = 0;
+                    long partitionRejected = 0;
+                    try {
+                        // Stop only between two accounts, so that the recorded progress is exact
+                        while (done < slice.size() && !stopping.get() && !Thread.currentThread().isInterrupted()) {
+                            Account account = slice.get(done);
+                            double amount = amountOf.applyAsDouble(account);
+                            if (amount > 0) {
+                                OperationResult result = type == TransactionType.DEPOSIT
+                                        ? accountService.tryDeposit(account, amount)
+                                        : accountService.tryWithdraw(account, amount);
+                                if (result.isSuccessful()) {
+                                    partitionPosted++;
+                                } else {
+                                    partitionRejected++;
+                                }
+                            }
+                            done++;
+                            if (done % PROGRESS_INTERVAL == 0 && done < slice.size()) {
+                                checkpoint(runId, index, done);
+                            }
+                        }
+                        if (done < slice.size() && !stopping.get()) {
+                            throw new IllegalStateException("Partition " + index + " was interrupted.");
+                        }
+                    } catch (RuntimeException | Error e) {
+                        stopping.set(true);
+                        throw e;
+                    } finally {
+                        if (done == slice.size()) {
+                            checkpoint(runId, index, -1);
+                        } else if (done > resumeAt) {
+                            checkpoint(runId, index, done);
+                        }
+                        processed.addAndGet(done - resumeAt);
+                        posted.addAndGet(partitionPosted);
+                        rejected.addAndGet(partitionRejected);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch run " + runId + " was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch run " + runId + " failed.", e.getCause());
+        } finally {
+            stopping.set(true);
+            executor.shutdownNow();
+            awaitCheckpoints(executor);
+        }
+
+        return new BatchReport(runId, processed.get(), posted.get(), rejected.get(),
+                completed.size() + progress.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Records the progress of a partition, or its completion when accountsPosted is negative.
+     *
+     * <p>The interrupt flag is cleared while writing, as an interrupted thread
+     * cannot write to a file channel, and restored afterwards.
+     */
+    private void checkpoint(String runId, int partition, int accountsPosted) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            if (accountsPosted < 0) {
+                checkpointStore.markCompleted(runId, partition);
+            } else {
+                checkpointStore.markProgress(runId, partition, accountsPosted);
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits for the partitions still running to record their progress, so that the run
+     * can be resumed as soon as this one returns.
+     */
+    private static void awaitCheckpoints(ExecutorService executor) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                try {
+                    if (executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
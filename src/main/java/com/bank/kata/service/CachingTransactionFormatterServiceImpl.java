@@ -0,0 +1,363 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches rendered statements and extends them as new transactions are recorded.
+ *
+ * <p>Statements are cached by account id, together with the number of transactions
+ * they cover. Because a history only ever grows, a cached statement stays valid for
+ * its first rows: when the history has grown, only the rows of the new transactions
+ * are rendered by the delegate and appended. The rows are kept in chunks of about
+ * {@value #CHUNK_CHARS} characters, so that appending never copies the whole statement.
+ *
+ * <p>The cache is bounded by an estimate of its memory usage, in bytes. When the
+ * budget is exceeded, the least recently used statements are evicted. A cached
+ * statement is rendered again from scratch when the account instance changes or
+ * when its history got shorter than the cached one.
+ *
+ * <p>Only {@link #format(Account)} is served from the cache; streaming output is
+ * delegated as is.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class CachingTransactionFormatterServiceImpl implements TransactionFormatterService {
+
+    /**
+     * Default memory budget of the cache: 64 MB.
+     */
+    public static final long DEFAULT_MAX_WEIGHT_BYTES = 64L << 20;
+
+    /**
+     * Number of characters after which the row chunk being appended is sealed.
+     */
+    static final int CHUNK_CHARS = 16 * 1024;
+
+    /**
+     * Estimated fixed cost of a cache entry, in bytes.
+     */
+    static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    /**
+     * Estimated fixed cost of a sealed chunk, in bytes.
+     */
+    static final long CHUNK_OVERHEAD_BYTES = 48;
+
+    private final TransactionFormatterService delegate;
+    private final RowFormatter rowFormatter;
+    private final long maxWeightBytes;
+
+    /**
+     * Cached statements in access order, guarded by their own monitor.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rowsRendered = new LongAdder();
+
+    /**
+     * Initializes a cache with the default memory budget.
+     *
+     * @param delegate the formatter rendering the statements.
+     * @param <F> the type of a formatter able to render statements row by row.
+     * @throws IllegalArgumentException if the delegate is null.
+     */
+    public <F extends TransactionFormatterService & RowFormatter> CachingTransactionFormatterServiceImpl(F delegate) {
+        this(delegate, DEFAULT_MAX_WEIGHT_BYTES);
+    }
+
+    /**
+     * Initializes a cache with the given memory budget.
+     *
+     * @param delegate the formatter rendering the statements.
+     * @param maxWeightBytes the estimated memory the cached statements may use, in bytes.
+     * @param <F> the type of a formatter able to render statements row by row.
+     * @throws IllegalArgumentException if the delegate is null or the budget is not positive.
+     */
+    public <F extends TransactionFormatterService & RowFormatter> CachingTransactionFormatterServiceImpl(
+            F delegate, long maxWeightBytes) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate formatter cannot be null.");
+        }
+        if (maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive.");
+        }
+        this.delegate = delegate;
+        this.rowFormatter = delegate;
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    /**
+     * Returns the statement of an account, rendering only the transactions recorded
+     * since it was last cached.
+     *
+     * @param account the account whose transactions are to be formatted.
+     * @return the same text as the delegate formatter.
+     * @throws IllegalArgumentException if the account is null.
+     */
+    @Override
+    public String format(Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("The account cannot be null.");
+        }
+        String accountId = account.getAccountId();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(accountId);
+        }
+        if (entry == null || entry.account != account) {
+            entry = new Entry(account, rowFormatter.formatHeader(account));
+        }
+
+        String statement;
+        long weight;
+        synchronized (entry) {
+            int rendered = entry.catchUp();
+            if (rendered < 0) {
+                misses.increment();
+            } else if (rendered == 0) {
+                hits.increment();
+            } else {
+                appends.increment();
+            }
+            statement = entry.render();
+            weight = entry.weightBytes();
+        }
+        admit(accountId, entry, weight);
+        return statement;
+    }
+
+    @Override
+    public void writeHeader(WritableByteChannel channel) throws IOException {
+        delegate.writeHeader(channel);
+    }
+
+    @Override
+    public void write(Account account, WritableByteChannel channel) throws IOException {
+        delegate.write(account, channel);
+    }
+
+    @Override
+    public String getFileExtension() {
+        return delegate.getFileExtension();
+    }
+
+    /**
+     * Drops the cached statement of an account.
+     *
+     * @param accountId the id of the account.
+     */
+    public void invalidate(String accountId) {
+        synchronized (entries) {
+            Entry entry = entries.remove(accountId);
+            if (entry != null) {
+                weightBytes -= entry.accountedWeight;
+            }
+        }
+    }
+
+    /**
+     * Drops every cached statement. Metrics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weightBytes = 0;
+        }
+    }
+
+    /**
+     * @return the number of statements served without rendering any row.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of statements served by appending new rows to a cached one.
+     */
+    public long getAppendCount() {
+        return appends.sum();
+    }
+
+    /**
+     * @return the number of statements rendered from scratch.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of statements evicted to stay within the memory budget.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of rows rendered by the delegate since the cache was created.
+     */
+    public long getRowsRendered() {
+        return rowsRendered.sum();
+    }
+
+    /**
+     * Returns the share of requests served, fully or partly, from the cache.
+     *
+     * @return a ratio between 0 and 1, or 0 when nothing was requested yet.
+     */
+    public double getHitRate() {
+        long served = hits.sum() + appends.sum();
+        long total = served + misses.sum();
+        return total == 0 ? 0.0 : (double) served / total;
+    }
+
+    /**
+     * @return the estimated memory used by the cached statements, in bytes.
+     */
+    public long getWeightBytes() {
+        synchronized (entries) {
+            return weightBytes;
+        }
+    }
+
+    /**
+     * @return the memory budget of the cache, in bytes.
+     */
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    /**
+     * @return the number of cached statements.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Stores an entry with its new weight and evicts the least recently used ones
+     * until the cache fits in its budget again.
+     */
+    private void admit(String accountId, Entry entry, long weight) {
+        synchronized (entries) {
+            Entry current = entries.get(accountId);
+            if (current != null) {
+                weightBytes -= current.accountedWeight;
+                current.accountedWeight = 0;
+            }
+            if (weight > maxWeightBytes) {
+                // Never fits: keep it out rather than flushing the whole cache
+                entries.remove(accountId);
+                return;
+            }
+            entries.put(accountId, entry);
+            entry.accountedWeight = weight;
+            weightBytes += weight;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+                Entry evicted = eldest.next().getValue();
+                eldest.remove();
+                weightBytes -= evicted.accountedWeight;
+                evicted.accountedWeight = 0;
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * A cached statement: its header, its rendered rows and the history length they cover.
+     */
+    private final class Entry {
+        private final Account account;
+        private final String header;
+        private final List<String> sealedChunks = new ArrayList<>();
+        private StringBuilder openChunk = new StringBuilder();
+        private int sealedChars;
+        private int renderedTransactions;
+        private boolean rendered;
+
+        /**
+         * Weight accounted for this entry in the cache, guarded by the cache monitor.
+         */
+        private long accountedWeight;
+
+        private Entry(Account account, String header) {
+            this.account = account;
+            this.header = header;
+        }
+
+        /**
+         * Renders the transactions recorded since the last call.
+         *
+         * @return -1 if the statement was rendered from scratch, otherwise the number of rows appended.
+         */
+        private int catchUp() {
+            List<Transaction> rows;
+            boolean fromScratch = !rendered;
+            synchronized (account) {
+                List<Transaction> transactions = account.getTransactions();
+                if (transactions.size() < renderedTransactions) {
+                    // The history was rewritten: start over
+                    reset();
+                    fromScratch = true;
+                }
+                rows = new ArrayList<>(transactions.subList(renderedTransactions, transactions.size()));
+            }
+            for (Transaction transaction : rows) {
+                openChunk.append(rowFormatter.formatRow(account, transaction));
+                if (openChunk.length() >= CHUNK_CHARS) {
+                    sealedChunks.add(openChunk.toString());
+                    sealedChars += openChunk.length();
+                    openChunk = new StringBuilder();
+                }
+            }
+            renderedTransactions += rows.size();
+            rowsRendered.add(rows.size());
+            rendered = true;
+            return fromScratch ? -1 : rows.size();
+        }
+
+        private void reset() {
+            sealedChunks.clear();
+            openChunk = new StringBuilder();
+            sealedChars = 0;
+            renderedTransactions = 0;
+        }
+
+        private String render() {
+            if (renderedTransactions == 0) {
+                return header + rowFormatter.formatEmpty(account);
+            }
+            StringBuilder builder = new StringBuilder(header.length() + sealedChars + openChunk.length());
+            builder.append(header);
+            for (String chunk : sealedChunks) {
+                builder.append(chunk);
+            }
+            return builder.append(openChunk).toString();
+        }
+
+        private long weightBytes() {
+            long chars = header.length() + sealedChars + openChunk.capacity();
+            return ENTRY_OVERHEAD_BYTES + sealedChunks.size() * CHUNK_OVERHEAD_BYTES + 2 * chars;
+        }
+    }
+}
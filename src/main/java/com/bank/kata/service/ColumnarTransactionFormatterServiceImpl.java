@@ -0,0 +1,391 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Formats the transactions of an account as a compressed, column-oriented binary block.
+ *
+ * <p>A file starts with the 4-byte magic {@code BKC1}, followed by one block
+ * per account. All integers are big-endian:
+ * <pre>
+ * block    : length(4) idLength(2) id currencyLength(2) currency rows(4) date type amount balance
+ * column   : encoding(1) length(4) data
+ * </pre>
+ * Columns are compressed independently:
+ * <ul>
+ *     <li>dates are UTC epoch microseconds, stored as zig-zag varint deltas;</li>
+ *     <li>types are run-length encoded as (varint run, ordinal byte) pairs;</li>
+ *     <li>amounts and balances are stored as zig-zag varint deltas of cents when every
+ *         value is an exact number of cents, and as raw doubles otherwise.</li>
+ * </ul>
+ * Since the output is binary, {@link #format(Account)} returns it encoded in Base64;
+ * exports should use {@link #write(Account, WritableByteChannel)}.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ColumnarTransactionFormatterServiceImpl implements TransactionFormatterService {
+
+    static final byte[] MAGIC = {'B', 'K', 'C', '1'};
+
+    static final byte DELTA_VARINT = 1;
+    static final byte RUN_LENGTH = 2;
+    static final byte CENTS_DELTA_VARINT = 3;
+    static final byte RAW_DOUBLE = 4;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    /**
+     * Formats the transactions of a given account as a one-block file, encoded in Base64.
+     *
+     * @param account the account whose transactions are to be formatted.
+     * @return the Base64 text of the magic followed by the account block.
+     * @throws IllegalArgumentException if the account is null.
+     */
+    @Override
+    public String format(Account account) {
+        ByteBuffer block = encode(account);
+        byte[] bytes = new byte[MAGIC.length + block.remaining()];
+        System.arraycopy(MAGIC, 0, bytes, 0, MAGIC.length);
+        block.get(bytes, MAGIC.length, block.remaining());
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    @Override
+    public void writeHeader(WritableByteChannel channel) throws IOException {
+        writeFully(channel, ByteBuffer.wrap(MAGIC));
+    }
+
+    @Override
+    public void write(Account account, WritableByteChannel channel) throws IOException {
+        writeFully(channel, encode(account));
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "bkc";
+    }
+
+    /**
+     * Encodes the block of one account.
+     *
+     * @param account the account to encode.
+     * @return a buffer positioned at the start of the block.
+     */
+    static ByteBuffer encode(Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("The account cannot be null.");
+        }
+        // Copy the history under the account lock, as deposits append to it concurrently
+        List<Transaction> transactions;
+        synchronized (account) {
+            transactions = new ArrayList<>(account.getTransactions());
+        }
+        int rows = transactions.size();
+        byte[] id = String.valueOf(account.getAccountId()).getBytes(StandardCharsets.UTF_8);
+        byte[] currency = String.valueOf(account.getCurrency()).getBytes(StandardCharsets.UTF_8);
+        Output out = new Output(64 + id.length + currency.length + rows * 12);
+
+        out.ensure(4 + 2 + id.length + 2 + currency.length + 4);
+        out.buffer.putInt(0); // length, patched below
+        out.buffer.putShort((short) id.length).put(id);
+        out.buffer.putShort((short) currency.length).put(currency);
+        out.buffer.putInt(rows);
+
+        // Dates: delta-encoded epoch microseconds
+        int column = out.beginColumn(DELTA_VARINT);
+        long previous = 0;
+        for (Transaction transaction : transactions) {
+            long micros = toEpochMicros(transaction.getDate());
+            out.varint(zigZag(micros - previous));
+            previous = micros;
+        }
+        out.endColumn(column);
+
+        // Types: run-length encoded ordinals
+        column = out.beginColumn(RUN_LENGTH);
+        int index = 0;
+        while (index < rows) {
+            TransactionType type = transactions.get(index).getType();
+            int run = 1;
+            while (index + run < rows && transactions.get(index + run).getType() == type) {
+                run++;
+            }
+            out.varint(run);
+            out.ensure(1);
+            out.buffer.put((byte) type.ordinal());
+            index += run;
+        }
+        out.endColumn(column);
+
+        double[] values = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            values[i] = transactions.get(i).getAmount();
+        }
+        writeDoubles(out, values);
+        for (int i = 0; i < rows; i++) {
+            values[i] = transactions.get(i).getBalanceAfterTransaction();
+        }
+        writeDoubles(out, values);
+
+        ByteBuffer buffer = out.buffer;
+        buffer.putInt(0, buffer.position() - 4);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes a file made of the magic followed by any number of blocks.
+     *
+     * @param buffer the content of the file.
+     * @return the decoded blocks, in file order.
+     * @throws IllegalArgumentException if the content is not in this format.
+     */
+    public static List<StatementBlock> read(ByteBuffer buffer) {
+        readMagic(buffer);
+        List<StatementBlock> blocks = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            blocks.add(readBlock(buffer));
+        }
+        return blocks;
+    }
+
+    /**
+     * Checks the magic at the start of a file and moves past it.
+     *
+     * @param buffer the content of the file, positioned at its start.
+     * @throws IllegalArgumentException if the content is not in this format.
+     */
+    public static void readMagic(ByteBuffer buffer) {
+        for (byte b : MAGIC) {
+            if (!buffer.hasRemaining() || buffer.get() != b) {
+                throw new IllegalArgumentException("Not a columnar statement file.");
+            }
+        }
+    }
+
+    /**
+     * Decodes the block at the position of the buffer and moves past it.
+     *
+     * <p>Each block starts with its length as an int, which lets a reader skip
+     * blocks without decoding them.
+     *
+     * @param buffer the content of the file, positioned at the start of a block.
+     * @return the decoded block.
+     */
+    public static StatementBlock readBlock(ByteBuffer buffer) {
+        int end = buffer.getInt() + buffer.position();
+        byte[] id = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(id);
+        byte[] currency = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(currency);
+        int rows = buffer.getInt();
+
+        long[] dates = new long[rows];
+        expectColumn(buffer, DELTA_VARINT);
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            previous += unZigZag(readVarint(buffer));
+            dates[i] = previous;
+        }
+
+        TransactionType[] types = new TransactionType[rows];
+        expectColumn(buffer, RUN_LENGTH);
+        for (int i = 0; i < rows; ) {
+            int run = (int) readVarint(buffer);
+            TransactionType type = TYPES[buffer.get()];
+            for (int r = 0; r < run; r++) {
+                types[i++] = type;
+            }
+        }
+
+        double[] amounts = readDoubles(buffer, rows);
+        double[] balances = readDoubles(buffer, rows);
+        buffer.position(end);
+        return new StatementBlock(new String(id, StandardCharsets.UTF_8),
+                new String(currency, StandardCharsets.UTF_8), dates, types, amounts, balances);
+    }
+
+    private static void writeDoubles(Output out, double[] values) {
+        boolean cents = true;
+        for (int i = 0; i < values.length && cents; i++) {
+            double scaled = values[i] * 100.0;
+            cents = Math.abs(scaled) < 1e15 && Math.round(scaled) / 100.0 == values[i];
+        }
+        if (cents) {
+            int column = out.beginColumn(CENTS_DELTA_VARINT);
+            long previous = 0;
+            for (double value : values) {
+                long current = Math.round(value * 100.0);
+                out.varint(zigZag(current - previous));
+                previous = current;
+            }
+            out.endColumn(column);
+        } else {
+            int column = out.beginColumn(RAW_DOUBLE);
+            out.ensure(values.length * 8);
+            for (double value : values) {
+                out.buffer.putDouble(value);
+            }
+            out.endColumn(column);
+        }
+    }
+
+    private static double[] readDoubles(ByteBuffer buffer, int rows) {
+        byte encoding = buffer.get();
+        buffer.getInt();
+        double[] values = new double[rows];
+        if (encoding == CENTS_DELTA_VARINT) {
+            long previous = 0;
+            for (int i = 0; i < rows; i++) {
+                previous += unZigZag(readVarint(buffer));
+                values[i] = previous / 100.0;
+            }
+        } else if (encoding == RAW_DOUBLE) {
+            for (int i = 0; i < rows; i++) {
+                values[i] = buffer.getDouble();
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown column encoding: " + encoding);
+        }
+        return values;
+    }
+
+    private static void expectColumn(ByteBuffer buffer, byte encoding) {
+        if (buffer.get() != encoding) {
+            throw new IllegalArgumentException("Unexpected column encoding.");
+        }
+        buffer.getInt();
+    }
+
+    static long toEpochMicros(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + date.getNano() / 1_000;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Growable output buffer.
+     */
+    private static final class Output {
+        private ByteBuffer buffer;
+
+        private Output(int capacity) {
+            this.buffer = ByteBuffer.allocate(capacity);
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+
+        private int beginColumn(byte encoding) {
+            ensure(5);
+            buffer.put(encoding);
+            int lengthPosition = buffer.position();
+            buffer.putInt(0);
+            return lengthPosition;
+        }
+
+        private void endColumn(int lengthPosition) {
+            buffer.putInt(lengthPosition, buffer.position() - lengthPosition - 4);
+        }
+
+        private void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+    }
+
+    /**
+     * Decoded block of one account.
+     */
+    public static final class StatementBlock {
+        private final String accountId;
+        private final String currency;
+        private final long[] epochMicros;
+        private final TransactionType[] types;
+        private final double[] amounts;
+        private final double[] balances;
+
+        StatementBlock(String accountId, String currency, long[] epochMicros, TransactionType[] types,
+                       double[] amounts, double[] balances) {
+            this.accountId = accountId;
+            this.currency = currency;
+            this.epochMicros = epochMicros;
+            this.types = types;
+            this.amounts = amounts;
+            this.balances = balances;
+        }
+
+        public String getAccountId() {
+            return accountId;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        /**
+         * Returns the transaction dates as UTC epoch microseconds.
+         */
+        public long[] getEpochMicros() {
+            return epochMicros;
+        }
+
+        public TransactionType[] getTypes() {
+            return types;
+        }
+
+        public double[] getAmounts() {
+            return amounts;
+        }
+
+        public double[] getBalances() {
+            return balances;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formats the transactions of an account as comma-separated values (RFC 4180).
+ *
+ * <p>Each row carries the account identifier and currency, so that the rows
+ * of many accounts can share one file under a single header:
+ * <pre>
+ * account_id,currency,date,type,amount,balance_after_transaction
+ * </pre>
+ * Amounts are written with {@link Double#toString(double)}, which round-trips exactly.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class CsvTransactionFormatterServiceImpl implements TransactionFormatterService, RowFormatter {
+
+    /**
+     * Header row, terminated by CRLF.
+     */
+    static final String HEADER = "account_id,currency,date,type,amount,balance_after_transaction\r\n";
+
+    /**
+     * Formats the transactions of a given account as CSV, header included.
+     *
+     * @param account the account whose transactions are to be formatted.
+     * @return the CSV text, with one row per transaction.
+     * @throws IllegalArgumentException if the account is null.
+     */
+    @Override
+    public String format(Account account) {
+        return appendRows(new StringBuilder(HEADER), account).toString();
+    }
+
+    @Override
+    public void writeHeader(WritableByteChannel channel) throws IOException {
+        writeFully(channel, ByteBuffer.wrap(HEADER.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Override
+    public void write(Account account, WritableByteChannel channel) throws IOException {
+        StringBuilder rows = appendRows(new StringBuilder(), account);
+        writeFully(channel, ByteBuffer.wrap(rows.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "csv";
+    }
+
+    @Override
+    public String formatHeader(Account account) {
+        return HEADER;
+    }
+
+    @Override
+    public String formatRow(Account account, Transaction transaction) {
+        StringBuilder builder = new StringBuilder();
+        appendPrefix(builder, account);
+        return appendRow(builder, transaction).toString();
+    }
+
+    @Override
+    public String formatEmpty(Account account) {
+        return "";
+    }
+
+    private static StringBuilder appendRows(StringBuilder builder, Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("The account cannot be null.");
+        }
+        StringBuilder prefix = appendPrefix(new StringBuilder(), account);
+
+        // Copy the history under the account lock, as deposits append to it concurrently
+        List<Transaction> transactions;
+        synchronized (account) {
+            transactions = new ArrayList<>(account.getTransactions());
+        }
+        for (Transaction transaction : transactions) {
+            appendRow(builder.append(prefix), transaction);
+        }
+        return builder;
+    }
+
+    private static StringBuilder appendPrefix(StringBuilder builder, Account account) {
+        field(builder, account.getAccountId());
+        builder.append(',');
+        field(builder, account.getCurrency());
+        return builder.append(',');
+    }
+
+    private static StringBuilder appendRow(StringBuilder builder, Transaction transaction) {
+        return builder.append(transaction.getDate()).append(',')
+                .append(transaction.getType()).append(',')
+                .append(transaction.getAmount()).append(',')
+                .append(transaction.getBalanceAfterTransaction()).append("\r\n");
+    }
+
+    /**
+     * Appends a field, quoting it when it contains a comma, a quote or a line break.
+     */
+    private static void field(StringBuilder builder, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            builder.append(value);
+            return;
+        }
+        builder.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bank.kata.service;
+
+import java.util.Map;
+
+/**
+ * Provides exchange rates between currencies.
+ *
+ * <p>Rates are expressed against a common reference unit: a rate of 1.10 for
+ * "USD" means one US dollar is worth 1.10 reference units. The rate between
+ * two currencies is derived from their reference rates. Currencies are
+ * identified by the ids assigned by {@link com.bank.kata.model.CurrencyRegistry}.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link ExchangeRateServiceImpl}: In-process rate table with atomically swapped snapshots.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface ExchangeRateService {
+
+    /**
+     * Returns the rate to convert an amount from one currency into another.
+     *
+     * @param fromCurrencyId the id of the currency of the amount.
+     * @param toCurrencyId the id of the target currency.
+     * @return the conversion rate, 1.0 for identical currencies, or {@code NaN} if a rate is missing.
+     */
+    double getRate(int fromCurrencyId, int toCurrencyId);
+
+    /**
+     * Replaces the whole rate table at once.
+     *
+     * @param ratesToReference the value of one unit of each currency in reference units.
+     * @throws IllegalArgumentException if the map is null or contains a non-positive rate.
+     */
+    void updateRates(Map<String, Double> ratesToReference);
+
+    /**
+     * Sets or replaces the reference rate of a single currency.
+     *
+     * @param currency the currency code.
+     * @param rateToReference the value of one unit of the currency in reference units.
+     * @throws IllegalArgumentException if the rate is not positive.
+     */
+    void setRate(String currency, double rateToReference);
+
+    /**
+     * Returns the version of the rate table currently in use.
+     *
+     * @return a number that increases each time the rates are changed.
+     */
+    long getVersion();
+}
@@ -0,0 +1,101 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.CurrencyRegistry;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementation of the ExchangeRateService interface.
+ *
+ * <p>Rates are held in an immutable, versioned snapshot indexed by currency id.
+ * Writers build a new snapshot and swap it in atomically, so readers never
+ * block and always see a consistent table.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ExchangeRateServiceImpl implements ExchangeRateService {
+
+    /**
+     * The rate table currently in use.
+     */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0L, new double[0]));
+
+    @Override
+    public double getRate(int fromCurrencyId, int toCurrencyId) {
+        if (fromCurrencyId == toCurrencyId) {
+            return 1.0;
+        }
+        double[] rates = snapshot.get().ratesToReference;
+        if (fromCurrencyId < 0 || toCurrencyId < 0
+                || fromCurrencyId >= rates.length || toCurrencyId >= rates.length) {
+            return Double.NaN;
+        }
+        double from = rates[fromCurrencyId];
+        double to = rates[toCurrencyId];
+        // Missing rates are stored as zero
+        if (from == 0.0 || to == 0.0) {
+            return Double.NaN;
+        }
+        return from / to;
+    }
+
+    @Override
+    public void updateRates(Map<String, Double> ratesToReference) {
+        if (ratesToReference == null) {
+            throw new IllegalArgumentException("Rates cannot be null.");
+        }
+        double[] rates = new double[0];
+        for (Map.Entry<String, Double> entry : ratesToReference.entrySet()) {
+            rates = put(rates, CurrencyRegistry.idOf(entry.getKey()), validate(entry.getValue()));
+        }
+        Snapshot current;
+        do {
+            current = snapshot.get();
+        } while (!snapshot.compareAndSet(current, new Snapshot(current.version + 1, rates)));
+    }
+
+    @Override
+    public void setRate(String currency, double rateToReference) {
+        int id = CurrencyRegistry.idOf(currency);
+        double rate = validate(rateToReference);
+        Snapshot current;
+        do {
+            current = snapshot.get();
+        } while (!snapshot.compareAndSet(current,
+                new Snapshot(current.version + 1, put(current.ratesToReference.clone(), id, rate))));
+    }
+
+    @Override
+    public long getVersion() {
+        return snapshot.get().version;
+    }
+
+    private static double validate(Double rate) {
+        if (rate == null || !(rate > 0) || rate.isInfinite()) {
+            throw new IllegalArgumentException("Exchange rate must be positive.");
+        }
+        return rate;
+    }
+
+    private static double[] put(double[] rates, int id, double rate) {
+        double[] target = id < rates.length ? rates : Arrays.copyOf(rates, Math.max(id + 1, CurrencyRegistry.size()));
+        target[id] = rate;
+        return target;
+    }
+
+    /**
+     * Immutable rate table, indexed by currency id.
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final double[] ratesToReference;
+
+        private Snapshot(long version, double[] ratesToReference) {
+            this.version = version;
+            this.ratesToReference = ratesToReference;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bank.kata.service;
+
+/**
+ * Cursor of a single consumer on the transaction change feed.
+ *
+ * <p>A subscription remembers the next sequence number its consumer will read
+ * and how many events it missed because it fell more than the feed capacity
+ * behind. A subscription is meant to be polled by one thread at a time.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class FeedSubscription {
+
+    /**
+     * Name of the consumer owning this cursor.
+     */
+    private final String consumerName;
+
+    /**
+     * Next sequence number to read.
+     */
+    private volatile long position;
+
+    /**
+     * Number of events overwritten before this consumer could read them.
+     */
+    private volatile long missedEvents;
+
+    FeedSubscription(String consumerName, long position) {
+        this.consumerName = consumerName;
+        this.position = position;
+    }
+
+    /**
+     * Returns the name of the consumer owning this cursor.
+     *
+     * @return the consumer name.
+     */
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    /**
+     * Returns the next sequence number this consumer will read.
+     *
+     * @return the position of the cursor.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of events this consumer missed because it was too slow.
+     *
+     * @return the number of overwritten events skipped by the cursor.
+     */
+    public long getMissedEvents() {
+        return missedEvents;
+    }
+
+    void advanceTo(long position) {
+        this.position = position;
+    }
+
+    void skip(long missed, long position) {
+        this.missedEvents = this.missedEvents + missed;
+        this.position = position;
+    }
+}
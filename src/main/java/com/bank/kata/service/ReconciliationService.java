@@ -0,0 +1,51 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ReconciliationReport;
+import com.bank.kata.repository.AccountRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Verifies the balance chain of many accounts.
+ *
+ * <p>Every transaction records the balance after it was applied. For each account,
+ * a reconciliation checks that:
+ * - The balance after each transaction is the previous one plus the amount of a
+ *   deposit, or minus the amount of a withdrawal, starting from zero.
+ * - The balance after the last transaction is the balance of the account.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link ReconciliationServiceImpl}: Fork-join implementation over live accounts or columnar exports.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface ReconciliationService {
+
+    /**
+     * Reconciles the histories held in memory by the given accounts.
+     *
+     * @param accounts the accounts to check.
+     * @return the report of the reconciliation.
+     * @throws IllegalArgumentException if the list or one of its accounts is null.
+     */
+    ReconciliationReport reconcile(List<Account> accounts);
+
+    /**
+     * Reconciles histories exported in the columnar format, without loading them
+     * all in memory.
+     *
+     * <p>When a repository is given, the last balance of each history is also
+     * compared with the balance of the account stored under the same id.
+     *
+     * @param files the files written by {@link ColumnarTransactionFormatterServiceImpl}.
+     * @param repository the accounts to compare final balances with, or null to only check the chains.
+     * @return the report of the reconciliation.
+     * @throws IOException if a file cannot be read.
+     * @throws IllegalArgumentException if the list or one of its files is null, or a file is not in the columnar format.
+     */
+    ReconciliationReport reconcileFiles(List<Path> files, AccountRepository repository) throws IOException;
+}
@@ -0,0 +1,411 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Discrepancy;
+import com.bank.kata.model.DiscrepancyKind;
+import com.bank.kata.model.ReconciliationReport;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.repository.AccountRepository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implementation of the ReconciliationService interface.
+ *
+ * <p>Accounts are split recursively on a {@link ForkJoinPool} until a slice holds
+ * at most {@code accountsPerTask} accounts, which are checked sequentially. Partial
+ * results are merged left to right, so the discrepancies kept in the report are
+ * always the first ones in account order.
+ *
+ * <p>Live histories are read in place, under the account lock so that they cannot
+ * change while they are checked; archived histories are read from their archive
+ * without being loaded back into the account. Exported files are memory-mapped in windows of at
+ * most {@value #MAX_WINDOW_BYTES} bytes ending on a block boundary, and decoded one
+ * block, that is one account, at a time.
+ *
+ * <p>Balances are compared with a tolerance of {@value #TOLERANCE}, far below a cent.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ReconciliationServiceImpl implements ReconciliationService {
+
+    /**
+     * Number of accounts checked sequentially by a task when none is given.
+     */
+    public static final int DEFAULT_ACCOUNTS_PER_TASK = 256;
+
+    /**
+     * Number of discrepancies kept in a report when none is given.
+     */
+    public static final int DEFAULT_MAX_REPORTED = 100;
+
+    /**
+     * Largest difference between two balances still considered equal.
+     */
+    static final double TOLERANCE = 1e-6;
+
+    /**
+     * Largest region of a file mapped at once.
+     */
+    static final long MAX_WINDOW_BYTES = 1L << 30;
+
+    /**
+     * Pool running the reconciliation tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Number of accounts below which a task stops splitting.
+     */
+    private final int accountsPerTask;
+
+    /**
+     * Number of discrepancies kept in a report.
+     */
+    private final int maxReported;
+
+    /**
+     * Constructs a ReconciliationServiceImpl running on the common pool.
+     */
+    public ReconciliationServiceImpl() {
+        this(ForkJoinPool.commonPool(), DEFAULT_ACCOUNTS_PER_TASK, DEFAULT_MAX_REPORTED);
+    }
+
+    /**
+     * Constructs a ReconciliationServiceImpl with explicit tuning.
+     *
+     * @param pool the pool running the reconciliation tasks.
+     * @param accountsPerTask the number of accounts below which a task stops splitting.
+     * @param maxReported the number of discrepancies kept in a report.
+     * @throws IllegalArgumentException if the pool is null, the task size is not positive or the report size is negative.
+     */
+    public ReconciliationServiceImpl(ForkJoinPool pool, int accountsPerTask, int maxReported) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null.");
+        }
+        if (accountsPerTask <= 0) {
+            throw new IllegalArgumentException("Task size must be positive.");
+        }
+        if (maxReported < 0) {
+            throw new IllegalArgumentException("Report size cannot be negative.");
+        }
+        this.pool = pool;
+        this.accountsPerTask = accountsPerTask;
+        this.maxReported = maxReported;
+    }
+
+    @Override
+    public ReconciliationReport reconcile(List<Account> accounts) {
+        if (accounts == null) {
+            throw new IllegalArgumentException("Accounts cannot be null.");
+        }
+        List<Account> indexed = accounts instanceof RandomAccess ? accounts : new ArrayList<>(accounts);
+        long begin = System.nanoTime();
+        Tally tally = pool.invoke(new AccountTask(indexed, 0, indexed.size()));
+        return tally.toReport(System.nanoTime() - begin);
+    }
+
+    @Override
+    public ReconciliationReport reconcileFiles(List<Path> files, AccountRepository repository) throws IOException {
+        if (files == null) {
+            throw new IllegalArgumentException("Files cannot be null.");
+        }
+        long begin = System.nanoTime();
+        List<Window> windows = new ArrayList<>();
+        for (Path file : files) {
+            if (file == null) {
+                throw new IllegalArgumentException("File cannot be null.");
+            }
+            map(file, windows);
+        }
+        Tally tally = pool.invoke(new WindowTask(windows, 0, windows.size(), repository));
+        return tally.toReport(System.nanoTime() - begin);
+    }
+
+    /**
+     * Checks the history of a live account.
+     */
+    private void check(Account account, Tally tally) {
+        if (account == null) {
+            throw new IllegalArgumentException("The account cannot be null.");
+        }
+        long before = tally.discrepancies;
+        synchronized (account) {
+            // An archived history is read from its handle, so that checking it does not keep it in memory
+            List<Transaction> transactions = account.isArchived()
+                    ? account.snapshotTransactions()
+                    : account.getTransactions();
+            int rows = transactions.size();
+            double previous = 0.0;
+            for (int i = 0; i < rows; i++) {
+                Transaction transaction = transactions.get(i);
+                double actual = transaction.getBalanceAfterTransaction();
+                double expected = transaction.getType() == TransactionType.DEPOSIT
+                        ? previous + transaction.getAmount()
+                        : previous - transaction.getAmount();
+                if (!matches(expected, actual)) {
+                    tally.report(new Discrepancy(account.getAccountId(), DiscrepancyKind.BROKEN_CHAIN, i, expected, actual));
+                }
+                // Resynchronize on the recorded balance so that one bad row is reported once
+                previous = actual;
+            }
+            if (!matches(previous, account.getBalance())) {
+                tally.report(new Discrepancy(account.getAccountId(), DiscrepancyKind.BALANCE_MISMATCH, -1,
+                        previous, account.getBalance()));
+            }
+            tally.rows += rows;
+        }
+        tally.close(before);
+    }
+
+    /**
+     * Checks a history decoded from a columnar file.
+     */
+    private void check(ColumnarTransactionFormatterServiceImpl.StatementBlock block,
+                       AccountRepository repository, Tally tally) {
+        long before = tally.discrepancies;
+        TransactionType[] types = block.getTypes();
+        double[] amounts = block.getAmounts();
+        double[] balances = block.getBalances();
+        double previous = 0.0;
+        for (int i = 0; i < balances.length; i++) {
+            double expected = types[i] == TransactionType.DEPOSIT ? previous + amounts[i] : previous - amounts[i];
+            if (!matches(expected, balances[i])) {
+                tally.report(new Discrepancy(block.getAccountId(), DiscrepancyKind.BROKEN_CHAIN, i,
+                        expected, balances[i]));
+            }
+            previous = balances[i];
+        }
+        tally.rows += balances.length;
+
+        if (repository != null) {
+            Optional<Account> account = repository.findById(block.getAccountId());
+            if (account.isEmpty()) {
+                tally.report(new Discrepancy(block.getAccountId(), DiscrepancyKind.UNKNOWN_ACCOUNT, -1,
+                        previous, Double.NaN));
+            } else if (!matches(previous, account.get().getBalance())) {
+                tally.report(new Discrepancy(block.getAccountId(), DiscrepancyKind.BALANCE_MISMATCH, -1,
+                        previous, account.get().getBalance()));
+            }
+        }
+        tally.close(before);
+    }
+
+    private static boolean matches(double expected, double actual) {
+        return Math.abs(expected - actual) <= TOLERANCE;
+    }
+
+    /**
+     * Maps a file as windows holding whole blocks, and records where each block starts.
+     */
+    private static void map(Path file, List<Window> windows) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer magic = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(size, ColumnarTransactionFormatterServiceImpl.MAGIC.length));
+            ColumnarTransactionFormatterServiceImpl.readMagic(magic);
+
+            long start = ColumnarTransactionFormatterServiceImpl.MAGIC.length;
+            while (start < size) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(size - start, MAX_WINDOW_BYTES));
+                int[] offsets = new int[1024];
+                int count = 0;
+                int position = 0;
+                while (buffer.limit() - position >= 4) {
+                    long end = position + 4L + buffer.getInt(position);
+                    if (end > buffer.limit()) {
+                        break;
+                    }
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                    }
+                    offsets[count++] = position;
+                    position = (int) end;
+                }
+                if (count == 0) {
+                    throw new IllegalArgumentException("Truncated or oversized block in " + file + ".");
+                }
+                windows.add(new Window(buffer, offsets, count));
+                start += position;
+            }
+        }
+    }
+
+    /**
+     * A mapped region of a file and the offsets of the blocks it holds.
+     */
+    private static final class Window {
+        private final ByteBuffer buffer;
+        private final int[] offsets;
+        private final int count;
+
+        private Window(ByteBuffer buffer, int[] offsets, int count) {
+            this.buffer = buffer;
+            this.offsets = offsets;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Counters and first discrepancies of a slice of accounts.
+     */
+    private final class Tally {
+        private long accounts;
+        private long rows;
+        private long discrepancies;
+        private long inconsistentAccounts;
+        private final List<Discrepancy> reported = new ArrayList<>();
+
+        private void report(Discrepancy discrepancy) {
+            discrepancies++;
+            if (reported.size() < maxReported) {
+                reported.add(discrepancy);
+            }
+        }
+
+        /**
+         * Ends the check of an account, given the discrepancy count before it started.
+         */
+        private void close(long discrepanciesBefore) {
+            accounts++;
+            if (discrepancies > discrepanciesBefore) {
+                inconsistentAccounts++;
+            }
+        }
+
+        /**
+         * Adds the results of the slice that follows this one.
+         */
+        private Tally merge(Tally next) {
+            accounts += next.accounts;
+            rows += next.rows;
+            discrepancies += next.discrepancies;
+            inconsistentAccounts += next.inconsistentAccounts;
+            for (int i = 0; i < next.reported.size() && reported.size() < maxReported; i++) {
+                reported.add(next.reported.get(i));
+            }
+            return this;
+        }
+
+        private ReconciliationReport toReport(long elapsedNanos) {
+            return new ReconciliationReport(accounts, rows, discrepancies, inconsistentAccounts,
+                    reported, elapsedNanos);
+        }
+    }
+
+    /**
+     * Checks a slice of live accounts, splitting it while it is too large.
+     */
+    @SuppressWarnings("serial")
+    private final class AccountTask extends RecursiveTask<Tally> {
+        private final List<Account> accounts;
+        private final int from;
+        private final int to;
+
+        private AccountTask(List<Account> accounts, int from, int to) {
+            this.accounts = accounts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= accountsPerTask) {
+                Tally tally = new Tally();
+                for (int i = from; i < to; i++) {
+                    check(accounts.get(i), tally);
+                }
+                return tally;
+            }
+            int middle = (from + to) >>> 1;
+            AccountTask left = new AccountTask(accounts, from, middle);
+            left.fork();
+            Tally right = new AccountTask(accounts, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Checks a slice of mapped windows, splitting it down to single windows.
+     */
+    @SuppressWarnings("serial")
+    private final class WindowTask extends RecursiveTask<Tally> {
+        private final List<Window> windows;
+        private final int from;
+        private final int to;
+        private final AccountRepository repository;
+
+        private WindowTask(List<Window> windows, int from, int to, AccountRepository repository) {
+            this.windows = windows;
+            this.from = from;
+            this.to = to;
+            this.repository = repository;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from == 0) {
+                return new Tally();
+            }
+            if (to - from == 1) {
+                Window window = windows.get(from);
+                return new BlockTask(window, 0, window.count, repository).compute();
+            }
+            int middle = (from + to) >>> 1;
+            WindowTask left = new WindowTask(windows, from, middle, repository);
+            left.fork();
+            Tally right = new WindowTask(windows, middle, to, repository).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Checks a slice of the blocks of a window, splitting it while it is too large.
+     */
+    @SuppressWarnings("serial")
+    private final class BlockTask extends RecursiveTask<Tally> {
+        private final Window window;
+        private final int from;
+        private final int to;
+        private final AccountRepository repository;
+
+        private BlockTask(Window window, int from, int to, AccountRepository repository) {
+            this.window = window;
+            this.from = from;
+            this.to = to;
+            this.repository = repository;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= accountsPerTask) {
+                Tally tally = new Tally();
+                ByteBuffer buffer = window.buffer.duplicate();
+                for (int i = from; i < to; i++) {
+                    buffer.position(window.offsets[i]);
+                    check(ColumnarTransactionFormatterServiceImpl.readBlock(buffer), repository, tally);
+                }
+                return tally;
+            }
+            int middle = (from + to) >>> 1;
+            BlockTask left = new BlockTask(window, from, middle, repository);
+            left.fork();
+            Tally right = new BlockTask(window, middle, to, repository).compute();
+            return left.join().merge(right);
+        }
+    }
+}
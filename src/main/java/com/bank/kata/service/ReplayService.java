@@ -0,0 +1,59 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ReplayPoint;
+import com.bank.kata.model.TransactionEvent;
+import com.bank.kata.repository.AccountRepository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds accounts as they were at a past moment.
+ *
+ * <p>A replay reads recorded transaction events, in feed order, and applies them to
+ * fresh copies of the accounts the same way {@link AccountServiceImpl} applied them,
+ * recomputing every balance. Each rebuilt transaction keeps the date it was recorded
+ * with, and nothing is read from the system clock, so replaying the same journal to
+ * the same point always gives the same accounts. Live accounts are never modified.
+ *
+ * <p>Each replayed balance must match the balance recorded with its transaction, so a
+ * journal missing earlier transactions of an account is rejected rather than replayed.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link ReplayServiceImpl}: Partitions the accounts across a fork-join pool.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface ReplayService {
+
+    /**
+     * Rebuilds one account at a given point.
+     *
+     * @param account the account to rebuild, providing its identity, owner and currency.
+     * @param journal the recorded events, in increasing sequence order.
+     * @param point the moment at which the account is rebuilt.
+     * @return a new account holding the balance and the transactions of the account at that point.
+     * @throws IllegalArgumentException if an argument is null, the journal is out of order or
+     *                                  it is missing transactions of the account.
+     */
+    Account reconstruct(Account account, List<TransactionEvent> journal, ReplayPoint point);
+
+    /**
+     * Rebuilds every account of the repository at a given point.
+     *
+     * <p>Accounts without transactions up to the point are rebuilt with a zero balance;
+     * for a date point, accounts opened after that date are left out.
+     *
+     * @param journal the recorded events, in increasing sequence order.
+     * @param repository the repository providing the identity, owner and currency of the accounts.
+     * @param point the moment at which the accounts are rebuilt.
+     * @return the rebuilt accounts by account identifier.
+     * @throws IllegalArgumentException if an argument is null, the journal is out of order,
+     *                                  it is missing transactions of an account or
+     *                                  it refers to an account missing from the repository.
+     */
+    Map<String, Account> reconstructAll(List<TransactionEvent> journal, AccountRepository repository,
+                                        ReplayPoint point);
+}
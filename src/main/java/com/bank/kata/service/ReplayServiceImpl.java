@@ -0,0 +1,254 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ReplayPoint;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionEvent;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.repository.AccountRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implementation of the ReplayService interface.
+ *
+ * <p>To rebuild every account, a first sequential pass checks the order of the journal
+ * and spreads the positions of the events to replay over {@code partitions} partitions,
+ * by hash of the account identifier. All the events of an account land in the same
+ * partition, in feed order, so partitions are then replayed in parallel on a
+ * {@link ForkJoinPool} without any locking, each into its own map of accounts.
+ *
+ * <p>The journal is usually read from the change feed, a bounded ring that overwrites
+ * its oldest events. Every replayed balance is therefore checked against the balance
+ * recorded with the transaction, so a journal that does not start at the first
+ * transaction of an account, or skips one, is rejected instead of giving a wrong balance.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ReplayServiceImpl implements ReplayService {
+
+    /**
+     * Pool replaying the partitions.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Number of partitions the accounts are spread over.
+     */
+    private final int partitions;
+
+    /**
+     * Constructs a ReplayServiceImpl running on the common pool, with one partition per core.
+     */
+    public ReplayServiceImpl() {
+        this(ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a ReplayServiceImpl with explicit tuning.
+     *
+     * @param pool the pool replaying the partitions.
+     * @param partitions the number of partitions the accounts are spread over.
+     * @throws IllegalArgumentException if the pool is null or the number of partitions is not positive.
+     */
+    public ReplayServiceImpl(ForkJoinPool pool, int partitions) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null.");
+        }
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive.");
+        }
+        this.pool = pool;
+        this.partitions = partitions;
+    }
+
+    @Override
+    public Account reconstruct(Account account, List<TransactionEvent> journal, ReplayPoint point) {
+        if (account == null) {
+            throw new IllegalArgumentException("Account cannot be null.");
+        }
+        List<TransactionEvent> events = indexed(journal, point);
+        Account replica = copyOf(account);
+        String accountId = account.getAccountId();
+        long previous = -1;
+        for (int i = 0, size = events.size(); i < size; i++) {
+            TransactionEvent event = events.get(i);
+            previous = checkOrder(event, previous);
+            if (point.ends(event)) {
+                break;
+            }
+            if (accountId.equals(event.getAccountId()) && point.includes(event)) {
+                apply(replica, event);
+            }
+        }
+        return replica;
+    }
+
+    @Override
+    public Map<String, Account> reconstructAll(List<TransactionEvent> journal, AccountRepository repository,
+                                               ReplayPoint point) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository cannot be null.");
+        }
+        List<TransactionEvent> events = indexed(journal, point);
+
+        // Spread the positions of the events to replay over the partitions
+        int[][] positions = new int[partitions][16];
+        int[] counts = new int[partitions];
+        long previous = -1;
+        for (int i = 0, size = events.size(); i < size; i++) {
+            TransactionEvent event = events.get(i);
+            previous = checkOrder(event, previous);
+            if (point.ends(event)) {
+                break;
+            }
+            if (point.includes(event)) {
+                int partition = Math.floorMod(event.getAccountId().hashCode(), partitions);
+                if (counts[partition] == positions[partition].length) {
+                    positions[partition] = Arrays.copyOf(positions[partition], counts[partition] * 2);
+                }
+                positions[partition][counts[partition]++] = i;
+            }
+        }
+        Map<String, Account> accounts = pool.invoke(
+                new PartitionTask(events, repository, positions, counts, 0, partitions));
+
+        // Accounts without transactions up to the point are rebuilt empty, unless opened after it
+        for (Account account : repository.findAll()) {
+            if (!accounts.containsKey(account.getAccountId())
+                    && (point.getDate() == null || !account.getCreatedAt().isAfter(point.getDate()))) {
+                accounts.put(account.getAccountId(), copyOf(account));
+            }
+        }
+        return accounts;
+    }
+
+    /**
+     * Validates the arguments shared by both replays and returns the journal as an indexed list.
+     */
+    private static List<TransactionEvent> indexed(List<TransactionEvent> journal, ReplayPoint point) {
+        if (journal == null) {
+            throw new IllegalArgumentException("Journal cannot be null.");
+        }
+        if (point == null) {
+            throw new IllegalArgumentException("Replay point cannot be null.");
+        }
+        return journal instanceof RandomAccess ? journal : new ArrayList<>(journal);
+    }
+
+    /**
+     * Ensures that events come in strictly increasing sequence order.
+     */
+    private static long checkOrder(TransactionEvent event, long previous) {
+        if (event == null) {
+            throw new IllegalArgumentException("Journal event cannot be null.");
+        }
+        if (event.getSequence() <= previous) {
+            throw new IllegalArgumentException("Journal is out of sequence order at " + event.getSequence() + ".");
+        }
+        return event.getSequence();
+    }
+
+    /**
+     * Creates an empty account with the identity of another one.
+     */
+    private static Account copyOf(Account account) {
+        return new Account(account.getAccountId(), account.getOwnerName(), account.getCurrency(),
+                account.getCreatedAt());
+    }
+
+    /**
+     * Applies a recorded transaction to a rebuilt account, as AccountServiceImpl applied it.
+     *
+     * @throws IllegalArgumentException if the balance recorded with the transaction differs
+     *                                  from the replayed one, as transactions are missing before it.
+     */
+    private static void apply(Account account, TransactionEvent event) {
+        Transaction recorded = event.getTransaction();
+        if (recorded.getType() == TransactionType.DEPOSIT) {
+            account.setBalance(account.getBalance() + recorded.getAmount());
+        } else {
+            account.setBalance(account.getBalance() - recorded.getAmount());
+        }
+        if (Double.compare(account.getBalance(), recorded.getBalanceAfterTransaction()) != 0) {
+            throw new IllegalArgumentException("Journal is missing transactions of account " + account.getAccountId()
+                    + " before sequence " + event.getSequence() + ": replayed balance " + account.getBalance()
+                    + ", recorded " + recorded.getBalanceAfterTransaction() + ".");
+        }
+        account.getTransactions().add(new Transaction(recorded.getDate(), recorded.getType(), recorded.getAmount(),
+                account.getBalance(), recorded.getOriginalAmount(), recorded.getOriginalCurrencyId(),
+                recorded.getExchangeRate()));
+    }
+
+    /**
+     * Replays a range of partitions, splitting it until a single partition is left.
+     */
+    @SuppressWarnings("serial")
+    private static final class PartitionTask extends RecursiveTask<Map<String, Account>> {
+
+        private final List<TransactionEvent> events;
+        private final AccountRepository repository;
+        private final int[][] positions;
+        private final int[] counts;
+        private final int from;
+        private final int to;
+
+        private PartitionTask(List<TransactionEvent> events, AccountRepository repository,
+                              int[][] positions, int[] counts, int from, int to) {
+            this.events = events;
+            this.repository = repository;
+            this.positions = positions;
+            this.counts = counts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, Account> compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                PartitionTask left = new PartitionTask(events, repository, positions, counts, from, middle);
+                PartitionTask right = new PartitionTask(events, repository, positions, counts, middle, to);
+                left.fork();
+                Map<String, Account> accounts = right.compute();
+                Map<String, Account> leftAccounts = left.join();
+                if (leftAccounts.size() > accounts.size()) {
+                    leftAccounts.putAll(accounts);
+                    return leftAccounts;
+                }
+                accounts.putAll(leftAccounts);
+                return accounts;
+            }
+            Map<String, Account> accounts = new HashMap<>();
+            int[] partition = positions[from];
+            // Remember the last account, as consecutive events often hit the same one
+            Account last = null;
+            for (int i = 0, count = counts[from]; i < count; i++) {
+                TransactionEvent event = events.get(partition[i]);
+                Account account = last != null && last.getAccountId().equals(event.getAccountId())
+                        ? last
+                        : accounts.get(event.getAccountId());
+                if (account == null) {
+                    Optional<Account> live = repository.findById(event.getAccountId());
+                    if (live.isEmpty()) {
+                        throw new IllegalArgumentException("Unknown account in journal: " + event.getAccountId() + ".");
+                    }
+                    account = copyOf(live.get());
+                    accounts.put(account.getAccountId(), account);
+                }
+                apply(account, event);
+                last = account;
+            }
+            return accounts;
+        }
+    }
+}
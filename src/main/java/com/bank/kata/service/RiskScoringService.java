@@ -0,0 +1,39 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+
+/**
+ * Pre-commit stage scoring deposits and withdrawals.
+ *
+ * <p>{@link AccountServiceImpl} calls {@link #approve} once an operation passed the
+ * business rules and before the balance changes, then {@link #onCommitted} once the
+ * transaction is recorded. Both calls are made while the account is locked.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link RiskScoringServiceImpl}: Streaming per-account statistics, blocking or flag-only.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface RiskScoringService {
+
+    /**
+     * Scores an operation before it is committed.
+     *
+     * @param account the account on which the operation is performed.
+     * @param type the type of the operation.
+     * @param amount the amount of the operation, in the account currency.
+     * @return true if the operation may be committed, false to decline it.
+     */
+    boolean approve(Account account, TransactionType type, double amount);
+
+    /**
+     * Updates the statistics of an account with a committed transaction.
+     *
+     * @param account the account on which the transaction was recorded.
+     * @param transaction the recorded transaction.
+     */
+    void onCommitted(Account account, Transaction transaction);
+}
@@ -0,0 +1,387 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.RiskAlert;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the RiskScoringService interface.
+ *
+ * <p>Each account keeps fixed-size primitive statistics, updated incrementally
+ * from its committed transactions:
+ * - The count, mean and sum of squared deviations of its amounts, per transaction
+ *   type (Welford's algorithm), to flag amounts more than {@value #OUTLIER_Z_SCORE}
+ *   standard deviations above the mean. The standard deviation is floored at
+ *   {@value #MIN_RELATIVE_SPREAD} of the mean, so that an account always depositing the
+ *   same amount is not flagged for a slightly larger one.
+ * - The times of its last {@value #BURST_LIMIT} operations, to flag one more within
+ *   {@value #BURST_WINDOW_MILLIS} ms.
+ * - A histogram of its activity per hour of the day, to flag an hour holding less
+ *   than {@value #UNUSUAL_HOUR_SHARE} of it.
+ *
+ * <p>The amount and hour checks only apply once an account has
+ * {@value #MIN_HISTORY} transactions.
+ *
+ * <p>In {@link Mode#BLOCKING} mode, operations are scored on the calling thread and
+ * declined when they raise one of the blocking flags. In {@link Mode#FLAG_ONLY}
+ * mode, committed transactions are queued and scored by a background thread, which
+ * only raises alerts; when the queue is full, transactions are dropped from scoring
+ * rather than slowing down the caller.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class RiskScoringServiceImpl implements RiskScoringService, AutoCloseable {
+
+    /**
+     * How operations are scored.
+     */
+    public enum Mode {
+
+        /**
+         * Scored before commit, on the calling thread; flagged operations may be declined.
+         */
+        BLOCKING,
+
+        /**
+         * Scored after commit, on a background thread; operations are only flagged.
+         */
+        FLAG_ONLY
+    }
+
+    /**
+     * Number of transactions after which the amount and hour checks apply.
+     */
+    public static final int MIN_HISTORY = 10;
+
+    /**
+     * Number of standard deviations above the mean beyond which an amount is an outlier.
+     */
+    public static final double OUTLIER_Z_SCORE = 4.0;
+
+    /**
+     * Smallest standard deviation used for the amount check, as a fraction of the mean.
+     */
+    public static final double MIN_RELATIVE_SPREAD = 0.25;
+
+    /**
+     * Number of operations allowed within the burst window.
+     */
+    public static final int BURST_LIMIT = 20;
+
+    /**
+     * Length of the burst window, in milliseconds.
+     */
+    public static final long BURST_WINDOW_MILLIS = 10_000;
+
+    /**
+     * Share of the activity below which an hour of the day is unusual.
+     */
+    public static final double UNUSUAL_HOUR_SHARE = 0.02;
+
+    /**
+     * Flags declining an operation in blocking mode; an unusual hour alone only raises an alert.
+     */
+    public static final int DEFAULT_BLOCKING_FLAGS = RiskAlert.AMOUNT_OUTLIER | RiskAlert.BURST;
+
+    /**
+     * Capacity of the queue of transactions waiting to be scored in flag-only mode.
+     */
+    static final int QUEUE_CAPACITY = 1 << 16;
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final Mode mode;
+    private final int blockingFlags;
+    private final Consumer<RiskAlert> listener;
+    private final Clock clock;
+    private final ZoneRules zoneRules;
+
+    /**
+     * Offset of the clock zone, when it never changes.
+     */
+    private final long fixedOffsetMillis;
+
+    private final ConcurrentHashMap<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    private final LongAdder scored = new LongAdder();
+    private final LongAdder alerts = new LongAdder();
+    private final LongAdder declined = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Queue and worker of the flag-only mode; null in blocking mode.
+     */
+    private final BlockingQueue<Pending> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a blocking RiskScoringServiceImpl on the system clock.
+     *
+     * @param listener the consumer of the alerts.
+     * @throws IllegalArgumentException if the listener is null.
+     */
+    public RiskScoringServiceImpl(Consumer<RiskAlert> listener) {
+        this(Mode.BLOCKING, DEFAULT_BLOCKING_FLAGS, listener, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a RiskScoringServiceImpl.
+     *
+     * @param mode how operations are scored.
+     * @param blockingFlags the flags declining an operation in blocking mode.
+     * @param listener the consumer of the alerts, called on the scoring thread.
+     * @param clock the clock giving the time of the operations, and the zone of their hour of the day.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    public RiskScoringServiceImpl(Mode mode, int blockingFlags, Consumer<RiskAlert> listener, Clock clock) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Mode cannot be null.");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null.");
+        }
+        this.mode = mode;
+        this.blockingFlags = blockingFlags;
+        this.listener = listener;
+        this.clock = clock;
+        this.zoneRules = clock.getZone().getRules();
+        this.fixedOffsetMillis = zoneRules.isFixedOffset()
+                ? zoneRules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L
+                : Long.MIN_VALUE;
+
+        if (mode == Mode.FLAG_ONLY) {
+            this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            this.worker = new Thread(this::drain, "risk-scoring");
+            this.worker.setDaemon(true);
+            this.worker.start();
+        } else {
+            this.queue = null;
+            this.worker = null;
+        }
+    }
+
+    @Override
+    public boolean approve(Account account, TransactionType type, double amount) {
+        if (mode == Mode.FLAG_ONLY) {
+            return true;
+        }
+        Statistics stats = statisticsOf(account.getAccountId());
+        long now = clock.millis();
+        int flags;
+        double zScore;
+        synchronized (stats) {
+            flags = stats.flags(type, amount, now, hourOf(now));
+            zScore = stats.lastZScore;
+        }
+        scored.increment();
+        if (flags == 0) {
+            return true;
+        }
+        boolean decline = (flags & blockingFlags) != 0;
+        alert(new RiskAlert(account.getAccountId(), type, amount, flags, zScore, decline));
+        if (decline) {
+            declined.increment();
+        }
+        return !decline;
+    }
+
+    @Override
+    public void onCommitted(Account account, Transaction transaction) {
+        long now = clock.millis();
+        if (mode == Mode.FLAG_ONLY) {
+            if (!queue.offer(new Pending(account.getAccountId(), transaction.getType(), transaction.getAmount(), now))) {
+                dropped.increment();
+            }
+            return;
+        }
+        Statistics stats = statisticsOf(account.getAccountId());
+        synchronized (stats) {
+            stats.record(transaction.getType(), transaction.getAmount(), now, hourOf(now));
+        }
+    }
+
+    /**
+     * Stops the background worker of the flag-only mode, after it scored the queued transactions.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return the number of operations scored.
+     */
+    public long getScoredCount() {
+        return scored.sum();
+    }
+
+    /**
+     * @return the number of alerts raised, declined operations included.
+     */
+    public long getAlertCount() {
+        return alerts.sum();
+    }
+
+    /**
+     * @return the number of operations declined.
+     */
+    public long getDeclinedCount() {
+        return declined.sum();
+    }
+
+    /**
+     * @return the number of transactions not scored because the flag-only queue was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of transactions waiting to be scored in flag-only mode.
+     */
+    public int getPendingCount() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Scores the queued transactions until the service is closed.
+     */
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            Pending pending;
+            try {
+                pending = running ? queue.take() : queue.poll();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (pending == null) {
+                break;
+            }
+            Statistics stats = statisticsOf(pending.accountId);
+            int hour = hourOf(pending.millis);
+            int flags = stats.flags(pending.type, pending.amount, pending.millis, hour);
+            double zScore = stats.lastZScore;
+            stats.record(pending.type, pending.amount, pending.millis, hour);
+            scored.increment();
+            if (flags != 0) {
+                alert(new RiskAlert(pending.accountId, pending.type, pending.amount, flags, zScore, false));
+            }
+        }
+    }
+
+    private void alert(RiskAlert alert) {
+        alerts.increment();
+        listener.accept(alert);
+    }
+
+    private Statistics statisticsOf(String accountId) {
+        Statistics stats = statistics.get(accountId);
+        return stats != null ? stats : statistics.computeIfAbsent(accountId, id -> new Statistics());
+    }
+
+    private int hourOf(long epochMillis) {
+        long offsetMillis = fixedOffsetMillis != Long.MIN_VALUE
+                ? fixedOffsetMillis
+                : zoneRules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+        return (int) Math.floorMod(Math.floorDiv(epochMillis + offsetMillis, MILLIS_PER_HOUR), 24L);
+    }
+
+    /**
+     * Streaming statistics of one account, guarded by its own monitor in blocking mode
+     * and confined to the worker in flag-only mode.
+     */
+    private static final class Statistics {
+        private final long[] counts = new long[2];
+        private final double[] means = new double[2];
+        private final double[] squaredDeviations = new double[2];
+        private final long[] recentMillis = new long[BURST_LIMIT];
+        private int recentNext;
+        private int recentSize;
+        private final int[] hours = new int[24];
+        private long total;
+        private double lastZScore;
+
+        /**
+         * Computes the flags an operation would raise, leaving its z-score in {@link #lastZScore}.
+         */
+        private int flags(TransactionType type, double amount, long millis, int hour) {
+            int flags = 0;
+            int t = type.ordinal();
+            lastZScore = 0.0;
+            if (counts[t] >= MIN_HISTORY) {
+                double deviation = amount - means[t];
+                double stddev = Math.max(Math.sqrt(squaredDeviations[t] / (counts[t] - 1)),
+                        MIN_RELATIVE_SPREAD * Math.abs(means[t]));
+                lastZScore = stddev > 0 ? deviation / stddev : 0.0;
+                if (lastZScore > OUTLIER_Z_SCORE) {
+                    flags |= RiskAlert.AMOUNT_OUTLIER;
+                }
+            }
+            // The oldest of the last BURST_LIMIT operations is the next slot to be overwritten
+            if (recentSize == BURST_LIMIT && millis - recentMillis[recentNext] < BURST_WINDOW_MILLIS) {
+                flags |= RiskAlert.BURST;
+            }
+            if (total >= MIN_HISTORY && hours[hour] < UNUSUAL_HOUR_SHARE * total) {
+                flags |= RiskAlert.UNUSUAL_HOUR;
+            }
+            return flags;
+        }
+
+        private void record(TransactionType type, double amount, long millis, int hour) {
+            int t = type.ordinal();
+            long count = ++counts[t];
+            double delta = amount - means[t];
+            means[t] += delta / count;
+            squaredDeviations[t] += delta * (amount - means[t]);
+
+            recentMillis[recentNext] = millis;
+            recentNext = (recentNext + 1) % BURST_LIMIT;
+            if (recentSize < BURST_LIMIT) {
+                recentSize++;
+            }
+            hours[hour]++;
+            total++;
+        }
+    }
+
+    /**
+     * A committed transaction waiting to be scored in flag-only mode.
+     */
+    private static final class Pending {
+        private final String accountId;
+        private final TransactionType type;
+        private final double amount;
+        private final long millis;
+
+        private Pending(String accountId, TransactionType type, double amount, long millis) {
+            this.accountId = accountId;
+            this.type = type;
+            this.amount = amount;
+            this.millis = millis;
+        }
+    }
+}
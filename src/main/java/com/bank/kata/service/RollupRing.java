@@ -0,0 +1,171 @@
+package com.bank.kata.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed-size ring of time buckets counting deposits and withdrawals, updated lock-free.
+ *
+ * <p>Each slot is six longs in a single array: the stamp of the bucket it holds
+ * (bucket number + 1, 0 when empty), then the deposit count and volume and the
+ * withdrawal count and volume, volumes stored as double bits, and the number of
+ * writers adding to the slot. A writer announces itself in the slot and checks the
+ * stamp again before adding, so its event never lands in a later bucket. A writer
+ * reaching a slot that holds an older bucket claims it by swapping the stamp for
+ * {@link #RESETTING}, waits for the writers still announced to finish, clears it
+ * and publishes the new stamp; concurrent writers wait for the few instructions
+ * this takes. Events older than the bucket held by their slot are dropped. Updates
+ * never allocate.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+final class RollupRing {
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int STRIDE = 6;
+    private static final int STAMP = 0;
+    private static final int DEPOSIT_COUNT = 1;
+    private static final int DEPOSIT_VOLUME = 2;
+    private static final int WITHDRAWAL_COUNT = 3;
+    private static final int WITHDRAWAL_VOLUME = 4;
+    private static final int WRITERS = 5;
+
+    /**
+     * Stamp of a slot being cleared.
+     */
+    private static final long RESETTING = -1L;
+
+    private final long[] slots;
+    private final int size;
+    private final long bucketSeconds;
+
+    /**
+     * Creates a ring.
+     *
+     * @param size the number of buckets kept.
+     * @param bucketSeconds the width of a bucket, in seconds.
+     */
+    RollupRing(int size, long bucketSeconds) {
+        this.slots = new long[size * STRIDE];
+        this.size = size;
+        this.bucketSeconds = bucketSeconds;
+    }
+
+    /**
+     * @return the number of buckets kept.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the bucket holding a time.
+     *
+     * @param epochSecond the time, in seconds.
+     * @return the bucket number.
+     */
+    long bucketOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, bucketSeconds);
+    }
+
+    /**
+     * Adds an operation to the bucket holding its time.
+     *
+     * @param epochSecond the time of the operation, in seconds.
+     * @param deposit true for a deposit, false for a withdrawal.
+     * @param amount the amount of the operation.
+     */
+    void add(long epochSecond, boolean deposit, double amount) {
+        long bucket = bucketOf(epochSecond);
+        int base = (int) Math.floorMod(bucket, (long) size) * STRIDE;
+        long stamp = bucket + 1;
+        for (;;) {
+            long current = (long) LONGS.getVolatile(slots, base + STAMP);
+            if (current == stamp) {
+                // Announce the write, then make sure the slot was not claimed for a later bucket meanwhile
+                LONGS.getAndAdd(slots, base + WRITERS, 1L);
+                try {
+                    if ((long) LONGS.getVolatile(slots, base + STAMP) == stamp) {
+                        addTo(base, deposit, amount);
+                        return;
+                    }
+                } finally {
+                    LONGS.getAndAdd(slots, base + WRITERS, -1L);
+                }
+                continue;
+            }
+            if (current == RESETTING) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (current > stamp) {
+                // The slot already moved on to a later bucket
+                return;
+            }
+            if (LONGS.compareAndSet(slots, base + STAMP, current, RESETTING)) {
+                while ((long) LONGS.getVolatile(slots, base + WRITERS) != 0L) {
+                    Thread.onSpinWait();
+                }
+                LONGS.setVolatile(slots, base + DEPOSIT_COUNT, 0L);
+                LONGS.setVolatile(slots, base + DEPOSIT_VOLUME, 0L);
+                LONGS.setVolatile(slots, base + WITHDRAWAL_COUNT, 0L);
+                LONGS.setVolatile(slots, base + WITHDRAWAL_VOLUME, 0L);
+                LONGS.setVolatile(slots, base + STAMP, stamp);
+            }
+        }
+    }
+
+    private void addTo(int base, boolean deposit, double amount) {
+        int count = base + (deposit ? DEPOSIT_COUNT : WITHDRAWAL_COUNT);
+        int volume = base + (deposit ? DEPOSIT_VOLUME : WITHDRAWAL_VOLUME);
+        LONGS.getAndAdd(slots, count, 1L);
+        long bits;
+        do {
+            bits = (long) LONGS.getVolatile(slots, volume);
+        } while (!LONGS.compareAndSet(slots, volume, bits,
+                Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + amount)));
+    }
+
+    /**
+     * Tells whether every bucket held by the ring is older than its retention at a time.
+     *
+     * @param epochSecond the current time, in seconds.
+     * @return true if the ring is empty or holds only buckets before the last {@link #size()} ones.
+     */
+    boolean isExpiredAt(long epochSecond) {
+        long oldestKept = bucketOf(epochSecond) - size + 1;
+        for (int base = 0; base < slots.length; base += STRIDE) {
+            long current = (long) LONGS.getVolatile(slots, base + STAMP);
+            if (current == RESETTING || current != 0 && current - 1 >= oldestKept) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies consecutive buckets into arrays; buckets no longer held read as zero.
+     *
+     * @param firstBucket the number of the first bucket to read.
+     * @param depositCounts receives the deposit counts.
+     * @param depositVolumes receives the deposit volumes.
+     * @param withdrawalCounts receives the withdrawal counts.
+     * @param withdrawalVolumes receives the withdrawal volumes.
+     */
+    void read(long firstBucket, long[] depositCounts, double[] depositVolumes,
+              long[] withdrawalCounts, double[] withdrawalVolumes) {
+        for (int i = 0; i < depositCounts.length; i++) {
+            long bucket = firstBucket + i;
+            int base = (int) Math.floorMod(bucket, (long) size) * STRIDE;
+            if ((long) LONGS.getVolatile(slots, base + STAMP) != bucket + 1) {
+                continue;
+            }
+            depositCounts[i] += (long) LONGS.getVolatile(slots, base + DEPOSIT_COUNT);
+            depositVolumes[i] += Double.longBitsToDouble((long) LONGS.getVolatile(slots, base + DEPOSIT_VOLUME));
+            withdrawalCounts[i] += (long) LONGS.getVolatile(slots, base + WITHDRAWAL_COUNT);
+            withdrawalVolumes[i] += Double.longBitsToDouble((long) LONGS.getVolatile(slots, base + WITHDRAWAL_VOLUME));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+
+/**
+ * Renders a statement piece by piece, so that it can be extended row by row.
+ *
+ * <p>A statement rendered by a row formatter is always the header, followed by
+ * one row per transaction, or by the empty marker when there is none. Text
+ * formatters implement this interface alongside {@link TransactionFormatterService}
+ * so that {@link CachingTransactionFormatterServiceImpl} can append the rows of new
+ * transactions to a cached statement instead of rendering it again.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface RowFormatter {
+
+    /**
+     * Renders everything that comes before the first row.
+     *
+     * @param account the account whose statement is rendered.
+     * @return the header of the statement.
+     */
+    String formatHeader(Account account);
+
+    /**
+     * Renders the row of one transaction.
+     *
+     * @param account the account owning the transaction.
+     * @param transaction the transaction to render.
+     * @return the row, including its line terminator.
+     */
+    String formatRow(Account account, Transaction transaction);
+
+    /**
+     * Renders what follows the header when the account has no transactions.
+     *
+     * @param account the account whose statement is rendered.
+     * @return the empty marker, possibly an empty string.
+     */
+    String formatEmpty(Account account);
+}
@@ -0,0 +1,38 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Exports the statements of many accounts to files.
+ *
+ * <p>Accounts are spread over a number of partitions written in parallel,
+ * each to its own file named {@code statements-<partition>.<extension>}. Every
+ * file starts with the header of the format, followed by the statements of
+ * the accounts of that partition.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link StatementExportServiceImpl}: Writes each partition through a {@link java.nio.channels.FileChannel}.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface StatementExportService {
+
+    /**
+     * Exports the statements of the given accounts.
+     *
+     * @param accounts the accounts to export.
+     * @param formatter the format of the statements.
+     * @param directory the directory receiving the files; it is created if needed.
+     * @param partitions the number of files written in parallel.
+     * @return the files written, in partition order.
+     * @throws IOException if a file cannot be written.
+     * @throws IllegalArgumentException if an argument is null or partitions is not positive.
+     */
+    List<Path> exportAll(List<Account> accounts, TransactionFormatterService formatter, Path directory,
+                         int partitions) throws IOException;
+}
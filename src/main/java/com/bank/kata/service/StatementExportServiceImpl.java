@@ -0,0 +1,97 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Implementation of the StatementExportService interface.
+ *
+ * <p>Partition {@code p} receives the accounts at positions {@code p},
+ * {@code p + partitions}, {@code p + 2 * partitions}, and so on, which spreads
+ * large and small histories evenly. Each partition is written by its own
+ * thread to a {@link FileChannel}, through a buffer so that small statements
+ * are coalesced into large writes. The formatters copy each history under its
+ * account lock, so live accounts can be exported while transactions are recorded.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class StatementExportServiceImpl implements StatementExportService {
+
+    /**
+     * Size of the write buffer of each partition.
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    @Override
+    public List<Path> exportAll(List<Account> accounts, TransactionFormatterService formatter, Path directory,
+                                int partitions) throws IOException {
+        if (accounts == null || formatter == null || directory == null) {
+            throw new IllegalArgumentException("Accounts, formatter and directory cannot be null.");
+        }
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Partitions must be positive.");
+        }
+        Files.createDirectories(directory);
+        List<Path> files = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int partition = 0; partition < partitions; partition++) {
+                Path file = directory.resolve("statements-" + partition + "." + formatter.getFileExtension());
+                files.add(file);
+                int first = partition;
+                futures.add(executor.submit(() -> {
+                    writePartition(accounts, first, partitions, formatter, file);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IllegalStateException("Export failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return files;
+    }
+
+    private static void writePartition(List<Account> accounts, int first, int stride,
+                                       TransactionFormatterService formatter, Path file) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             OutputStream buffered = new BufferedOutputStream(Channels.newOutputStream(fileChannel), BUFFER_SIZE)) {
+            WritableByteChannel channel = Channels.newChannel(buffered);
+            formatter.writeHeader(channel);
+            for (int i = first; i < accounts.size(); i += stride) {
+                formatter.write(accounts.get(i), channel);
+            }
+        }
+    }
+}
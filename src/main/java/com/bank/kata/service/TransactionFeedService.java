@@ -0,0 +1,89 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionEvent;
+
+import java.util.List;
+
+/**
+ * Publishes recorded transactions to downstream consumers.
+ *
+ * <p>The change feed assigns every published transaction a sequence number.
+ * Each consumer owns a {@link FeedSubscription} cursor and polls events in
+ * batches at its own pace; it can also start from an earlier sequence number
+ * to replay events that are still retained. Publishing never waits for
+ * consumers: a consumer that falls too far behind skips the overwritten
+ * events and sees them counted in {@link FeedSubscription#getMissedEvents()}.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link TransactionFeedServiceImpl}: Bounded in-memory ring buffer.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public interface TransactionFeedService {
+
+    /**
+     * Publishes a recorded transaction.
+     *
+     * @param account the account on which the transaction was recorded.
+     * @param transaction the recorded transaction.
+     * @return the sequence number assigned to the transaction.
+     */
+    long publish(Account account, Transaction transaction);
+
+    /**
+     * Registers a consumer positioned after the last published event.
+     *
+     * @param consumerName the unique name of the consumer.
+     * @return the cursor of the consumer.
+     * @throws IllegalArgumentException if the name is null or already subscribed.
+     */
+    FeedSubscription subscribe(String consumerName);
+
+    /**
+     * Registers a consumer that replays events from a given sequence number.
+     *
+     * <p>If the requested events are no longer retained, the cursor starts at
+     * the oldest retained event and the gap is counted as missed.
+     *
+     * @param consumerName the unique name of the consumer.
+     * @param fromSequence the first sequence number to read.
+     * @return the cursor of the consumer.
+     * @throws IllegalArgumentException if the name is null or already subscribed.
+     */
+    FeedSubscription subscribe(String consumerName, long fromSequence);
+
+    /**
+     * Removes a consumer.
+     *
+     * @param consumerName the name of the consumer.
+     */
+    void unsubscribe(String consumerName);
+
+    /**
+     * Reads the next available events for a consumer and advances its cursor.
+     *
+     * @param subscription the cursor of the consumer.
+     * @param sink the list receiving the events, in sequence order.
+     * @param maxEvents the maximum number of events to read.
+     * @return the number of events added to the sink.
+     */
+    int poll(FeedSubscription subscription, List<TransactionEvent> sink, int maxEvents);
+
+    /**
+     * Returns the number of published events a consumer has not read yet.
+     *
+     * @param subscription the cursor of the consumer.
+     * @return the lag of the consumer, in events.
+     */
+    long getLag(FeedSubscription subscription);
+
+    /**
+     * Returns the sequence number that the next published event will receive.
+     *
+     * @return the next sequence number.
+     */
+    long getNextSequence();
+}
@@ -0,0 +1,176 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Implementation of the TransactionFeedService interface.
+ *
+ * <p>Events are kept in a bounded ring buffer whose capacity is a power of two.
+ * Publishers claim a sequence number with a single atomic increment and store
+ * the event in its slot; they never lock and never wait for consumers. A slot
+ * only ever moves forward: a publisher delayed by more than a lap of the ring
+ * drops its event rather than putting it back over a newer one. Once
+ * the buffer is full, the oldest events are overwritten and consumers that
+ * had not read them yet skip ahead.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class TransactionFeedServiceImpl implements TransactionFeedService {
+
+    /**
+     * Number of events retained when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Slots of the ring buffer, indexed by sequence number modulo capacity.
+     */
+    private final AtomicReferenceArray<TransactionEvent> slots;
+
+    /**
+     * Mask turning a sequence number into a slot index.
+     */
+    private final int mask;
+
+    /**
+     * Sequence number of the next published event.
+     */
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * Registered consumers, by name.
+     */
+    private final Map<String, FeedSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a feed retaining {@link #DEFAULT_CAPACITY} events.
+     */
+    public TransactionFeedServiceImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a feed retaining at least the given number of events.
+     *
+     * @param capacity the minimum number of events retained, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is not positive or too large.
+     */
+    public TransactionFeedServiceImpl(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public long publish(Account account, Transaction transaction) {
+        if (account == null) {
+            throw new IllegalArgumentException("Account cannot be null.");
+        }
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null.");
+        }
+        long sequence = nextSequence.getAndIncrement();
+        TransactionEvent event = new TransactionEvent(sequence, account.getAccountId(), transaction);
+        int index = (int) sequence & mask;
+        TransactionEvent current;
+        do {
+            current = slots.get(index);
+            if (current != null && current.getSequence() > sequence) {
+                // A publisher one lap ahead already stored its event: this one is already overwritten
+                break;
+            }
+        } while (!slots.compareAndSet(index, current, event));
+        return sequence;
+    }
+
+    @Override
+    public FeedSubscription subscribe(String consumerName) {
+        return subscribe(consumerName, nextSequence.get());
+    }
+
+    @Override
+    public FeedSubscription subscribe(String consumerName, long fromSequence) {
+        if (consumerName == null) {
+            throw new IllegalArgumentException("Consumer name cannot be null.");
+        }
+        long next = nextSequence.get();
+        long oldest = Math.max(0L, next - slots.length());
+        long start = Math.min(Math.max(fromSequence, 0L), next);
+        FeedSubscription subscription = new FeedSubscription(consumerName, start);
+        if (start < oldest) {
+            subscription.skip(oldest - start, oldest);
+        }
+        if (subscriptions.putIfAbsent(consumerName, subscription) != null) {
+            throw new IllegalArgumentException("Consumer is already subscribed: " + consumerName);
+        }
+        return subscription;
+    }
+
+    @Override
+    public void unsubscribe(String consumerName) {
+        if (consumerName != null) {
+            subscriptions.remove(consumerName);
+        }
+    }
+
+    @Override
+    public int poll(FeedSubscription subscription, List<TransactionEvent> sink, int maxEvents) {
+        if (subscription == null) {
+            throw new IllegalArgumentException("Subscription cannot be null.");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink cannot be null.");
+        }
+        long position = subscription.getPosition();
+        long head = nextSequence.get();
+        int read = 0;
+        while (read < maxEvents && position < head) {
+            TransactionEvent event = slots.get((int) position & mask);
+            boolean lapped = head - position > slots.length();
+            if ((event == null || event.getSequence() < position) && !lapped) {
+                // The publisher claimed this sequence but has not stored it yet
+                break;
+            }
+            if (event == null || event.getSequence() != position) {
+                // The slot was overwritten: skip to the oldest event still retained
+                long oldest = Math.max(position + 1, nextSequence.get() - slots.length());
+                subscription.skip(oldest - position, oldest);
+                position = oldest;
+                continue;
+            }
+            sink.add(event);
+            position++;
+            read++;
+        }
+        subscription.advanceTo(position);
+        return read;
+    }
+
+    @Override
+    public long getLag(FeedSubscription subscription) {
+        if (subscription == null) {
+            throw new IllegalArgumentException("Subscription cannot be null.");
+        }
+        return Math.max(0L, nextSequence.get() - subscription.getPosition());
+    }
+
+    @Override
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+}
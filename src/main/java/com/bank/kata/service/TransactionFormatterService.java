@@ -3,7 +3,10 @@ package com.bank.kata.service;
 import com.bank.kata.model.Account;
 import com.bank.kata.model.Transaction;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Interface for formatting a list of transactions into a human-readable format.
@@ -11,6 +14,15 @@ import java.util.List;
  * <p>The implementing class is responsible for generating a string representation
  * of a list of transactions.
  *
+ * <p>Formatters can also write straight to a channel, which lets an exporter
+ * put the statements of many accounts into one file: the header is written
+ * once per file, then the body of each account follows.
+ *
+ * <p>Classes implementing this interface:
+ * - {@link TransactionFormatterServiceImpl}: Fixed-width, human-readable text.
+ * - {@link CsvTransactionFormatterServiceImpl}: Comma-separated values.
+ * - {@link ColumnarTransactionFormatterServiceImpl}: Compressed, column-oriented binary blocks.
+ *
  * @author [Houssem Eddine Yahia]
  * @version 1.0
  */
@@ -28,10 +40,49 @@ public interface TransactionFormatterService {
      * - The resulting balance after the transaction.
      * - A message indicating no transactions if the account has no history.
      *
+     * <p>Implementations read the history under the account lock, so callers do not need
+     * to hold it while other threads record transactions.
+     *
      * @param account the account whose transactions are to be formatted.
      * @return a string containing the formatted representation of the account's transactions.
      * @throws IllegalArgumentException if the account is null.
      */
     String format(Account account);
+
+    /**
+     * Writes whatever must appear once at the beginning of a file (e.g., a CSV header).
+     *
+     * @param channel the channel receiving the bytes.
+     * @throws IOException if the channel cannot be written.
+     */
+    default void writeHeader(WritableByteChannel channel) throws IOException {
+        // Nothing by default
+    }
+
+    /**
+     * Writes the statement of one account, without the file header.
+     *
+     * <p>By default, the output of {@link #format(Account)} is written in UTF-8.
+     *
+     * @param account the account whose transactions are to be written.
+     * @param channel the channel receiving the bytes.
+     * @throws IOException if the channel cannot be written.
+     * @throws IllegalArgumentException if the account is null.
+     */
+    default void write(Account account, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(format(account).getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the file extension of the format, without the dot.
+     *
+     * @return the file extension (e.g., "txt").
+     */
+    default String getFileExtension() {
+        return "txt";
+    }
 }
 
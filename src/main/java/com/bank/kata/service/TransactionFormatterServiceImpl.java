@@ -3,6 +3,7 @@ package com.bank.kata.service;
 import com.bank.kata.model.Account;
 import com.bank.kata.model.Transaction;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,7 +14,7 @@ import java.util.List;
  * currency, and creation date, followed by a header row and detailed transaction information.
  * This implementation adheres to the requirements of the kata and avoids using external frameworks.
  */
-public class TransactionFormatterServiceImpl implements TransactionFormatterService{
+public class TransactionFormatterServiceImpl implements TransactionFormatterService, RowFormatter {
     /**
      * Formats the transactions of a given account into a plain text representation.
      *
@@ -33,7 +34,33 @@ public class TransactionFormatterServiceImpl implements TransactionFormatterServ
             throw new IllegalArgumentException("The account cannot be null.");
         }
 
-        List<Transaction> transactions = account.getTransactions();
+        // Copy the history under the account lock, as deposits append to it concurrently
+        List<Transaction> transactions;
+        synchronized (account) {
+            transactions = new ArrayList<>(account.getTransactions());
+        }
+        StringBuilder builder = new StringBuilder(formatHeader(account));
+
+        // Add transaction details or a message if no transactions exist
+        if (transactions.isEmpty()) {
+            builder.append(formatEmpty(account));
+        } else {
+            for (Transaction transaction : transactions) {
+                builder.append(formatRow(account, transaction));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Renders the account metadata and the table header.
+     *
+     * @param account the account whose statement is rendered.
+     * @return the header of the statement.
+     */
+    @Override
+    public String formatHeader(Account account) {
         StringBuilder builder = new StringBuilder();
 
         // Add account metadata
@@ -44,20 +71,33 @@ public class TransactionFormatterServiceImpl implements TransactionFormatterServ
         // Add header
         builder.append("Date                | Type       | Amount   | Balance\n");
         builder.append("-----------------------------------------------------\n");
+        return builder.toString();
+    }
 
-        // Add transaction details or a message if no transactions exist
-        if (transactions.isEmpty()) {
-            builder.append("No transactions available for this account.\n");
-        } else {
-            for (Transaction transaction : transactions) {
-                builder.append(String.format("%-19s | %-10s | %-8.2f | %-8.2f\n",
-                        transaction.getDate(),
-                        transaction.getType(),
-                        transaction.getAmount(),
-                        transaction.getBalanceAfterTransaction()));
-            }
-        }
+    /**
+     * Renders one transaction as a fixed-width table row.
+     *
+     * @param account the account owning the transaction.
+     * @param transaction the transaction to render.
+     * @return the row, including its line terminator.
+     */
+    @Override
+    public String formatRow(Account account, Transaction transaction) {
+        return String.format("%-19s | %-10s | %-8.2f | %-8.2f\n",
+                transaction.getDate(),
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getBalanceAfterTransaction());
+    }
 
-        return builder.toString();
+    /**
+     * Renders the message shown when the account has no transactions.
+     *
+     * @param account the account whose statement is rendered.
+     * @return the empty-history message.
+     */
+    @Override
+    public String formatEmpty(Account account) {
+        return "No transactions available for this account.\n";
     }
 }
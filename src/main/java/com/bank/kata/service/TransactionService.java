@@ -30,6 +30,20 @@ public interface TransactionService {
      */
     Account recordTransaction(Account account, TransactionType type, double amount);
 
+    /**
+     * Records a new transaction that was converted from another currency.
+     *
+     * @param account the account for which the transaction is being recorded.
+     * @param type the type of the transaction (e.g., DEPOSIT, WITHDRAWAL).
+     * @param amount the amount involved in the transaction, in the account currency.
+     * @param originalAmount the amount as requested, in the original currency.
+     * @param originalCurrencyId the interned id of the original currency.
+     * @param exchangeRate the rate applied to convert the original amount.
+     * @return the updated account with the new transaction recorded.
+     */
+    Account recordTransaction(Account account, TransactionType type, double amount,
+                              double originalAmount, int originalCurrencyId, double exchangeRate);
+
     /**
      * Retrieves the transaction history of the specified account.
      *
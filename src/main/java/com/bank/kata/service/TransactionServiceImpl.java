@@ -4,6 +4,8 @@ import com.bank.kata.model.Account;
 import com.bank.kata.model.Transaction;
 import com.bank.kata.model.TransactionType;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -17,6 +19,73 @@ import java.util.List;
  */
 public class TransactionServiceImpl implements TransactionService {
 
+    /**
+     * Change feed notified of every recorded transaction, or {@code null} if none.
+     */
+    private final TransactionFeedService transactionFeedService;
+
+    /**
+     * Activity rollups updated with every recorded transaction, or {@code null} if none.
+     */
+    private final ActivityRollupService activityRollupService;
+
+    /**
+     * Clock dating the recorded transactions.
+     */
+    private final Clock clock;
+
+    /**
+     * Constructs a TransactionServiceImpl that does not publish transactions.
+     */
+    public TransactionServiceImpl() {
+        this(null, null, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a TransactionServiceImpl that publishes every recorded transaction.
+     *
+     * @param transactionFeedService the change feed receiving recorded transactions.
+     * @throws IllegalArgumentException if the transactionFeedService is null.
+     */
+    public TransactionServiceImpl(TransactionFeedService transactionFeedService) {
+        if (transactionFeedService == null) {
+            throw new IllegalArgumentException("TransactionFeedService cannot be null.");
+        }
+        this.transactionFeedService = transactionFeedService;
+        this.activityRollupService = null;
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    /**
+     * Constructs a TransactionServiceImpl that publishes and rolls up every recorded transaction.
+     *
+     * @param transactionFeedService the change feed receiving recorded transactions, or null if none.
+     * @param activityRollupService the rollups updated with recorded transactions, or null if none.
+     */
+    public TransactionServiceImpl(TransactionFeedService transactionFeedService,
+                                  ActivityRollupService activityRollupService) {
+        this(transactionFeedService, activityRollupService, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a TransactionServiceImpl dating transactions with the given clock, so that
+     * recorded histories can be reproduced exactly.
+     *
+     * @param transactionFeedService the change feed receiving recorded transactions, or null if none.
+     * @param activityRollupService the rollups updated with recorded transactions, or null if none.
+     * @param clock the clock dating the recorded transactions.
+     * @throws IllegalArgumentException if the clock is null.
+     */
+    public TransactionServiceImpl(TransactionFeedService transactionFeedService,
+                                  ActivityRollupService activityRollupService, Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null.");
+        }
+        this.transactionFeedService = transactionFeedService;
+        this.activityRollupService = activityRollupService;
+        this.clock = clock;
+    }
+
     /**
      * Records a new transaction for the specified account.
      *
@@ -30,14 +99,45 @@ public class TransactionServiceImpl implements TransactionService {
         if (account == null) {
             throw new IllegalArgumentException("Account cannot be null.");
         }
+        return recordTransaction(account, type, amount, amount, account.getCurrencyId(), 1.0);
+    }
+
+    /**
+     * Records a new transaction that was converted from another currency.
+     *
+     * @param account the account for which the transaction is being recorded.
+     * @param type the type of the transaction (e.g., DEPOSIT, WITHDRAWAL).
+     * @param amount the amount involved in the transaction, in the account currency.
+     * @param originalAmount the amount as requested, in the original currency.
+     * @param originalCurrencyId the interned id of the original currency.
+     * @param exchangeRate the rate applied to convert the original amount.
+     * @return the updated account with the new transaction recorded.
+     */
+    @Override
+    public Account recordTransaction(Account account, TransactionType type, double amount,
+                                     double originalAmount, int originalCurrencyId, double exchangeRate) {
+        if (account == null) {
+            throw new IllegalArgumentException("Account cannot be null.");
+        }
         if (type == null) {
             throw new IllegalArgumentException("Transaction type cannot be null.");
         }
 
         // Create a new transaction and add it to the account's transaction list
-        Transaction transaction = new Transaction(type, amount, account.getBalance());
+        Transaction transaction = new Transaction(LocalDateTime.now(clock), type, amount, account.getBalance(),
+                originalAmount, originalCurrencyId, exchangeRate);
         account.getTransactions().add(transaction);
 
+        // Publish the transaction to downstream consumers
+        if (transactionFeedService != null) {
+            transactionFeedService.publish(account, transaction);
+        }
+
+        // Update the activity rollups
+        if (activityRollupService != null) {
+            activityRollupService.record(account, transaction);
+        }
+
         return account;
     }
 
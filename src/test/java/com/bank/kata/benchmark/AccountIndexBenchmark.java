@@ -0,0 +1,68 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.repository.AccountRepositoryImpl;
+
+import java.util.SplittableRandom;
+
+/**
+ * Measures secondary index lookups and reports the index memory overhead.
+ *
+ * <p>Accounts get owners drawn from a pool of names and one of five
+ * currencies, one of which is rare. The JVM needs roughly 500 bytes of heap
+ * per account, e.g. {@code -Xmx8g} for 10 million accounts.
+ * <pre>
+ * java -Xmx8g -cp target/classes:target/test-classes com.bank.kata.benchmark.AccountIndexBenchmark [accounts]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountIndexBenchmark {
+
+    private static final String[] CURRENCIES = {"EUR", "USD", "GBP", "CHF", "JPY"};
+    private static final int LOOKUPS = 100_000;
+
+    public static void main(String[] args) {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int owners = Math.max(1, accountCount / 3);
+        SplittableRandom random = new SplittableRandom(42L);
+        AccountRepositoryImpl repository = new AccountRepositoryImpl();
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < accountCount; i++) {
+            int draw = random.nextInt(1000);
+            String currency = draw == 0 ? "JPY" : CURRENCIES[draw % 4];
+            repository.save(new Account("Owner " + random.nextInt(owners), currency));
+        }
+        System.out.printf("indexed %d accounts in %d ms%n", accountCount, (System.nanoTime() - begin) / 1_000_000);
+        System.out.printf("index memory: %.1f MB (%.1f bytes/account)%n",
+                repository.estimateIndexMemoryBytes() / 1e6, (double) repository.estimateIndexMemoryBytes() / accountCount);
+
+        long found = 0;
+        for (int round = 0; round < 2; round++) {
+            begin = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                found += repository.findByOwnerName("Owner " + random.nextInt(owners)).size();
+            }
+            long owner = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                found += repository.findByOwnerNamePrefix("Owner " + random.nextInt(owners / 10 + 1), 20).size();
+            }
+            long prefix = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                found += repository.countByCurrency(CURRENCIES[i % CURRENCIES.length]);
+                found += repository.findByCurrency("JPY", 100).size();
+            }
+            long currency = System.nanoTime() - begin;
+
+            System.out.printf("owner lookup: %.2f us, prefix search (20): %.2f us, currency count + 100 JPY: %.2f us%n",
+                    owner / 1e3 / LOOKUPS, prefix / 1e3 / LOOKUPS, currency / 1e3 / LOOKUPS);
+        }
+        System.out.println("checksum: " + found);
+    }
+}
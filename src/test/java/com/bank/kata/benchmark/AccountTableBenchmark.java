@@ -0,0 +1,101 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.AccountTable;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares multi-threaded deposits through {@link AccountServiceImpl} on plain {@link Account}
+ * objects and on accounts whose balances live in packed and padded {@link AccountTable} layouts.
+ *
+ * <p>Thread {@code t} of {@code n} deposits on accounts {@code t, t + n, t + 2n, ...}, so that
+ * neighbouring accounts always belong to different threads: the worst case for false sharing.
+ * Every deposit records its transaction, so each run starts from fresh accounts and the
+ * operations of a run are shared between its threads.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.AccountTableBenchmark [accounts] [operationsPerRun] [maxThreads]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountTableBenchmark {
+
+    /**
+     * Layouts compared: 0 for plain accounts, otherwise the slot width in longs.
+     */
+    private static final int[] SLOT_LONGS = {0, 1, AccountTable.PADDED_SLOT_LONGS};
+
+    public static void main(String[] args) throws Exception {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 1024;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 4_000_000;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+
+        for (int round = 0; round < 2; round++) {
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                double[] throughput = new double[SLOT_LONGS.length];
+                for (int layout = 0; layout < SLOT_LONGS.length; layout++) {
+                    throughput[layout] = run(accountService, accounts(accountCount, SLOT_LONGS[layout]),
+                            operations, threads);
+                }
+                System.out.printf("%2d threads: objects %6.2f Mops/s, packed %6.2f Mops/s, padded %6.2f Mops/s%n",
+                        threads, throughput[0], throughput[1], throughput[2]);
+            }
+        }
+    }
+
+    private static Account[] accounts(int count, int slotLongs) {
+        Account[] accounts = new Account[count];
+        AccountTable table = slotLongs > 0 ? new AccountTable(count, slotLongs) : null;
+        for (int i = 0; i < count; i++) {
+            accounts[i] = new Account("Owner " + i, "EUR");
+            if (table != null) {
+                table.register(accounts[i]);
+            }
+        }
+        return accounts;
+    }
+
+    private static double run(AccountService accountService, Account[] accounts, int operations, int threads)
+            throws Exception {
+        int perThread = operations / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int first = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int index = first;
+                for (int i = 0; i < perThread; i++) {
+                    accountService.tryDeposit(accounts[index], 1.0);
+                    index += threads;
+                    if (index >= accounts.length) {
+                        index = first;
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return (double) perThread * threads / (elapsed / 1e3);
+    }
+}
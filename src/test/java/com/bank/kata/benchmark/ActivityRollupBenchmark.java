@@ -0,0 +1,73 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ActivitySeries;
+import com.bank.kata.model.Granularity;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.service.ActivityRollupService;
+import com.bank.kata.service.ActivityRollupServiceImpl;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the cost of maintaining activity rollups, in time and in allocated bytes per transaction,
+ * and the cost of reading a day of minute buckets.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.ActivityRollupBenchmark [accounts] [transactions]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ActivityRollupBenchmark {
+
+    public static void main(String[] args) {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int transactionCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        SplittableRandom random = new SplittableRandom(42L);
+        Account[] accounts = new Account[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accounts[i] = new Account("Owner " + i, "EUR");
+        }
+        LocalDateTime start = LocalDateTime.of(2025, 1, 9, 0, 0);
+        Transaction[] transactions = new Transaction[transactionCount];
+        int[] owners = new int[transactionCount];
+        for (int i = 0; i < transactionCount; i++) {
+            TransactionType type = random.nextInt(3) == 0 ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT;
+            double amount = (1 + random.nextInt(50_000)) / 100.0;
+            LocalDateTime date = start.plusSeconds(i * 86_400L / transactionCount);
+            transactions[i] = new Transaction(date, type, amount, 0.0, amount, accounts[0].getCurrencyId(), 1.0);
+            owners[i] = random.nextInt(accountCount);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int round = 0; round < 3; round++) {
+            ActivityRollupService rollups = new ActivityRollupServiceImpl();
+            // First pass allocates the rings of every account
+            for (Account account : accounts) {
+                rollups.record(account, transactions[0]);
+            }
+            long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+            long begin = System.nanoTime();
+            for (int i = 0; i < transactionCount; i++) {
+                rollups.record(accounts[owners[i]], transactions[i]);
+            }
+            long elapsed = System.nanoTime() - begin;
+            long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+            begin = System.nanoTime();
+            ActivitySeries day = rollups.getGlobalSeries(Granularity.MINUTE, start, start.plusDays(1));
+            long query = System.nanoTime() - begin;
+            System.out.printf("record %5.1f ns, %.3f bytes allocated per transaction; 1440-minute query %d us (%d buckets)%n",
+                    (double) elapsed / transactionCount, (double) allocated / transactionCount, query / 1_000,
+                    day.size());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ArchivalReport;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.service.AccountArchivalServiceImpl;
+import com.bank.kata.service.AccountArchiveStoreImpl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the heap released by archiving dormant accounts and the latency of loading them back.
+ *
+ * <pre>
+ * java -Xmx3g -cp target/classes:target/test-classes com.bank.kata.benchmark.ArchivalBenchmark [accounts] [transactionsPerAccount] [dormantPercent]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ArchivalBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int perAccount = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int dormantPercent = args.length > 2 ? Integer.parseInt(args[2]) : 80;
+
+        SplittableRandom random = new SplittableRandom(42L);
+        LocalDateTime now = LocalDateTime.now();
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            boolean dormant = random.nextInt(100) < dormantPercent;
+            LocalDateTime date = now.minusDays(dormant ? 400 : 5).minusSeconds(random.nextInt(86_400));
+            double balance = 0.0;
+            for (int t = 0; t < perAccount; t++) {
+                double amount = (1 + random.nextInt(50_000)) / 100.0;
+                balance += amount;
+                account.getTransactions().add(new Transaction(date, TransactionType.DEPOSIT, amount, balance,
+                        amount, account.getCurrencyId(), 1.0));
+                date = date.plusMinutes(1 + random.nextInt(600));
+            }
+            account.setBalance(balance);
+            accounts.add(account);
+        }
+
+        long heapBefore = usedHeap();
+        Path file = Files.createTempFile("accounts", ".archive");
+        try (AccountArchiveStoreImpl store = new AccountArchiveStoreImpl(file)) {
+            ArchivalReport report = new AccountArchivalServiceImpl(store).archiveDormant(accounts, 90);
+            long heapAfter = usedHeap();
+            System.out.println(report);
+            System.out.printf("heap %.0f MB -> %.0f MB (%.0f bytes released per archived account), archive %.0f bytes per transaction%n",
+                    heapBefore / 1e6, heapAfter / 1e6,
+                    (double) (heapBefore - heapAfter) / report.getAccountsArchived(),
+                    (double) report.getBytesWritten() / report.getTransactionsArchived());
+
+            // Rehydrate a random sample of archived accounts, one history read each
+            int samples = Math.min(100_000, (int) report.getAccountsArchived());
+            long[] latencies = new long[samples];
+            int taken = 0;
+            while (taken < samples) {
+                Account account = accounts.get(random.nextInt(accountCount));
+                if (!account.isArchived()) {
+                    continue;
+                }
+                long begin = System.nanoTime();
+                account.getTransactions();
+                latencies[taken++] = System.nanoTime() - begin;
+            }
+            Arrays.sort(latencies);
+            System.out.printf("rehydration over %d accounts: p50 %.1f us, p99 %.1f us, max %.1f us%n", samples,
+                    latencies[samples / 2] / 1e3, latencies[samples * 99 / 100] / 1e3,
+                    latencies[samples - 1] / 1e3);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,51 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.BatchReport;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.BatchCheckpointStoreImpl;
+import com.bank.kata.service.BatchPostingService;
+import com.bank.kata.service.BatchPostingServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the throughput of interest accrual and fee runs, in accounts per second.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.BatchPostingBenchmark [accounts]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BatchPostingBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        AccountServiceImpl accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            accountService.deposit(account, 100.0 + i % 1000);
+            accounts.add(account);
+        }
+
+        Path directory = Files.createTempDirectory("batch-checkpoints");
+        BatchPostingService batch = new BatchPostingServiceImpl(accountService, new BatchCheckpointStoreImpl(directory));
+        LocalDate today = LocalDate.now();
+
+        for (int round = 0; round < 3; round++) {
+            BatchReport interest = batch.accrueInterest("interest-" + round, accounts, 0.02,
+                    today.minusDays(30), today.plusDays(1));
+            BatchReport fees = batch.chargeFee("fee-" + round, accounts, 1.0);
+            System.out.println(interest);
+            System.out.println(fees);
+        }
+    }
+}
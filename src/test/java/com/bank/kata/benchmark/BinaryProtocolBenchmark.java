@@ -0,0 +1,65 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import com.bank.kata.server.BinaryProtocolClient;
+import com.bank.kata.server.BinaryProtocolServer;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+
+/**
+ * Measures deposit throughput over the binary protocol on loopback.
+ *
+ * <p>The client keeps a fixed window of pipelined deposits in flight and waits
+ * for the acknowledgements of a whole window before sending the next one. A
+ * window of 1 gives the round-trip latency of a single request.
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.BinaryProtocolBenchmark [requests] [window]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BinaryProtocolBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int window = args.length > 1 ? Integer.parseInt(args[1]) : 1_024;
+
+        AccountRepository accountRepository = new AccountRepositoryImpl();
+        BinaryProtocolServer server = new BinaryProtocolServer(0, accountRepository,
+                new AccountServiceImpl(new TransactionServiceImpl()));
+        server.start();
+        Account account = accountRepository.save(new Account("Trader", "EUR"));
+
+        long[] failures = new long[1];
+        BinaryProtocolClient.ResponseListener listener = (requestId, status, handle, balance) -> {
+            if (status != 0) {
+                failures[0]++;
+            }
+        };
+        try (BinaryProtocolClient client = new BinaryProtocolClient("localhost", server.getPort())) {
+            client.sendBind(0L, account.getAccountId());
+            client.receive(listener, 1);
+
+            for (int round = 0; round < 2; round++) {
+                long begin = System.nanoTime();
+                for (int sent = 0; sent < requests; sent += window) {
+                    int batch = Math.min(window, requests - sent);
+                    for (int i = 0; i < batch; i++) {
+                        client.sendDeposit(sent + i, 0, 1.0);
+                    }
+                    client.receive(listener, batch);
+                }
+                long elapsed = System.nanoTime() - begin;
+                System.out.printf("%s: %d deposits, window %d: %.0f req/s, %.0f ns/req%n",
+                        round == 0 ? "warm-up" : "measured", requests, window,
+                        requests * 1e9 / elapsed, (double) elapsed / requests);
+            }
+        } finally {
+            server.stop();
+        }
+        System.out.println("failures: " + failures[0]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+
+/**
+ * Micro-benchmark comparing the throwing and the non-throwing decline paths.
+ *
+ * <p>Every withdrawal is rejected for insufficient funds, so only the decline
+ * path is measured. It is a plain {@code main} program rather than a test so
+ * that it is not run by the build:
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.DeclinePathBenchmark
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class DeclinePathBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000_000;
+    private static final int MEASURED_ITERATIONS = 5_000_000;
+
+    public static void main(String[] args) {
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        Account account = new Account("Joe", "EUR");
+        account.setBalance(10.0);
+
+        runThrowing(accountService, account, WARMUP_ITERATIONS);
+        runNonThrowing(accountService, account, WARMUP_ITERATIONS);
+
+        long start = System.nanoTime();
+        long declines = runThrowing(accountService, account, MEASURED_ITERATIONS);
+        long throwingNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        declines += runNonThrowing(accountService, account, MEASURED_ITERATIONS);
+        long nonThrowingNanos = System.nanoTime() - start;
+
+        System.out.printf("withdraw (exception) : %8.1f ns/op%n", (double) throwingNanos / MEASURED_ITERATIONS);
+        System.out.printf("tryWithdraw (status) : %8.1f ns/op%n", (double) nonThrowingNanos / MEASURED_ITERATIONS);
+        System.out.println("declines: " + declines);
+    }
+
+    private static long runThrowing(AccountService accountService, Account account, int iterations) {
+        long declines = 0;
+        for (int i = 0; i < iterations; i++) {
+            try {
+                accountService.withdraw(account, 100.0 + (i & 7));
+            } catch (IllegalArgumentException e) {
+                declines++;
+            }
+        }
+        return declines;
+    }
+
+    private static long runNonThrowing(AccountService accountService, Account account, int iterations) {
+        long declines = 0;
+        for (int i = 0; i < iterations; i++) {
+            OperationResult result = accountService.tryWithdraw(account, 100.0 + (i & 7));
+            if (!result.isSuccessful()) {
+                declines++;
+            }
+        }
+        return declines;
+    }
+}
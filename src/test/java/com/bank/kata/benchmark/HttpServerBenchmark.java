@@ -0,0 +1,97 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.load.LatencyHistogram;
+import com.bank.kata.model.Account;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import com.bank.kata.server.BankHttpServer;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionFormatterServiceImpl;
+import com.bank.kata.service.TransactionService;
+import com.bank.kata.service.TransactionServiceImpl;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures deposit latency and throughput through the embedded HTTP server.
+ *
+ * <p>Each client thread keeps its own keep-alive connection and issues
+ * deposits against its own account, so the number of threads is the number
+ * of concurrent connections.
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.HttpServerBenchmark [connections] [requestsPerConnection]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class HttpServerBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        TransactionService transactionService = new TransactionServiceImpl();
+        AccountRepository accountRepository = new AccountRepositoryImpl();
+        BankHttpServer server = new BankHttpServer(0, accountRepository, new AccountServiceImpl(transactionService),
+                transactionService, new TransactionFormatterServiceImpl());
+        server.start();
+        byte[] body = "{\"amount\": 1.5}".getBytes(StandardCharsets.US_ASCII);
+
+        List<Thread> threads = new ArrayList<>();
+        LatencyHistogram[] histograms = new LatencyHistogram[connections];
+        CountDownLatch start = new CountDownLatch(1);
+        for (int c = 0; c < connections; c++) {
+            Account account = accountRepository.save(new Account("Client " + c, "EUR"));
+            URL url = new URL("http://localhost:" + server.getPort() + "/accounts/" + account.getAccountId() + "/deposit");
+            LatencyHistogram histogram = histograms[c] = new LatencyHistogram();
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < requests; i++) {
+                        long begin = System.nanoTime();
+                        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                        connection.setRequestMethod("POST");
+                        connection.setDoOutput(true);
+                        try (OutputStream output = connection.getOutputStream()) {
+                            output.write(body);
+                        }
+                        try (InputStream input = connection.getInputStream()) {
+                            input.readAllBytes();
+                        }
+                        histogram.record(System.nanoTime() - begin);
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        server.stop();
+
+        LatencyHistogram total = new LatencyHistogram();
+        for (LatencyHistogram histogram : histograms) {
+            total.merge(histogram);
+        }
+        System.out.printf("%d connections, %d requests, %s threads%n", connections, total.getTotalCount(),
+                BankHttpServer.usesVirtualThreads() ? "virtual" : "platform");
+        System.out.printf("throughput: %.0f req/s%n", total.getTotalCount() * 1e9 / elapsed);
+        System.out.printf("latency us: p50=%d p99=%d p99.9=%d max=%d%n", total.percentile(50) / 1000,
+                total.percentile(99) / 1000, total.percentile(99.9) / 1000, total.getMax() / 1000);
+    }
+}
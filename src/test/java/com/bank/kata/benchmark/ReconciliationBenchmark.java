@@ -0,0 +1,63 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ReconciliationReport;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.service.ColumnarTransactionFormatterServiceImpl;
+import com.bank.kata.service.ReconciliationService;
+import com.bank.kata.service.ReconciliationServiceImpl;
+import com.bank.kata.service.StatementExportServiceImpl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures reconciliation throughput over live histories and over columnar exports.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.ReconciliationBenchmark [accounts] [transactionsPerAccount] [partitions]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ReconciliationBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int perAccount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int partitions = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        SplittableRandom random = new SplittableRandom(42L);
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            double balance = 0.0;
+            for (int t = 0; t < perAccount; t++) {
+                double amount = (1 + random.nextInt(50_000)) / 100.0;
+                TransactionType type = random.nextInt(3) == 0 && balance >= amount
+                        ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT;
+                balance = type == TransactionType.DEPOSIT ? balance + amount : balance - amount;
+                account.getTransactions().add(new Transaction(type, amount, balance));
+            }
+            account.setBalance(balance);
+            accounts.add(account);
+        }
+
+        Path directory = Files.createTempDirectory("reconciliation");
+        List<Path> files = new StatementExportServiceImpl().exportAll(accounts,
+                new ColumnarTransactionFormatterServiceImpl(), directory, partitions);
+
+        ReconciliationService service = new ReconciliationServiceImpl();
+        for (int round = 0; round < 3; round++) {
+            ReconciliationReport heap = service.reconcile(accounts);
+            System.out.println("heap:     " + heap);
+            ReconciliationReport disk = service.reconcileFiles(files, null);
+            System.out.println("columnar: " + disk);
+        }
+    }
+}
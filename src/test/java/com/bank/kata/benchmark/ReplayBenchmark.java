@@ -0,0 +1,86 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ReplayPoint;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionEvent;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import com.bank.kata.service.ReplayService;
+import com.bank.kata.service.ReplayServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how replays scale with the size of the journal, rebuilding every account on one
+ * partition and on one partition per core, and rebuilding a single account.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.ReplayBenchmark [accounts] [maxEvents]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ReplayBenchmark {
+
+    public static void main(String[] args) {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int maxEvents = args.length > 1 ? Integer.parseInt(args[1]) : 4_000_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        AccountRepository repository = new AccountRepositoryImpl();
+        Account[] accounts = new Account[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accounts[i] = repository.save(new Account("Owner " + i, "EUR"));
+        }
+        ForkJoinPool pool = new ForkJoinPool(cores);
+        ReplayService sequential = new ReplayServiceImpl(pool, 1);
+        ReplayService partitioned = new ReplayServiceImpl(pool, cores * 4);
+        System.out.printf("%d accounts, %d cores%n", accountCount, cores);
+
+        for (int events = maxEvents / 16; events <= maxEvents; events *= 4) {
+            List<TransactionEvent> journal = journal(accounts, events);
+            ReplayPoint last = ReplayPoint.atSequence(events - 1);
+            for (int round = 0; round < 3; round++) {
+                long one = time(() -> sequential.reconstructAll(journal, repository, last));
+                long all = time(() -> partitioned.reconstructAll(journal, repository, last));
+                long single = time(() -> sequential.reconstruct(accounts[0], journal, last));
+                System.out.printf("%,10d events: all accounts %6.1f ms (1 partition), %6.1f ms (%d partitions); "
+                                + "one account %6.1f ms%n",
+                        events, one / 1e6, all / 1e6, cores * 4, single / 1e6);
+            }
+        }
+        pool.shutdown();
+    }
+
+    private static List<TransactionEvent> journal(Account[] accounts, int events) {
+        SplittableRandom random = new SplittableRandom(7L);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<TransactionEvent> journal = new ArrayList<>(events);
+        // Running balances, so that each event records the balance the replay recomputes
+        double[] balances = new double[accounts.length];
+        for (int i = 0; i < events; i++) {
+            int index = random.nextInt(accounts.length);
+            Account account = accounts[index];
+            TransactionType type = random.nextInt(4) == 0 ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT;
+            double amount = (1 + random.nextInt(10_000)) / 100.0;
+            balances[index] = type == TransactionType.DEPOSIT ? balances[index] + amount : balances[index] - amount;
+            journal.add(new TransactionEvent(i, account.getAccountId(), new Transaction(start.plusSeconds(i), type,
+                    amount, balances[index], amount, account.getCurrencyId(), 1.0)));
+        }
+        return journal;
+    }
+
+    private static long time(Runnable replay) {
+        long begin = System.nanoTime();
+        replay.run();
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,80 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.ExchangeRateServiceImpl;
+import com.bank.kata.service.RiskScoringServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+import com.bank.kata.support.MutableClock;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/**
+ * Measures the latency added by the risk scoring stage to deposits and withdrawals.
+ *
+ * <p>The scorer reads a simulated clock moving forward 1 ms each time it is read,
+ * so that the operations are spread over time like real traffic rather than
+ * all raising burst alerts.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.RiskScoringBenchmark [accounts] [operations]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class RiskScoringBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+
+        for (int round = 0; round < 3; round++) {
+            run("none", new AccountServiceImpl(new TransactionServiceImpl()), accountCount, operations);
+
+            RiskScoringServiceImpl blocking = new RiskScoringServiceImpl(RiskScoringServiceImpl.Mode.BLOCKING,
+                    RiskScoringServiceImpl.DEFAULT_BLOCKING_FLAGS, alert -> { }, simulatedClock());
+            run("blocking", new AccountServiceImpl(new TransactionServiceImpl(), new ExchangeRateServiceImpl(),
+                    blocking), accountCount, operations);
+            System.out.printf("  %d scored, %d alerts, %d declined%n",
+                    blocking.getScoredCount(), blocking.getAlertCount(), blocking.getDeclinedCount());
+
+            try (RiskScoringServiceImpl flagOnly = new RiskScoringServiceImpl(RiskScoringServiceImpl.Mode.FLAG_ONLY,
+                    RiskScoringServiceImpl.DEFAULT_BLOCKING_FLAGS, alert -> { }, simulatedClock())) {
+                run("flag-only", new AccountServiceImpl(new TransactionServiceImpl(), new ExchangeRateServiceImpl(),
+                        flagOnly), accountCount, operations);
+                System.out.printf("  %d scored, %d dropped, %d alerts%n",
+                        flagOnly.getScoredCount(), flagOnly.getDroppedCount(), flagOnly.getAlertCount());
+            }
+        }
+    }
+
+    private static void run(String name, AccountService accountService, int accountCount, int operations) {
+        Account[] accounts = new Account[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accounts[i] = new Account("Owner " + i, "EUR");
+        }
+        SplittableRandom random = new SplittableRandom(42L);
+        long begin = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            Account account = accounts[random.nextInt(accountCount)];
+            double amount = 50 + random.nextInt(100);
+            if (random.nextInt(3) == 0) {
+                accountService.tryWithdraw(account, amount);
+            } else {
+                accountService.tryDeposit(account, amount);
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        System.out.printf("%-9s %6.0f ns/operation%n", name, (double) elapsed / operations);
+    }
+
+    /**
+     * UTC clock moving forward 1 ms each time it is read.
+     */
+    private static MutableClock simulatedClock() {
+        return new MutableClock(Instant.parse("2025-01-09T00:00:00Z").toEpochMilli(), 1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.CachingTransactionFormatterServiceImpl;
+import com.bank.kata.service.TransactionFormatterService;
+import com.bank.kata.service.TransactionFormatterServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares repeated statement downloads with and without the rendering cache,
+ * while a share of the accounts keeps receiving new transactions.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.StatementCacheBenchmark [accounts] [transactionsPerAccount] [requests] [cacheMegabytes]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class StatementCacheBenchmark {
+
+    public static void main(String[] args) {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int perAccount = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        long cacheBytes = (args.length > 3 ? Long.parseLong(args[3]) : 256) << 20;
+
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            for (int t = 0; t < perAccount; t++) {
+                accountService.deposit(account, 1 + t % 100);
+            }
+            accounts.add(account);
+        }
+
+        TransactionFormatterServiceImpl plain = new TransactionFormatterServiceImpl();
+        CachingTransactionFormatterServiceImpl cached = new CachingTransactionFormatterServiceImpl(plain, cacheBytes);
+        for (int round = 0; round < 2; round++) {
+            run("plain", plain, accounts, accountService, requests);
+            run("cached", cached, accounts, accountService, requests);
+        }
+        System.out.printf("hit rate %.3f, %d rows rendered, %.1f MB cached in %d statements, %d evictions%n",
+                cached.getHitRate(), cached.getRowsRendered(), cached.getWeightBytes() / 1e6,
+                cached.size(), cached.getEvictionCount());
+    }
+
+    private static void run(String name, TransactionFormatterService formatter, List<Account> accounts,
+                            AccountService accountService, int requests) {
+        SplittableRandom random = new SplittableRandom(7L);
+        long chars = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            Account account = accounts.get(random.nextInt(accounts.size()));
+            if (random.nextInt(10) == 0) {
+                accountService.deposit(account, 1 + random.nextInt(100));
+            }
+            chars += formatter.format(account).length();
+        }
+        long elapsed = System.nanoTime() - begin;
+        System.out.printf("%-6s %6d statements in %6d ms: %8.0f statements/s (%d chars)%n", name, requests,
+                elapsed / 1_000_000, requests / (elapsed / 1e9), chars);
+    }
+}
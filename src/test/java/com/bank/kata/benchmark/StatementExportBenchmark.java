@@ -0,0 +1,75 @@
+package com.bank.kata.benchmark;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.ColumnarTransactionFormatterServiceImpl;
+import com.bank.kata.service.CsvTransactionFormatterServiceImpl;
+import com.bank.kata.service.StatementExportService;
+import com.bank.kata.service.StatementExportServiceImpl;
+import com.bank.kata.service.TransactionFormatterService;
+import com.bank.kata.service.TransactionFormatterServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures export throughput of the text, CSV and columnar formats.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.bank.kata.benchmark.StatementExportBenchmark [accounts] [transactionsPerAccount] [partitions]
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class StatementExportBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int accountCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int perAccount = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int partitions = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        SplittableRandom random = new SplittableRandom(42L);
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            for (int t = 0; t < perAccount; t++) {
+                double amount = (1 + random.nextInt(50_000)) / 100.0;
+                if (random.nextInt(3) == 0) {
+                    accountService.tryWithdraw(account, amount);
+                } else {
+                    accountService.tryDeposit(account, amount);
+                }
+            }
+            accounts.add(account);
+        }
+
+        Path directory = Files.createTempDirectory("statement-export");
+        StatementExportService exporter = new StatementExportServiceImpl();
+        TransactionFormatterService[] formatters = {
+                new TransactionFormatterServiceImpl(),
+                new CsvTransactionFormatterServiceImpl(),
+                new ColumnarTransactionFormatterServiceImpl()
+        };
+        for (int round = 0; round < 2; round++) {
+            for (TransactionFormatterService formatter : formatters) {
+                long begin = System.nanoTime();
+                List<Path> files = exporter.exportAll(accounts, formatter,
+                        directory.resolve(formatter.getFileExtension()), partitions);
+                long elapsed = System.nanoTime() - begin;
+                long bytes = 0;
+                for (Path file : files) {
+                    bytes += Files.size(file);
+                }
+                System.out.printf("%-4s %8.1f MB in %5d ms: %7.1f MB/s%n", formatter.getFileExtension(),
+                        bytes / 1e6, elapsed / 1_000_000, bytes / 1e6 / (elapsed / 1e9));
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.bank.kata.load;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Replayable load generator and soak-test harness for the {@link AccountService}.
+ *
+ * <p>Worker threads draw accounts from a Zipfian distribution and perform a
+ * weighted mix of deposits, withdrawals and transfers. A transfer is a
+ * withdrawal from one account followed by a deposit into another; when the
+ * deposit is rejected, the amount is refunded to the first account. Every
+ * operation is timed, and the completed operations are counted per reporting
+ * interval. At the end of the run, the harness checks that:
+ * <ul>
+ *     <li>the sum of the balances equals the initial funding plus the deposits minus the withdrawals;</li>
+ *     <li>each transaction's balance equals the previous one plus or minus its amount;</li>
+ *     <li>the last recorded balance of each account equals its current balance;</li>
+ *     <li>every debited transfer was either credited or refunded.</li>
+ * </ul>
+ *
+ * <p>Run it with {@code key=value} arguments (see {@link WorkloadConfig#parse(String...)}):
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes com.bank.kata.load.LoadGenerator accounts=100000 threads=8 theta=0.99
+ * </pre>
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class LoadGenerator {
+
+    /**
+     * Longest run covered by the throughput-over-time series, in intervals.
+     */
+    private static final int MAX_INTERVALS = 3_600;
+
+    private final AccountService accountService;
+
+    /**
+     * Creates a load generator driving the given service.
+     *
+     * @param accountService the service under load.
+     */
+    public LoadGenerator(AccountService accountService) {
+        this.accountService = accountService;
+    }
+
+    public static void main(String[] args) {
+        WorkloadConfig config = WorkloadConfig.parse(args);
+        LoadReport report = new LoadGenerator(new AccountServiceImpl(new TransactionServiceImpl())).run(config);
+        System.out.print(report);
+        if (!report.getViolations().isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Creates and funds the accounts, runs the workload and verifies the invariants.
+     *
+     * @param config the workload to run.
+     * @return the report of the run.
+     */
+    public LoadReport run(WorkloadConfig config) {
+        config.validate();
+        List<Account> accounts = new ArrayList<>(config.getAccountCount());
+        for (int i = 0; i < config.getAccountCount(); i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            if (config.getInitialBalance() > 0) {
+                accountService.deposit(account, config.getInitialBalance());
+            }
+            accounts.add(account);
+        }
+        double funding = config.getInitialBalance() * config.getAccountCount();
+        ZipfianGenerator zipfian = new ZipfianGenerator(config.getAccountCount(), config.getZipfTheta());
+
+        Worker[] workers = new Worker[config.getThreadCount()];
+        AtomicLongArray intervals = new AtomicLongArray(MAX_INTERVALS);
+        CountDownLatch start = new CountDownLatch(1);
+        long intervalNanos = config.getReportIntervalMillis() * 1_000_000L;
+        long[] startNanos = new long[1];
+        Thread[] threads = new Thread[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            // Each worker owns a random stream derived from the seed, which makes its operations replayable
+            workers[i] = new Worker(config, accounts, zipfian, new SplittableRandom(config.getSeed() + 0x9E3779B97F4A7C15L * (i + 1)),
+                    intervals, intervalNanos, startNanos, start);
+            threads[i] = new Thread(workers[i], "load-worker-" + i);
+            threads[i].start();
+        }
+        startNanos[0] = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Load run was interrupted.", e);
+            }
+        }
+        long elapsed = System.nanoTime() - startNanos[0];
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        double deposited = 0;
+        double withdrawn = 0;
+        long rejected = 0;
+        long lostTransfers = 0;
+        for (Worker worker : workers) {
+            latencies.merge(worker.latencies);
+            deposited += worker.deposited;
+            withdrawn += worker.withdrawn;
+            rejected += worker.rejected;
+            lostTransfers += worker.lostTransfers;
+        }
+        int usedIntervals = (int) Math.min(MAX_INTERVALS, elapsed / intervalNanos + 1);
+        long[] operationsPerInterval = new long[usedIntervals];
+        for (int i = 0; i < usedIntervals; i++) {
+            operationsPerInterval[i] = intervals.get(i);
+        }
+        List<String> violations = verify(accounts, funding + deposited - withdrawn, funding + deposited + withdrawn);
+        if (lostTransfers > 0) {
+            violations.add(lostTransfers + " transfers were debited but neither credited nor refunded");
+        }
+        return new LoadReport(config, latencies, operationsPerInterval, rejected, elapsed, violations);
+    }
+
+    /**
+     * Checks the balance invariants of all accounts.
+     *
+     * @param accounts the accounts to verify.
+     * @param expectedTotal the expected sum of all balances.
+     * @param volume the total amount moved, used to scale the rounding tolerance.
+     * @return the violations found, empty if every invariant holds.
+     */
+    static List<String> verify(List<Account> accounts, double expectedTotal, double volume) {
+        List<String> violations = new ArrayList<>();
+        double total = 0;
+        for (Account account : accounts) {
+            total += account.getBalance();
+            double previous = 0;
+            List<Transaction> transactions = account.getTransactions();
+            for (int i = 0; i < transactions.size(); i++) {
+                Transaction transaction = transactions.get(i);
+                double signed = transaction.getType() == TransactionType.WITHDRAWAL
+                        ? -transaction.getAmount() : transaction.getAmount();
+                if (!closeTo(previous + signed, transaction.getBalanceAfterTransaction(), previous)) {
+                    violations.add("Account " + account.getAccountId() + ": transaction " + i
+                            + " has balance " + transaction.getBalanceAfterTransaction()
+                            + " but " + (previous + signed) + " was expected");
+                }
+                previous = transaction.getBalanceAfterTransaction();
+            }
+            if (!transactions.isEmpty() && !closeTo(previous, account.getBalance(), previous)) {
+                violations.add("Account " + account.getAccountId() + ": balance " + account.getBalance()
+                        + " differs from last recorded balance " + previous);
+            }
+        }
+        if (!closeTo(expectedTotal, total, volume)) {
+            violations.add("Sum of balances " + total + " differs from expected " + expectedTotal);
+        }
+        return violations;
+    }
+
+    private static boolean closeTo(double expected, double actual, double magnitude) {
+        return Math.abs(expected - actual) <= 1e-9 * Math.abs(magnitude) + 1e-6;
+    }
+
+    /**
+     * Worker thread running its share of the workload.
+     */
+    private final class Worker implements Runnable {
+        private final WorkloadConfig config;
+        private final List<Account> accounts;
+        private final ZipfianGenerator zipfian;
+        private final SplittableRandom random;
+        private final AtomicLongArray intervals;
+        private final long intervalNanos;
+        private final long[] startNanos;
+        private final CountDownLatch start;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private double deposited;
+        private double withdrawn;
+        private long rejected;
+        private long lostTransfers;
+
+        private Worker(WorkloadConfig config, List<Account> accounts, ZipfianGenerator zipfian,
+                       SplittableRandom random, AtomicLongArray intervals, long intervalNanos,
+                       long[] startNanos, CountDownLatch start) {
+            this.config = config;
+            this.accounts = accounts;
+            this.zipfian = zipfian;
+            this.random = random;
+            this.intervals = intervals;
+            this.intervalNanos = intervalNanos;
+            this.startNanos = startNanos;
+            this.start = start;
+        }
+
+        @Override
+        public void run() {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            int totalWeight = config.getDepositWeight() + config.getWithdrawWeight() + config.getTransferWeight();
+            long maxCents = Math.round(config.getMaxAmount() * 100);
+            for (int i = 0; i < config.getOperationsPerThread(); i++) {
+                int pick = random.nextInt(totalWeight);
+                Account account = accounts.get(zipfian.next(random));
+                double amount = (1 + random.nextLong(maxCents)) / 100.0;
+                long begin = System.nanoTime();
+                if (pick < config.getDepositWeight()) {
+                    if (accountService.tryDeposit(account, amount).isSuccessful()) {
+                        deposited += amount;
+                    } else {
+                        rejected++;
+                    }
+                } else if (pick < config.getDepositWeight() + config.getWithdrawWeight()) {
+                    if (accountService.tryWithdraw(account, amount).isSuccessful()) {
+                        withdrawn += amount;
+                    } else {
+                        rejected++;
+                    }
+                } else {
+                    Account target = accounts.get(zipfian.next(random));
+                    if (target == account || !accountService.tryWithdraw(account, amount).isSuccessful()) {
+                        rejected++;
+                    } else {
+                        withdrawn += amount;
+                        if (accountService.tryDeposit(target, amount).isSuccessful()) {
+                            deposited += amount;
+                        } else {
+                            // The target refused the money: give it back to the source
+                            rejected++;
+                            if (accountService.tryDeposit(account, amount).isSuccessful()) {
+                                deposited += amount;
+                            } else {
+                                lostTransfers++;
+                            }
+                        }
+                    }
+                }
+                long end = System.nanoTime();
+                latencies.record(end - begin);
+                int interval = (int) ((end - startNanos[0]) / intervalNanos);
+                if (interval < MAX_INTERVALS) {
+                    intervals.incrementAndGet(interval);
+                }
+            }
+        }
+    }
+}
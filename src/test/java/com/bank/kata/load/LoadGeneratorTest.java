@@ -0,0 +1,153 @@
+package com.bank.kata.load;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.ExchangeRateServiceImpl;
+import com.bank.kata.service.RiskScoringService;
+import com.bank.kata.service.TransactionServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.function.BiPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Short runs of the load-generation harness.
+ *
+ * <p>These tests keep the workloads small so that they run with the unit
+ * tests, while still exercising concurrent access to hot accounts and the
+ * end-of-run invariant checks.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class LoadGeneratorTest {
+
+    /**
+     * Verifies that a concurrent, skewed workload keeps every invariant.
+     *
+     * <p>Scenario:
+     * - Given: 50 accounts, 4 threads and a very skewed distribution.
+     * - When: 20,000 mixed operations are run.
+     * - Then: Every operation is timed and no invariant is violated.
+     */
+    @Test
+    void shouldKeepInvariantsUnderConcurrentSkewedLoad() {
+        // Arrange
+        WorkloadConfig config = WorkloadConfig.defaults()
+                .withAccounts(50).withThreads(4).withOperationsPerThread(5_000).withZipfTheta(0.99);
+        LoadGenerator generator = new LoadGenerator(new AccountServiceImpl(new TransactionServiceImpl()));
+
+        // Act
+        LoadReport report = generator.run(config);
+
+        // Assert
+        assertEquals(20_000, report.getLatencies().getTotalCount());
+        assertTrue(report.getViolations().isEmpty(), report.toString());
+    }
+
+    /**
+     * Verifies that a single-threaded workload is replayed exactly from its seed.
+     *
+     * <p>Scenario:
+     * - Given: The same single-threaded configuration and seed.
+     * - When: The workload is run twice.
+     * - Then: Both runs reject exactly the same number of operations.
+     */
+    @Test
+    void shouldReplaySameWorkloadFromSeed() {
+        // Arrange
+        WorkloadConfig config = WorkloadConfig.defaults()
+                .withSeed(7L).withAccounts(20).withThreads(1).withOperationsPerThread(2_000).withInitialBalance(10.0);
+
+        // Act
+        LoadReport first = new LoadGenerator(new AccountServiceImpl(new TransactionServiceImpl())).run(config);
+        LoadReport second = new LoadGenerator(new AccountServiceImpl(new TransactionServiceImpl())).run(config);
+
+        // Assert
+        assertTrue(first.getRejectedOperations() > 0);
+        assertEquals(first.getRejectedOperations(), second.getRejectedOperations());
+    }
+
+    /**
+     * Verifies that transfers whose deposit is rejected are refunded, and reported when they cannot be.
+     *
+     * <p>Scenario:
+     * - Given: A transfer-only workload where deposits into the hottest account are declined
+     *   after its funding, then one where every deposit after the funding is declined.
+     * - When: Both workloads are run.
+     * - Then: The first keeps every invariant, and the second reports the transfers it lost.
+     */
+    @Test
+    void shouldRefundOrReportTransfersWhoseDepositIsRejected() {
+        // Arrange
+        WorkloadConfig config = WorkloadConfig.defaults()
+                .withAccounts(10).withThreads(2).withOperationsPerThread(1_000).withMix(0, 0, 1);
+        LoadGenerator refunding = new LoadGenerator(new AccountServiceImpl(new TransactionServiceImpl(),
+                new ExchangeRateServiceImpl(), declining((account, amount) -> "Owner 0".equals(account.getOwnerName())
+                        && amount != config.getInitialBalance())));
+        LoadGenerator losing = new LoadGenerator(new AccountServiceImpl(new TransactionServiceImpl(),
+                new ExchangeRateServiceImpl(), declining((account, amount) -> amount != config.getInitialBalance())));
+
+        // Act
+        LoadReport refunded = refunding.run(config);
+        LoadReport lost = losing.run(config);
+
+        // Assert
+        assertTrue(refunded.getRejectedOperations() > 0);
+        assertTrue(refunded.getViolations().isEmpty(), refunded.toString());
+        assertTrue(lost.getViolations().stream().anyMatch(violation -> violation.contains("neither credited nor refunded")),
+                lost.toString());
+    }
+
+    /**
+     * Verifies that the Zipfian generator favours low indexes.
+     */
+    @Test
+    void shouldDrawHotAccountsMoreOften() {
+        ZipfianGenerator zipfian = new ZipfianGenerator(1_000, 0.99);
+        SplittableRandom random = new SplittableRandom(1L);
+        int hot = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (zipfian.next(random) < 10) {
+                hot++;
+            }
+        }
+        // The 10 hottest of 1000 accounts receive far more than 1% of the draws
+        assertTrue(hot > 2_000, "hot draws: " + hot);
+    }
+
+    /**
+     * Verifies that percentiles are reported within the histogram precision.
+     */
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        long median = histogram.percentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 1.07, "median: " + median);
+        assertEquals(1_000_000, histogram.percentile(100));
+    }
+
+    /**
+     * Returns a risk stage declining the deposits matching the given rule.
+     */
+    private static RiskScoringService declining(BiPredicate<Account, Double> rule) {
+        return new RiskScoringService() {
+            @Override
+            public boolean approve(Account account, TransactionType type, double amount) {
+                return type != TransactionType.DEPOSIT || !rule.test(account, amount);
+            }
+
+            @Override
+            public void onCommitted(Account account, Transaction transaction) {
+                // Nothing to learn
+            }
+        };
+    }
+}
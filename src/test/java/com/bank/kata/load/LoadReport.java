@@ -0,0 +1,84 @@
+package com.bank.kata.load;
+
+import java.util.List;
+
+/**
+ * Outcome of a load-generation run.
+ *
+ * <p>A load report carries the merged latency histogram, the number of
+ * operations completed in each reporting interval, the number of rejected
+ * operations, and the invariant violations found once the run was over.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class LoadReport {
+
+    private final WorkloadConfig config;
+    private final LatencyHistogram latencies;
+    private final long[] operationsPerInterval;
+    private final long rejectedOperations;
+    private final long elapsedNanos;
+    private final List<String> violations;
+
+    LoadReport(WorkloadConfig config, LatencyHistogram latencies, long[] operationsPerInterval,
+               long rejectedOperations, long elapsedNanos, List<String> violations) {
+        this.config = config;
+        this.latencies = latencies;
+        this.operationsPerInterval = operationsPerInterval;
+        this.rejectedOperations = rejectedOperations;
+        this.elapsedNanos = elapsedNanos;
+        this.violations = violations;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the number of operations completed in each reporting interval.
+     *
+     * @return the throughput over time, one entry per interval.
+     */
+    public long[] getOperationsPerInterval() {
+        return operationsPerInterval.clone();
+    }
+
+    public long getRejectedOperations() {
+        return rejectedOperations;
+    }
+
+    public double getOperationsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : latencies.getTotalCount() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the invariant violations found at the end of the run.
+     *
+     * @return the violations, empty if every invariant holds.
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Workload: ").append(config).append("\n");
+        builder.append(String.format("Operations: %d (%d rejected), %.0f ops/s%n",
+                latencies.getTotalCount(), rejectedOperations, getOperationsPerSecond()));
+        builder.append(String.format("Latency ns: p50=%d p90=%d p99=%d p99.9=%d max=%d%n",
+                latencies.percentile(50), latencies.percentile(90), latencies.percentile(99),
+                latencies.percentile(99.9), latencies.getMax()));
+        builder.append("Throughput per ").append(config.getReportIntervalMillis()).append(" ms:");
+        for (long operations : operationsPerInterval) {
+            builder.append(' ').append(operations);
+        }
+        builder.append("\n");
+        builder.append(violations.isEmpty() ? "Invariants: OK\n" : "Invariants: " + violations.size() + " violation(s)\n");
+        for (String violation : violations) {
+            builder.append("  ").append(violation).append("\n");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,195 @@
+package com.bank.kata.load;
+
+/**
+ * Parameters of a load-generation run.
+ *
+ * <p>A workload is fully determined by its parameters and its seed: each
+ * worker thread derives its own random stream from the seed, so running the
+ * same configuration again replays the same sequence of operations per thread.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class WorkloadConfig {
+
+    private long seed = 42L;
+    private int accountCount = 10_000;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private int operationsPerThread = 100_000;
+    private double zipfTheta = 0.99;
+    private int depositWeight = 45;
+    private int withdrawWeight = 40;
+    private int transferWeight = 15;
+    private double maxAmount = 500.0;
+    private double initialBalance = 1_000.0;
+    private long reportIntervalMillis = 1_000L;
+
+    /**
+     * Returns a configuration holding the default parameters.
+     *
+     * @return a new configuration.
+     */
+    public static WorkloadConfig defaults() {
+        return new WorkloadConfig();
+    }
+
+    /**
+     * Parses {@code key=value} arguments (e.g., {@code accounts=1000 threads=8 theta=0.8}).
+     *
+     * @param args the arguments to parse.
+     * @return a configuration with the given parameters applied over the defaults.
+     * @throws IllegalArgumentException if an argument is unknown or malformed.
+     */
+    public static WorkloadConfig parse(String... args) {
+        WorkloadConfig config = defaults();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(0, separator)) {
+                case "seed": config.seed = Long.parseLong(value); break;
+                case "accounts": config.accountCount = Integer.parseInt(value); break;
+                case "threads": config.threadCount = Integer.parseInt(value); break;
+                case "operations": config.operationsPerThread = Integer.parseInt(value); break;
+                case "theta": config.zipfTheta = Double.parseDouble(value); break;
+                case "deposit": config.depositWeight = Integer.parseInt(value); break;
+                case "withdraw": config.withdrawWeight = Integer.parseInt(value); break;
+                case "transfer": config.transferWeight = Integer.parseInt(value); break;
+                case "maxAmount": config.maxAmount = Double.parseDouble(value); break;
+                case "initialBalance": config.initialBalance = Double.parseDouble(value); break;
+                case "intervalMillis": config.reportIntervalMillis = Long.parseLong(value); break;
+                default: throw new IllegalArgumentException("Unknown parameter: " + arg);
+            }
+        }
+        return config.validate();
+    }
+
+    /**
+     * Checks that the parameters describe a runnable workload.
+     *
+     * @return this configuration.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    public WorkloadConfig validate() {
+        if (accountCount < 2 || threadCount < 1 || operationsPerThread < 0) {
+            throw new IllegalArgumentException("At least 2 accounts and 1 thread are required.");
+        }
+        if (depositWeight < 0 || withdrawWeight < 0 || transferWeight < 0
+                || depositWeight + withdrawWeight + transferWeight == 0) {
+            throw new IllegalArgumentException("Operation weights must be non-negative and not all zero.");
+        }
+        if (zipfTheta < 0 || zipfTheta == 1.0 || !(maxAmount >= 0.01) || initialBalance < 0
+                || reportIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Invalid distribution, amount or interval parameter.");
+        }
+        return this;
+    }
+
+    public WorkloadConfig withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public WorkloadConfig withAccounts(int accountCount) {
+        this.accountCount = accountCount;
+        return this;
+    }
+
+    public WorkloadConfig withThreads(int threadCount) {
+        this.threadCount = threadCount;
+        return this;
+    }
+
+    public WorkloadConfig withOperationsPerThread(int operationsPerThread) {
+        this.operationsPerThread = operationsPerThread;
+        return this;
+    }
+
+    /**
+     * Sets the skew of the account distribution; 0 is uniform, close to 1 is very hot.
+     */
+    public WorkloadConfig withZipfTheta(double zipfTheta) {
+        this.zipfTheta = zipfTheta;
+        return this;
+    }
+
+    /**
+     * Sets the relative weights of deposits, withdrawals and transfers.
+     */
+    public WorkloadConfig withMix(int depositWeight, int withdrawWeight, int transferWeight) {
+        this.depositWeight = depositWeight;
+        this.withdrawWeight = withdrawWeight;
+        this.transferWeight = transferWeight;
+        return this;
+    }
+
+    public WorkloadConfig withMaxAmount(double maxAmount) {
+        this.maxAmount = maxAmount;
+        return this;
+    }
+
+    public WorkloadConfig withInitialBalance(double initialBalance) {
+        this.initialBalance = initialBalance;
+        return this;
+    }
+
+    public WorkloadConfig withReportIntervalMillis(long reportIntervalMillis) {
+        this.reportIntervalMillis = reportIntervalMillis;
+        return this;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getOperationsPerThread() {
+        return operationsPerThread;
+    }
+
+    public double getZipfTheta() {
+        return zipfTheta;
+    }
+
+    public int getDepositWeight() {
+        return depositWeight;
+    }
+
+    public int getWithdrawWeight() {
+        return withdrawWeight;
+    }
+
+    public int getTransferWeight() {
+        return transferWeight;
+    }
+
+    public double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public long getReportIntervalMillis() {
+        return reportIntervalMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + " accounts=" + accountCount + " threads=" + threadCount
+                + " operations=" + operationsPerThread + " theta=" + zipfTheta
+                + " deposit=" + depositWeight + " withdraw=" + withdrawWeight + " transfer=" + transferWeight
+                + " maxAmount=" + maxAmount + " initialBalance=" + initialBalance
+                + " intervalMillis=" + reportIntervalMillis;
+    }
+}
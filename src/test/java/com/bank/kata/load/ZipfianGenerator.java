@@ -0,0 +1,74 @@
+package com.bank.kata.load;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws account indexes following a Zipfian distribution.
+ *
+ * <p>Index 0 is the hottest account, index 1 the next hottest, and so on. The
+ * algorithm is the one from Gray et al., "Quickly Generating Billion-Record
+ * Synthetic Databases", which needs O(n) set-up and O(1) per draw. A theta
+ * of 0 yields a uniform distribution.
+ *
+ * <p>The generator is immutable; the random stream is supplied by the caller
+ * so that each thread can keep its own, seeded stream.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class ZipfianGenerator {
+
+    private final int items;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+
+    /**
+     * Creates a generator over {@code items} indexes.
+     *
+     * @param items the number of distinct indexes.
+     * @param theta the skew, in [0, 1).
+     */
+    public ZipfianGenerator(int items, double theta) {
+        if (items < 1 || theta < 0 || theta >= 1) {
+            throw new IllegalArgumentException("Items must be positive and theta in [0, 1).");
+        }
+        this.items = items;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(items, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    /**
+     * Draws the next index.
+     *
+     * @param random the random stream of the calling thread.
+     * @return an index in [0, items).
+     */
+    public int next(SplittableRandom random) {
+        if (theta == 0) {
+            return random.nextInt(items);
+        }
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, items - 1);
+        }
+        int index = (int) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(index, items - 1);
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
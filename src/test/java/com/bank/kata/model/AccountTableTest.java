@@ -0,0 +1,118 @@
+package com.bank.kata.model;
+
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AccountTable.
+ *
+ * <p>This class verifies that a registered account keeps its balance in the table
+ * while its operations still go through the account service, and that handles and
+ * capacity are checked.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountTableTest {
+
+    private final AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+
+    /**
+     * Verifies that the table owns the balance of a registered account.
+     *
+     * <p>Scenario:
+     * - Given: An account holding 100.0, registered in a padded table.
+     * - When: 50.0 is deposited and 30.0 withdrawn through the account service.
+     * - Then: The table and the account both report 120.0 and the three transactions are recorded.
+     */
+    @Test
+    void shouldKeepBalanceInTableThroughAccountService() {
+        // Arrange
+        Account account = new Account("Joe", "EUR");
+        accountService.deposit(account, 100.0);
+        AccountTable table = new AccountTable(4);
+        int handle = table.register(account);
+
+        // Act
+        accountService.deposit(account, 50.0);
+        accountService.withdraw(account, 30.0);
+
+        // Assert
+        assertEquals(120.0, table.getBalance(handle));
+        assertEquals(120.0, account.getBalance());
+        assertSame(account, table.getAccount(handle));
+        List<Transaction> transactions = account.getTransactions();
+        assertEquals(3, transactions.size());
+        assertEquals(120.0, transactions.get(2).getBalanceAfterTransaction());
+    }
+
+    /**
+     * Verifies that concurrent operations on neighbouring slots are not lost.
+     *
+     * <p>Scenario:
+     * - Given: 16 accounts in a packed table, so that eight balances share a cache line.
+     * - When: 4 threads deposit 1.0 10,000 times each, spread over all the accounts.
+     * - Then: Each balance matches the number of transactions recorded on its account.
+     */
+    @Test
+    void shouldNotLoseConcurrentOperationsOnPackedSlots() throws InterruptedException {
+        // Arrange
+        AccountTable table = new AccountTable(16, 1);
+        for (int i = 0; i < 16; i++) {
+            table.register(new Account("Owner " + i, "EUR"));
+        }
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int first = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    accountService.tryDeposit(table.getAccount((first + 4 * i) % 16), 1.0);
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        double total = 0.0;
+        for (int handle = 0; handle < 16; handle++) {
+            assertEquals(table.getAccount(handle).getTransactionCount(), table.getBalance(handle));
+            total += table.getBalance(handle);
+        }
+        assertEquals(40_000.0, total);
+    }
+
+    /**
+     * Verifies that registrations and handles are checked.
+     *
+     * <p>Scenario:
+     * - Given: A table with room for one account, which is registered.
+     * - When: The same account is registered in another table, another account is added, and an unknown
+     *   handle is read.
+     * - Then: The first two throw IllegalStateException and the last IllegalArgumentException.
+     */
+    @Test
+    void shouldRejectDoubleRegistrationFullTableAndUnknownHandle() {
+        // Arrange
+        Account account = new Account("Joe", "EUR");
+        AccountTable table = new AccountTable(1);
+        table.register(account);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new AccountTable(1).register(account));
+        assertThrows(IllegalStateException.class, () -> table.register(new Account("Jane", "EUR")));
+        assertThrows(IllegalArgumentException.class, () -> table.getBalance(1));
+        assertThrows(IllegalArgumentException.class, () -> new AccountTable(0));
+    }
+}
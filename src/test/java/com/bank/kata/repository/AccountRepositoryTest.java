@@ -0,0 +1,149 @@
+package com.bank.kata.repository;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.CurrencyRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AccountRepository implementation and its secondary indexes.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountRepositoryTest {
+
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new AccountRepositoryImpl();
+    }
+
+    /**
+     * Verifies that accounts are found by owner name, case-insensitively.
+     *
+     * <p>Scenario:
+     * - Given: Two accounts for "John Doe" and one for "Jane Doe".
+     * - When: The accounts of "john doe" are requested.
+     * - Then: Both accounts of John Doe are returned, in save order.
+     */
+    @Test
+    void shouldFindAccountsByOwnerName() {
+        // Arrange
+        Account first = accountRepository.save(new Account("John Doe", "EUR"));
+        accountRepository.save(new Account("Jane Doe", "EUR"));
+        Account second = accountRepository.save(new Account("John Doe", "USD"));
+
+        // Act
+        List<Account> found = accountRepository.findByOwnerName("john doe");
+
+        // Assert
+        assertEquals(List.of(first, second), found);
+    }
+
+    /**
+     * Verifies the prefix search on owner names.
+     *
+     * <p>Scenario:
+     * - Given: Accounts for "Alice", "Alina", "Bob" and "alfred".
+     * - When: Owners starting with "Ali" are requested, then with "Al" and a limit of 2.
+     * - Then: Alice and Alina are returned, then the first two owners in name order.
+     */
+    @Test
+    void shouldFindAccountsByOwnerNamePrefix() {
+        // Arrange
+        accountRepository.save(new Account("Alice", "EUR"));
+        accountRepository.save(new Account("Alina", "EUR"));
+        accountRepository.save(new Account("Bob", "EUR"));
+        accountRepository.save(new Account("alfred", "EUR"));
+
+        // Act
+        List<String> ali = owners(accountRepository.findByOwnerNamePrefix("Ali", 10));
+        List<String> al = owners(accountRepository.findByOwnerNamePrefix("al", 2));
+
+        // Assert
+        assertEquals(List.of("Alice", "Alina"), ali);
+        assertEquals(List.of("alfred", "Alice"), al);
+    }
+
+    /**
+     * Verifies that accounts are found and counted by currency.
+     *
+     * <p>Scenario:
+     * - Given: 10,000 EUR accounts and 3 GBP accounts.
+     * - When: The accounts are counted and looked up by currency.
+     * - Then: The counts match, the lookup honours the limit and unknown codes are not registered.
+     */
+    @Test
+    void shouldFindAndCountAccountsByCurrency() {
+        // Arrange
+        for (int i = 0; i < 10_000; i++) {
+            accountRepository.save(new Account("Owner " + i, "EUR"));
+        }
+        for (int i = 0; i < 3; i++) {
+            accountRepository.save(new Account("Owner " + i, "GBP"));
+        }
+
+        // Act & Assert
+        assertEquals(10_000L, accountRepository.countByCurrency("EUR"));
+        assertEquals(3L, accountRepository.countByCurrency("gbp"));
+        assertEquals(0L, accountRepository.countByCurrency("JPY"));
+        int registered = CurrencyRegistry.size();
+        assertEquals(0L, accountRepository.countByCurrency("QZX"));
+        assertTrue(accountRepository.findByCurrency("QZY", 10).isEmpty());
+        assertTrue(accountRepository.findByCurrency("not a currency", 10).isEmpty());
+        assertEquals(registered, CurrencyRegistry.size());
+        assertEquals(5, accountRepository.findByCurrency("EUR", 5).size());
+        assertTrue(accountRepository.findByCurrency("GBP", 10).stream().allMatch(a -> a.getCurrency().equals("GBP")));
+    }
+
+    /**
+     * Verifies that saving an account again with the same identifier re-indexes it.
+     */
+    @Test
+    void shouldReindexAccountSavedAgain() {
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+
+        accountRepository.save(account);
+
+        assertEquals(1, accountRepository.count());
+        assertEquals(List.of(account), accountRepository.findByOwnerName("Joe"));
+        assertEquals(1L, accountRepository.countByCurrency("EUR"));
+    }
+
+    /**
+     * Verifies that a bitmap switches between array and bitmap containers without losing values.
+     */
+    @Test
+    void shouldKeepValuesAcrossContainerConversions() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 3);
+        }
+        assertEquals(10_000L, bitmap.cardinality());
+        assertTrue(bitmap.contains(29_997));
+        assertFalse(bitmap.contains(29_998));
+
+        for (int i = 0; i < 9_000; i++) {
+            assertTrue(bitmap.remove(i * 3));
+        }
+        int[] sum = new int[2];
+        bitmap.forEach(value -> {
+            sum[0]++;
+            sum[1] = value;
+            return true;
+        });
+        assertEquals(1_000, sum[0]);
+        assertEquals(29_997, sum[1]);
+    }
+
+    private static List<String> owners(List<Account> accounts) {
+        return accounts.stream().map(Account::getOwnerName).collect(Collectors.toList());
+    }
+}
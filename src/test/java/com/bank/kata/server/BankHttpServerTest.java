@@ -0,0 +1,201 @@
+package com.bank.kata.server;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import com.bank.kata.service.AccountService;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionFormatterServiceImpl;
+import com.bank.kata.service.TransactionService;
+import com.bank.kata.service.TransactionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the embedded HTTP/JSON server and its JSON encoding.
+ *
+ * <p>Each test starts the server on an ephemeral port and calls it through
+ * the JDK HTTP client.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BankHttpServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private AccountRepository accountRepository;
+    private BankHttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TransactionService transactionService = new TransactionServiceImpl();
+        accountRepository = new AccountRepositoryImpl();
+        server = new BankHttpServer(0, accountRepository, new AccountServiceImpl(transactionService),
+                transactionService, new TransactionFormatterServiceImpl());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    /**
+     * Verifies the deposit, withdraw and history endpoints.
+     *
+     * <p>Scenario:
+     * - Given: An account opened through the server.
+     * - When: 100.0 is deposited and 30.0 withdrawn.
+     * - Then: The balance is 70.0 and the history lists both transactions.
+     */
+    @Test
+    void shouldDepositWithdrawAndReturnHistory() throws Exception {
+        // Arrange
+        HttpResponse<String> created = post("/accounts", "{\"ownerName\": \"Joe\", \"currency\": \"EUR\"}");
+        assertEquals(201, created.statusCode());
+        Account account = accountRepository.findAll().iterator().next();
+        String path = "/accounts/" + account.getAccountId();
+
+        // Act
+        HttpResponse<String> deposit = post(path + "/deposit", "{\"amount\": 100.0}");
+        HttpResponse<String> withdraw = post(path + "/withdraw", "{\"amount\": 30}");
+        HttpResponse<String> history = get(path + "/history");
+
+        // Assert
+        assertEquals(200, deposit.statusCode());
+        assertEquals("{\"status\":\"OK\",\"balance\":70.0}", withdraw.body());
+        assertEquals(70.0, account.getBalance());
+        assertTrue(history.body().startsWith("[{\"date\":"));
+        assertTrue(history.body().contains("\"type\":\"WITHDRAWAL\",\"amount\":30.0,\"balanceAfterTransaction\":70.0"));
+    }
+
+    /**
+     * Verifies how rejections and bad requests are reported.
+     *
+     * <p>Scenario:
+     * - Given: An empty account.
+     * - When: A withdrawal, a malformed amount, an account in a malformed currency and an unknown
+     *   account are requested.
+     * - Then: The server answers 422, 400, 400 and 404 respectively, and opens no account.
+     */
+    @Test
+    void shouldReportRejectionsAndErrors() throws Exception {
+        // Arrange
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+        String path = "/accounts/" + account.getAccountId();
+
+        // Act
+        HttpResponse<String> rejected = post(path + "/withdraw", "{\"amount\": 10}");
+        HttpResponse<String> malformed = post(path + "/deposit", "{\"amount\": \"ten\"}");
+        HttpResponse<String> badCurrency = post("/accounts", "{\"ownerName\": \"Joe\", \"currency\": \"EURO\"}");
+        HttpResponse<String> unknown = get("/accounts/unknown");
+
+        // Assert
+        assertEquals(422, rejected.statusCode());
+        assertEquals("{\"status\":\"INSUFFICIENT_FUNDS\",\"balance\":0.0}", rejected.body());
+        assertEquals(400, malformed.statusCode());
+        assertEquals(400, badCurrency.statusCode());
+        assertEquals(1, accountRepository.count());
+        assertEquals(404, unknown.statusCode());
+    }
+
+    /**
+     * Verifies that the statement endpoint returns the formatted text statement.
+     */
+    @Test
+    void shouldReturnTextStatement() throws Exception {
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+
+        HttpResponse<String> statement = get("/accounts/" + account.getAccountId() + "/statement");
+
+        assertEquals(new TransactionFormatterServiceImpl().format(account), statement.body());
+    }
+
+    /**
+     * Verifies that strings are escaped and request bodies parsed.
+     */
+    @Test
+    void shouldEscapeStringsAndParseFlatObjects() {
+        StringBuilder builder = new StringBuilder();
+        JsonEncoder.string(builder, "a\"b\\c\n\u0001");
+        assertEquals("\"a\\\"b\\\\c\\n\\u0001\"", builder.toString());
+
+        Map<String, String> members = JsonObjectReader.parse("{ \"amount\" : 12.5, \"currency\":\"U\\u0053D\", \"x\": null }");
+        assertEquals(Map.of("amount", "12.5", "currency", "USD"), members);
+    }
+
+    /**
+     * Verifies that the history can be read while deposits append to it.
+     *
+     * <p>Scenario:
+     * - Given: An account receiving deposits from another thread.
+     * - When: Its history is requested repeatedly in the meantime.
+     * - Then: Every request succeeds.
+     */
+    @Test
+    void shouldReturnHistoryDuringConcurrentDeposits() throws Exception {
+        // Arrange
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        Thread depositor = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                accountService.tryDeposit(account, 1.0);
+            }
+        });
+        depositor.start();
+
+        // Act & Assert
+        try {
+            for (int i = 0; i < 50; i++) {
+                assertEquals(200, get("/accounts/" + account.getAccountId() + "/history").statusCode());
+            }
+        } finally {
+            depositor.join();
+        }
+    }
+
+    /**
+     * Verifies that an oversized request body is refused.
+     *
+     * <p>Scenario:
+     * - Given: An account.
+     * - When: A deposit is posted with a body one byte over the limit.
+     * - Then: The server answers 413 and the balance is unchanged.
+     */
+    @Test
+    void shouldRefuseOversizedBody() throws Exception {
+        // Arrange
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+        String prefix = "{\"amount\": 1";
+        String body = prefix + " ".repeat(BankHttpServer.MAX_BODY_BYTES - prefix.length()) + "}";
+
+        // Act
+        HttpResponse<String> response = post("/accounts/" + account.getAccountId() + "/deposit", body);
+
+        // Assert
+        assertEquals(413, response.statusCode());
+        assertEquals(0.0, account.getBalance());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -0,0 +1,134 @@
+package com.bank.kata.server;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.OperationStatus;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import com.bank.kata.service.AccountServiceImpl;
+import com.bank.kata.service.TransactionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary protocol server, driven through the loopback client.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BinaryProtocolServerTest {
+
+    private AccountRepository accountRepository;
+    private BinaryProtocolServer server;
+    private BinaryProtocolClient client;
+    private final List<double[]> responses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        accountRepository = new AccountRepositoryImpl();
+        server = new BinaryProtocolServer(0, accountRepository, new AccountServiceImpl(new TransactionServiceImpl()));
+        server.start();
+        client = new BinaryProtocolClient("localhost", server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.stop();
+    }
+
+    /**
+     * Verifies that pipelined requests are answered in order.
+     *
+     * <p>Scenario:
+     * - Given: An account bound to a handle.
+     * - When: A deposit of 100.0, a withdrawal of 30.0 and a withdrawal of 500.0 are pipelined.
+     * - Then: The responses arrive in order with balances 100.0, 70.0 and an INSUFFICIENT_FUNDS status.
+     */
+    @Test
+    void shouldAnswerPipelinedRequestsInOrder() throws Exception {
+        // Arrange
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+        client.sendBind(1L, account.getAccountId());
+        client.receive(this::collect, 1);
+        int handle = (int) responses.get(0)[2];
+
+        // Act
+        client.sendDeposit(2L, handle, 100.0);
+        client.sendWithdraw(3L, handle, 30.0);
+        client.sendWithdraw(4L, handle, 500.0);
+        client.receive(this::collect, 3);
+
+        // Assert
+        assertArrayEquals(new double[]{2, OperationStatus.OK.ordinal(), handle, 100.0}, responses.get(1));
+        assertArrayEquals(new double[]{3, OperationStatus.OK.ordinal(), handle, 70.0}, responses.get(2));
+        assertArrayEquals(new double[]{4, OperationStatus.INSUFFICIENT_FUNDS.ordinal(), handle, 70.0}, responses.get(3));
+        assertEquals(70.0, account.getBalance());
+    }
+
+    /**
+     * Verifies that unknown accounts and handles are reported.
+     */
+    @Test
+    void shouldReportUnknownAccountAndHandle() throws Exception {
+        client.sendBind(1L, "missing");
+        client.sendBalance(2L, 42);
+        client.receive(this::collect, 2);
+
+        assertEquals(BinaryProtocol.STATUS_UNKNOWN_ACCOUNT, (int) responses.get(0)[1]);
+        assertEquals(BinaryProtocol.STATUS_UNKNOWN_ACCOUNT, (int) responses.get(1)[1]);
+    }
+
+    /**
+     * Verifies that a large pipelined batch is fully acknowledged.
+     */
+    @Test
+    void shouldAcknowledgeLargePipelinedBatch() throws Exception {
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+        client.sendBind(0L, account.getAccountId());
+        client.receive(this::collect, 1);
+        for (int i = 1; i <= 2_000; i++) {
+            client.sendDeposit(i, 0, 1.0);
+        }
+        client.receive(this::collect, 2_000);
+
+        assertEquals(2_001, responses.size());
+        assertEquals(2_000L, (long) responses.get(2_000)[0]);
+        assertEquals(2_000.0, account.getBalance());
+    }
+
+    /**
+     * Verifies that a batch whose responses exceed the write buffer is fully acknowledged.
+     *
+     * <p>Scenario:
+     * - Given: An account bound to a handle.
+     * - When: 5,000 balance requests are pipelined, about twice what the 64 KiB write buffer holds.
+     * - Then: Every request is answered, the last one included.
+     */
+    @Test
+    void shouldAcknowledgeBatchLargerThanWriteBuffer() throws Exception {
+        // Arrange
+        Account account = accountRepository.save(new Account("Joe", "EUR"));
+        client.sendBind(0L, account.getAccountId());
+        client.receive(this::collect, 1);
+
+        // Act
+        for (int i = 1; i <= 5_000; i++) {
+            client.sendBalance(i, 0);
+        }
+        client.receive(this::collect, 5_000);
+
+        // Assert
+        assertEquals(5_001, responses.size());
+        assertEquals(5_000L, (long) responses.get(5_000)[0]);
+    }
+
+    private void collect(long requestId, int status, int handle, double balance) {
+        responses.add(new double[]{requestId, status, handle, balance});
+    }
+}
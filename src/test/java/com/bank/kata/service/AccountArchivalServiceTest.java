@@ -0,0 +1,225 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ArchivalReport;
+import com.bank.kata.model.CurrencyRegistry;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for AccountArchivalServiceImpl and AccountArchiveStoreImpl.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class AccountArchivalServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private AccountArchiveStoreImpl store;
+    private AccountArchivalService archivalService;
+
+    @BeforeEach
+    void setUp() {
+        store = new AccountArchiveStoreImpl(directory.resolve("accounts.archive"));
+        archivalService = new AccountArchivalServiceImpl(store,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    /**
+     * Verifies that only dormant accounts with transactions are archived.
+     *
+     * <p>Scenario:
+     * - Given: An account last active 40 days ago, one active yesterday and one without transactions.
+     * - When: Accounts dormant for 30 days are archived.
+     * - Then: Only the first account is archived, and archiving again does nothing.
+     */
+    @Test
+    void shouldArchiveOnlyDormantAccounts() {
+        // Arrange
+        Account dormant = accountWithHistory(NOW.minusDays(40));
+        Account active = accountWithHistory(NOW.minusDays(1));
+        Account empty = new Account("Nobody", "EUR");
+        List<Account> accounts = List.of(dormant, active, empty);
+
+        // Act
+        ArchivalReport report = archivalService.archiveDormant(accounts, 30);
+        ArchivalReport again = archivalService.archiveDormant(accounts, 30);
+
+        // Assert
+        assertTrue(dormant.isArchived());
+        assertFalse(active.isArchived());
+        assertFalse(empty.isArchived());
+        assertEquals(3, report.getAccountsScanned());
+        assertEquals(1, report.getAccountsArchived());
+        assertEquals(3, report.getTransactionsArchived());
+        assertTrue(report.getBytesWritten() > 0);
+        assertEquals(0, again.getAccountsArchived());
+    }
+
+    /**
+     * Verifies that a history read brings back exactly the archived transactions.
+     *
+     * <p>Scenario:
+     * - Given: A dormant account with a plain deposit, a converted deposit and a withdrawal
+     *   without an original currency, at dates with nanoseconds.
+     * - When: It is archived and its transactions are read.
+     * - Then: Every field of every transaction is restored and the account is no longer archived.
+     */
+    @Test
+    void shouldRestoreEveryFieldOnHistoryRead() {
+        // Arrange
+        Account account = accountWithHistory(NOW.minusDays(40));
+        List<Transaction> before = new ArrayList<>(account.getTransactions());
+        archivalService.archiveDormant(List.of(account), 30);
+
+        // Act
+        List<Transaction> after = account.getTransactions();
+
+        // Assert
+        assertFalse(account.isArchived());
+        assertEquals(before.size(), after.size());
+        for (int i = 0; i < before.size(); i++) {
+            Transaction expected = before.get(i);
+            Transaction actual = after.get(i);
+            assertEquals(expected.getDate(), actual.getDate());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getBalanceAfterTransaction(), actual.getBalanceAfterTransaction());
+            assertEquals(expected.getOriginalAmount(), actual.getOriginalAmount());
+            assertEquals(expected.getOriginalCurrencyId(), actual.getOriginalCurrencyId());
+            assertEquals(expected.getExchangeRate(), actual.getExchangeRate());
+        }
+        assertEquals(1, store.getLoadCount());
+    }
+
+    /**
+     * Verifies that a deposit on an archived account loads its history back first.
+     *
+     * <p>Scenario:
+     * - Given: An archived account with 3 transactions and a balance of 130.
+     * - When: 20 is deposited through the account service.
+     * - Then: The history holds 4 transactions and the balance is 150.
+     */
+    @Test
+    void shouldRehydrateOnDeposit() {
+        // Arrange
+        Account account = accountWithHistory(NOW.minusDays(40));
+        archivalService.archiveDormant(List.of(account), 30);
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+
+        // Act
+        accountService.deposit(account, 20.0);
+
+        // Assert
+        assertFalse(account.isArchived());
+        assertEquals(150.0, account.getBalance());
+        List<Transaction> transactions = account.getTransactions();
+        assertEquals(4, transactions.size());
+        assertEquals(150.0, transactions.get(3).getBalanceAfterTransaction());
+    }
+
+    /**
+     * Verifies that the transactions of an archived account can be counted without loading them back.
+     *
+     * <p>Scenario:
+     * - Given: An archived account with 3 transactions.
+     * - When: Its transactions are counted.
+     * - Then: The count is 3, the account stays archived and nothing is read from the archive.
+     */
+    @Test
+    void shouldCountArchivedTransactionsWithoutRehydrating() {
+        // Arrange
+        Account account = accountWithHistory(NOW.minusDays(40));
+        archivalService.archiveDormant(List.of(account), 30);
+
+        // Act
+        int count = account.getTransactionCount();
+
+        // Assert
+        assertEquals(3, count);
+        assertTrue(account.isArchived());
+        assertEquals(0, store.getLoadCount());
+    }
+
+    /**
+     * Verifies that history reads never see a missing history while the account is archived concurrently.
+     *
+     * <p>Scenario:
+     * - Given: An account archived over and over by another thread.
+     * - When: Its transactions are read repeatedly in the meantime.
+     * - Then: Every read returns the 3 transactions.
+     */
+    @Test
+    void shouldReadHistoryWhileArchiving() throws Exception {
+        // Arrange
+        Account account = accountWithHistory(NOW.minusDays(40));
+        Thread archiver = new Thread(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                synchronized (account) {
+                    account.archive(store.write(account));
+                }
+            }
+        });
+        archiver.start();
+
+        // Act & Assert
+        try {
+            while (archiver.isAlive()) {
+                assertEquals(3, account.getTransactions().size());
+            }
+        } finally {
+            archiver.join();
+        }
+    }
+
+    /**
+     * Verifies that invalid arguments are rejected.
+     *
+     * <p>Scenario:
+     * - Given: The archival service.
+     * - When: It is called with a null collection or a negative number of days.
+     * - Then: An IllegalArgumentException is thrown.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> archivalService.archiveDormant(null, 30));
+        assertThrows(IllegalArgumentException.class, () -> archivalService.archiveDormant(List.of(), -1));
+        assertThrows(IllegalArgumentException.class, () -> new AccountArchivalServiceImpl(null));
+    }
+
+    private static Account accountWithHistory(LocalDateTime start) {
+        Account account = new Account("Joe", "EUR");
+        List<Transaction> transactions = account.getTransactions();
+        transactions.add(new Transaction(start.withNano(123_456_789), TransactionType.DEPOSIT, 100.0, 100.0,
+                100.0, account.getCurrencyId(), 1.0));
+        transactions.add(new Transaction(start.plusHours(1), TransactionType.DEPOSIT, 45.0, 145.0,
+                50.0, CurrencyRegistry.idOf("USD"), 0.9));
+        transactions.add(new Transaction(start.plusHours(2), TransactionType.WITHDRAWAL, 15.0, 130.0,
+                15.0, CurrencyRegistry.UNKNOWN, 1.0));
+        account.setBalance(130.0);
+        return account;
+    }
+}
@@ -1,12 +1,23 @@
 package com.bank.kata.service;
 
 import com.bank.kata.model.Account;
+import com.bank.kata.model.CurrencyRegistry;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.model.OperationStatus;
+import com.bank.kata.model.Transaction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 
 /**
  * Test suite for the AccountService interface and its implementation.
@@ -185,4 +196,258 @@ public class AccountServiceTest {
         // Assert: Verify the exception message
         assertEquals("Withdrawal amount must be positive.", exception.getMessage());
     }
+
+    /**
+     * Tests the non-throwing deposit when a valid amount is provided.
+     *
+     * <p>Scenario:
+     * - Given: An empty account.
+     * - When: tryDeposit is called with 100.0.
+     * - Then: The result is OK and carries the new balance of 100.0.
+     */
+    @Test
+    void shouldReturnOkWithNewBalanceWhenTryDepositIsValid() {
+        // Arrange: Create an empty account
+        Account account = new Account("Joe","EUR");
+
+        // Act: Attempt the deposit
+        OperationResult result = accountService.tryDeposit(account, 100.0);
+
+        // Assert: Verify the status and the balances
+        assertEquals(OperationStatus.OK, result.getStatus());
+        assertEquals(100.0, result.getBalance());
+        assertEquals(100.0, account.getBalance());
+    }
+
+    /**
+     * Tests the non-throwing deposit when a negative amount is provided.
+     *
+     * <p>Scenario:
+     * - Given: An empty account.
+     * - When: tryDeposit is called with -100.0.
+     * - Then: The result is INVALID_AMOUNT and nothing is recorded.
+     */
+    @Test
+    void shouldReturnInvalidAmountWhenTryDepositIsNegative() {
+        // Arrange: Create an empty account
+        Account account = new Account("Joe","EUR");
+
+        // Act: Attempt a negative deposit
+        OperationResult result = accountService.tryDeposit(account, -100.0);
+
+        // Assert: Verify the status and that no transaction was recorded
+        assertEquals(OperationStatus.INVALID_AMOUNT, result.getStatus());
+        assertEquals(0.0, result.getBalance());
+        verify(transactionServiceMock, never()).recordTransaction(any(), any(), anyDouble());
+    }
+
+    /**
+     * Tests the non-throwing withdrawal when the amount exceeds the balance.
+     *
+     * <p>Scenario:
+     * - Given: An account with a balance of 100.0.
+     * - When: tryWithdraw is called with 200.0.
+     * - Then: The result is INSUFFICIENT_FUNDS and the balance is unchanged.
+     */
+    @Test
+    void shouldReturnInsufficientFundsWhenTryWithdrawExceedsBalance() {
+        // Arrange: Create an account with a balance of 100.0
+        Account account = new Account("Joe","EUR");
+        account.setBalance(100.0);
+
+        // Act: Attempt to withdraw more than the balance
+        OperationResult result = accountService.tryWithdraw(account, 200.0);
+
+        // Assert: Verify the status and the unchanged balance
+        assertEquals(OperationStatus.INSUFFICIENT_FUNDS, result.getStatus());
+        assertEquals(100.0, result.getBalance());
+        assertEquals(100.0, account.getBalance());
+    }
+
+    /**
+     * Tests the non-throwing withdrawal when a valid amount is provided.
+     *
+     * <p>Scenario:
+     * - Given: An account with a balance of 200.0.
+     * - When: tryWithdraw is called with 50.0.
+     * - Then: The result is OK and carries the new balance of 150.0.
+     */
+    @Test
+    void shouldReturnOkWithNewBalanceWhenTryWithdrawIsValid() {
+        // Arrange: Create an account with a balance of 200.0
+        Account account = new Account("Joe","EUR");
+        account.setBalance(200.0);
+
+        // Act: Attempt the withdrawal
+        OperationResult result = accountService.tryWithdraw(account, 50.0);
+
+        // Assert: Verify the status and the balances
+        assertEquals(OperationStatus.OK, result.getStatus());
+        assertEquals(150.0, result.getBalance());
+        assertEquals(150.0, account.getBalance());
+    }
+
+    /**
+     * Tests a deposit expressed in a foreign currency.
+     *
+     * <p>Scenario:
+     * - Given: A EUR account and a rate table where one USD is worth 0.5 EUR.
+     * - When: A deposit of 100.0 USD is made.
+     * - Then: The balance is 50.0 EUR and the transaction records the conversion.
+     */
+    @Test
+    void shouldConvertForeignCurrencyDeposit() {
+        // Arrange: Real services with a known rate table
+        ExchangeRateService exchangeRateService = new ExchangeRateServiceImpl();
+        exchangeRateService.updateRates(Map.of("EUR", 1.0, "USD", 0.5));
+        AccountService service = new AccountServiceImpl(new TransactionServiceImpl(), exchangeRateService);
+        Account account = new Account("Joe","EUR");
+
+        // Act: Deposit in USD
+        service.deposit(account, 100.0, "USD");
+
+        // Assert: Verify the converted balance and the recorded conversion
+        assertEquals(50.0, account.getBalance());
+        Transaction transaction = account.getTransactions().get(0);
+        assertEquals(50.0, transaction.getAmount());
+        assertEquals(100.0, transaction.getOriginalAmount());
+        assertEquals("USD", transaction.getOriginalCurrency());
+        assertEquals(0.5, transaction.getExchangeRate());
+    }
+
+    /**
+     * Tests an operation in a currency without an exchange rate.
+     *
+     * <p>Scenario:
+     * - Given: A EUR account and no rate for CHF.
+     * - When: A withdrawal of 10.0 CHF is attempted.
+     * - Then: The result is UNSUPPORTED_CURRENCY and the throwing variant reports it.
+     */
+    @Test
+    void shouldRejectOperationWhenNoExchangeRateIsAvailable() {
+        // Arrange: An account with funds
+        Account account = new Account("Joe","EUR");
+        account.setBalance(100.0);
+
+        // Act: Attempt a withdrawal in a currency without a rate
+        OperationResult result = accountService.tryWithdraw(account, 10.0, "CHF");
+
+        // Assert: Verify the status, the unchanged balance and the exception
+        assertEquals(OperationStatus.UNSUPPORTED_CURRENCY, result.getStatus());
+        assertEquals(100.0, account.getBalance());
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+                accountService.withdraw(account, 10.0, "CHF"));
+        assertEquals("No exchange rate available for this currency.", exception.getMessage());
+    }
+
+    /**
+     * Tests that non-finite amounts are rejected, before and after conversion.
+     *
+     * <p>Scenario:
+     * - Given: A EUR account and a USD rate large enough to overflow a huge conversion.
+     * - When: Deposits of infinity, NaN and a USD amount overflowing once converted are attempted.
+     * - Then: Every result is INVALID_AMOUNT and the balance stays finite and unchanged.
+     */
+    @Test
+    void shouldRejectNonFiniteAmounts() {
+        // Arrange: Real services with a rate that overflows a huge amount
+        ExchangeRateService exchangeRateService = new ExchangeRateServiceImpl();
+        exchangeRateService.updateRates(Map.of("EUR", 1.0, "USD", 1e300));
+        AccountService service = new AccountServiceImpl(new TransactionServiceImpl(), exchangeRateService);
+        Account account = new Account("Joe","EUR");
+        account.setBalance(100.0);
+
+        // Act: Attempt the non-finite deposits
+        OperationResult infinite = service.tryDeposit(account, Double.POSITIVE_INFINITY);
+        OperationResult notANumber = service.tryDeposit(account, Double.NaN);
+        OperationResult overflowing = service.tryDeposit(account, 1e300, "USD");
+
+        // Assert: Verify the statuses, the balance and the exception
+        assertEquals(OperationStatus.INVALID_AMOUNT, infinite.getStatus());
+        assertEquals(OperationStatus.INVALID_AMOUNT, notANumber.getStatus());
+        assertEquals(OperationStatus.INVALID_AMOUNT, overflowing.getStatus());
+        assertEquals(100.0, account.getBalance());
+        assertEquals(0, account.getTransactions().size());
+        assertThrows(IllegalArgumentException.class, () -> service.deposit(account, Double.parseDouble("1e309")));
+    }
+
+    /**
+     * Tests that currencies coming with an operation are looked up, never registered.
+     *
+     * <p>Scenario:
+     * - Given: A EUR account and currency codes never seen before, well-formed or not.
+     * - When: Deposits are attempted in these currencies.
+     * - Then: They are reported as UNSUPPORTED_CURRENCY and the registry does not grow,
+     *   while accounts without a currency or with a malformed one can still be opened.
+     */
+    @Test
+    void shouldNotRegisterCurrenciesOfOperations() {
+        // Arrange: Real services and a registry snapshot
+        AccountService service = new AccountServiceImpl(new TransactionServiceImpl(), new ExchangeRateServiceImpl());
+        Account account = new Account("Joe","EUR");
+        int registered = CurrencyRegistry.size();
+
+        // Act: Deposit in unknown and malformed currencies
+        OperationResult unknown = service.tryDeposit(account, 10.0, "QZQ");
+        OperationResult malformed = service.tryDeposit(account, 10.0, "not a currency");
+        Account withoutCurrency = new Account("Joe", null);
+
+        // Assert: Verify the statuses and that nothing was registered
+        assertEquals(OperationStatus.UNSUPPORTED_CURRENCY, unknown.getStatus());
+        assertEquals(OperationStatus.UNSUPPORTED_CURRENCY, malformed.getStatus());
+        assertEquals(registered, CurrencyRegistry.size());
+        assertEquals(CurrencyRegistry.UNKNOWN, CurrencyRegistry.find("QZQ"));
+        assertEquals(CurrencyRegistry.UNKNOWN, withoutCurrency.getCurrencyId());
+        assertNull(withoutCurrency.getCurrency());
+        Account malformedCurrency = new Account("Joe", "EURO");
+        assertEquals("EURO", malformedCurrency.getCurrency());
+        assertEquals(CurrencyRegistry.UNKNOWN, malformedCurrency.getCurrencyId());
+        assertEquals(registered, CurrencyRegistry.size());
+    }
+
+    /**
+     * Tests that an unknown or missing currency is never posted without conversion.
+     *
+     * <p>Scenario:
+     * - Given: An account opened without a currency, whose currency id is UNKNOWN.
+     * - When: Deposits in an unregistered currency and in a null currency are attempted.
+     * - Then: Both are reported as UNSUPPORTED_CURRENCY and the balance stays at 0.0.
+     */
+    @Test
+    void shouldRejectUnknownCurrencyOnAccountWithoutCurrency() {
+        // Arrange: An account without a currency
+        Account account = new Account("Joe", null);
+
+        // Act: Deposit in an unregistered currency
+        OperationResult result = accountService.tryDeposit(account, 10.0, "ZZZ");
+
+        // Assert: Verify the status and the unchanged balance
+        assertEquals(OperationStatus.UNSUPPORTED_CURRENCY, result.getStatus());
+        assertEquals(0.0, account.getBalance());
+        assertEquals(0, account.getTransactions().size());
+    }
+
+    /**
+     * Tests that a null currency is reported as a status rather than thrown.
+     *
+     * <p>Scenario:
+     * - Given: A EUR account with funds.
+     * - When: A deposit and a withdrawal with a null currency are attempted.
+     * - Then: Both are reported as UNSUPPORTED_CURRENCY and the balance is unchanged.
+     */
+    @Test
+    void shouldReturnUnsupportedCurrencyWhenCurrencyIsNull() {
+        // Arrange: An account with funds
+        Account account = new Account("Joe","EUR");
+        account.setBalance(100.0);
+
+        // Act: Operate with a null currency
+        OperationResult deposit = accountService.tryDeposit(account, 10.0, null);
+        OperationResult withdrawal = accountService.tryWithdraw(account, 10.0, null);
+
+        // Assert: Verify the statuses and the unchanged balance
+        assertEquals(OperationStatus.UNSUPPORTED_CURRENCY, deposit.getStatus());
+        assertEquals(OperationStatus.UNSUPPORTED_CURRENCY, withdrawal.getStatus());
+        assertEquals(100.0, account.getBalance());
+    }
 }
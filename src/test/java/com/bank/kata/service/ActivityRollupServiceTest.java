@@ -0,0 +1,221 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ActivitySeries;
+import com.bank.kata.model.Granularity;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ActivityRollupServiceImpl.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ActivityRollupServiceTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 1, 9, 12, 0);
+
+    private final ActivityRollupService rollups = new ActivityRollupServiceImpl();
+
+    /**
+     * Verifies that transactions are summed in the buckets of each granularity.
+     *
+     * <p>Scenario:
+     * - Given: Two deposits at 12:00:10 and 12:00:50, a withdrawal at 12:01:30 and a deposit at 12:30 the next day.
+     * - When: The minute, hour and day series of the account are read.
+     * - Then: Each bucket holds the counts and volumes of its transactions.
+     */
+    @Test
+    void shouldSumTransactionsPerBucket() {
+        // Arrange
+        Account account = new Account("Joe", "EUR");
+        record(account, NOON.plusSeconds(10), TransactionType.DEPOSIT, 100.0);
+        record(account, NOON.plusSeconds(50), TransactionType.DEPOSIT, 50.0);
+        record(account, NOON.plusSeconds(90), TransactionType.WITHDRAWAL, 30.0);
+        record(account, NOON.plusDays(1).plusMinutes(30), TransactionType.DEPOSIT, 10.0);
+
+        // Act
+        ActivitySeries minutes = rollups.getAccountSeries(account.getAccountId(), Granularity.MINUTE,
+                NOON, NOON.plusMinutes(3));
+        ActivitySeries hours = rollups.getAccountSeries(account.getAccountId(), Granularity.HOUR,
+                NOON.plusMinutes(30), NOON.plusMinutes(90));
+        ActivitySeries days = rollups.getAccountSeries(account.getAccountId(), Granularity.DAY,
+                NOON, NOON.plusDays(2));
+
+        // Assert
+        assertArrayEquals(new long[]{2, 0, 0}, minutes.getDepositCounts());
+        assertArrayEquals(new double[]{150.0, 0, 0}, minutes.getDepositVolumes());
+        assertArrayEquals(new long[]{0, 1, 0}, minutes.getWithdrawalCounts());
+        assertArrayEquals(new double[]{0, 30.0, 0}, minutes.getWithdrawalVolumes());
+        assertEquals(NOON.plusMinutes(1), minutes.getBucketStart(1));
+
+        assertEquals(2, hours.size());
+        assertEquals(NOON, hours.getBucketStart(0));
+        assertArrayEquals(new double[]{150.0, 0}, hours.getDepositVolumes());
+
+        assertEquals(LocalDateTime.of(2025, 1, 9, 0, 0), days.getBucketStart(0));
+        assertArrayEquals(new long[]{2, 1, 0}, days.getDepositCounts());
+        assertArrayEquals(new long[]{1, 0, 0}, days.getWithdrawalCounts());
+    }
+
+    /**
+     * Verifies that global series and totals sum every account.
+     *
+     * <p>Scenario:
+     * - Given: Two accounts with a deposit each in the same minute, recorded through the transaction service.
+     * - When: The global series and totals are read.
+     * - Then: They hold both deposits, and an unknown account reads as empty.
+     */
+    @Test
+    void shouldRollUpAllAccountsThroughTheTransactionService() {
+        // Arrange
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl(null, rollups));
+        Account first = new Account("Joe", "EUR");
+        Account second = new Account("Jane", "EUR");
+
+        // Act
+        accountService.deposit(first, 10.0);
+        accountService.deposit(second, 20.0);
+        accountService.withdraw(second, 5.0);
+        LocalDateTime date = first.getTransactions().get(0).getDate();
+        ActivitySeries global = rollups.getGlobalSeries(Granularity.DAY, date, date);
+        ActivitySeries unknown = rollups.getAccountSeries("unknown", Granularity.DAY, date, date.plusDays(1));
+
+        // Assert
+        assertEquals(2, rollups.getTotalDepositCount());
+        assertEquals(30.0, rollups.getTotalDepositVolume());
+        assertEquals(1, rollups.getTotalWithdrawalCount());
+        assertEquals(5.0, rollups.getTotalWithdrawalVolume());
+        assertTrue(global.getDepositCounts()[0] >= 1);
+        assertEquals(0, unknown.getDepositCounts()[0]);
+    }
+
+    /**
+     * Verifies that buckets older than the retention read as empty once their slot is reused.
+     *
+     * <p>Scenario:
+     * - Given: A deposit at 12:00, then one 60 minutes later, which reuses the slot of the per-account minute ring.
+     * - When: The minute series around 12:00 is read, and a late deposit at 12:00 is recorded.
+     * - Then: The 12:00 bucket is empty, and the late deposit is dropped from the minute series only.
+     */
+    @Test
+    void shouldForgetBucketsOlderThanTheRetention() {
+        // Arrange
+        Account account = new Account("Joe", "EUR");
+        record(account, NOON, TransactionType.DEPOSIT, 100.0);
+        record(account, NOON.plusMinutes(60), TransactionType.DEPOSIT, 50.0);
+
+        // Act
+        record(account, NOON, TransactionType.DEPOSIT, 1.0);
+        ActivitySeries minutes = rollups.getAccountSeries(account.getAccountId(), Granularity.MINUTE,
+                NOON, NOON.plusMinutes(1));
+        ActivitySeries hours = rollups.getAccountSeries(account.getAccountId(), Granularity.HOUR,
+                NOON, NOON.plusHours(2));
+
+        // Assert
+        assertEquals(0, minutes.getDepositCounts()[0]);
+        assertArrayEquals(new double[]{101.0, 50.0}, hours.getDepositVolumes());
+        assertEquals(3, rollups.getTotalDepositCount());
+    }
+
+    /**
+     * Verifies that the rings of idle accounts are dropped.
+     *
+     * <p>Scenario:
+     * - Given: A deposit on a first account at 12:00.
+     * - When: A second account deposits 3 hours later, then 93 days later.
+     * - Then: The first account keeps its hour and day rings after the first sweep and nothing after the
+     *   second, while the second account keeps its three rings.
+     */
+    @Test
+    void shouldDropRingsOfIdleAccounts() {
+        // Arrange
+        ActivityRollupServiceImpl service = (ActivityRollupServiceImpl) rollups;
+        Account idle = new Account("Joe", "EUR");
+        Account active = new Account("Jane", "EUR");
+        record(idle, NOON, TransactionType.DEPOSIT, 100.0);
+
+        // Act
+        record(active, NOON.plusHours(3), TransactionType.DEPOSIT, 10.0);
+        int ringsAfterHours = service.accountRingCount();
+        record(active, NOON.plusDays(93), TransactionType.DEPOSIT, 20.0);
+        int ringsAfterDays = service.accountRingCount();
+
+        // Assert
+        assertEquals(5, ringsAfterHours);
+        assertEquals(3, ringsAfterDays);
+        assertEquals(0, rollups.getAccountSeries(idle.getAccountId(), Granularity.DAY,
+                NOON, NOON.plusDays(1)).getDepositCounts()[0]);
+        assertArrayEquals(new double[]{20.0}, rollups.getAccountSeries(active.getAccountId(), Granularity.DAY,
+                NOON.plusDays(93), NOON.plusDays(93)).getDepositVolumes());
+        assertEquals(3, rollups.getTotalDepositCount());
+    }
+
+    /**
+     * Verifies that concurrent writers lose no update.
+     *
+     * <p>Scenario:
+     * - Given: 4 threads, each with its own account.
+     * - When: Each records 10,000 deposits of 1.0 in the same minute.
+     * - Then: The global minute bucket counts 40,000 deposits for a volume of 40,000.
+     */
+    @Test
+    void shouldNotLoseConcurrentUpdates() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            Account account = new Account("Owner " + t, "EUR");
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    record(account, NOON.plusSeconds(i % 60), TransactionType.DEPOSIT, 1.0);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        ActivitySeries global = rollups.getGlobalSeries(Granularity.MINUTE, NOON, NOON.plusMinutes(1));
+
+        // Assert
+        assertEquals(40_000, global.getDepositCounts()[0]);
+        assertEquals(40_000.0, global.getDepositVolumes()[0]);
+    }
+
+    /**
+     * Verifies that invalid windows are rejected.
+     *
+     * <p>Scenario:
+     * - Given: The rollups.
+     * - When: A reversed window or a window longer than the retention is requested.
+     * - Then: An IllegalArgumentException is thrown.
+     */
+    @Test
+    void shouldRejectInvalidWindows() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> rollups.getGlobalSeries(Granularity.HOUR, NOON, NOON.minusHours(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> rollups.getGlobalSeries(Granularity.MINUTE, NOON, NOON.plusDays(2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> rollups.getAccountSeries("id", Granularity.HOUR, NOON, NOON.plusDays(3)));
+    }
+
+    private void record(Account account, LocalDateTime date, TransactionType type, double amount) {
+        rollups.record(account, new Transaction(date, type, amount, 0.0, amount, account.getCurrencyId(), 1.0));
+    }
+}
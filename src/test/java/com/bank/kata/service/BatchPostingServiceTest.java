@@ -0,0 +1,284 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.BatchLayout;
+import com.bank.kata.model.BatchReport;
+import com.bank.kata.model.OperationResult;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Unit tests for the BatchPostingService implementation.
+ *
+ * <p>This class verifies the average daily balance used for interest accrual,
+ * the handling of fees on accounts without sufficient funds, and that an
+ * interrupted run resumes from its checkpoints.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class BatchPostingServiceTest {
+
+    /**
+     * Temporary directory holding the checkpoint files.
+     */
+    @TempDir
+    Path checkpointDirectory;
+
+    private AccountService accountService;
+
+    private BatchCheckpointStore checkpointStore;
+
+    @BeforeEach
+    void setUp() {
+        accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        checkpointStore = new BatchCheckpointStoreImpl(checkpointDirectory);
+    }
+
+    /**
+     * Verifies that the average daily balance uses end-of-day balances.
+     *
+     * <p>Scenario:
+     * - Given: 100.0 deposited before the period and 200.0 more on day 3 of a 4-day period.
+     * - When: The average daily balance is computed.
+     * - Then: It is (100 + 100 + 300 + 300) / 4 = 200.0.
+     */
+    @Test
+    void shouldComputeAverageDailyBalanceFromHistory() {
+        // Arrange
+        Account account = new Account("Joe","EUR");
+        account.getTransactions().add(at(new Transaction(TransactionType.DEPOSIT, 100.0, 100.0),
+                LocalDateTime.of(2025, 1, 31, 12, 0)));
+        account.getTransactions().add(at(new Transaction(TransactionType.DEPOSIT, 200.0, 300.0),
+                LocalDateTime.of(2025, 2, 3, 9, 0)));
+
+        // Act
+        double average = BatchPostingServiceImpl.averageDailyBalance(account,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 5));
+
+        // Assert
+        assertEquals(200.0, average);
+    }
+
+    /**
+     * Verifies that the average daily balance of an archived account leaves it archived.
+     *
+     * <p>Scenario:
+     * - Given: An account whose history of 100.0 then 200.0 more on day 3 is archived.
+     * - When: The average daily balance over a 4-day period is computed.
+     * - Then: It is 200.0 and the account is still archived.
+     */
+    @Test
+    void shouldComputeAverageDailyBalanceWithoutLoadingArchivedHistory() {
+        // Arrange
+        Account account = new Account("Joe","EUR");
+        List<Transaction> history = List.of(
+                at(new Transaction(TransactionType.DEPOSIT, 100.0, 100.0), LocalDateTime.of(2025, 1, 31, 12, 0)),
+                at(new Transaction(TransactionType.DEPOSIT, 200.0, 300.0), LocalDateTime.of(2025, 2, 3, 9, 0)));
+        account.archive(() -> history);
+
+        // Act
+        double average = BatchPostingServiceImpl.averageDailyBalance(account,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 5));
+
+        // Assert
+        assertEquals(200.0, average);
+        assertTrue(account.isArchived());
+    }
+
+    /**
+     * Verifies that interest is posted as a deposit rounded to cents.
+     *
+     * <p>Scenario:
+     * - Given: An account holding 1000.0 with no history.
+     * - When: 10% yearly interest is accrued over 365 days.
+     * - Then: 100.0 is deposited.
+     */
+    @Test
+    void shouldPostInterestAsDeposit() {
+        // Arrange
+        Account account = new Account("Joe","EUR");
+        account.setBalance(1000.0);
+        BatchPostingService batch = new BatchPostingServiceImpl(accountService, checkpointStore, 2, 2);
+
+        // Act
+        BatchReport report = batch.accrueInterest("interest-2025", List.of(account), 0.10,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1));
+
+        // Assert
+        assertEquals(1100.0, account.getBalance());
+        assertEquals(1, report.getTransactionsPosted());
+        assertEquals(TransactionType.DEPOSIT, account.getTransactions().get(0).getType());
+    }
+
+    /**
+     * Verifies that fees are rejected, not forced, on accounts without sufficient funds.
+     *
+     * <p>Scenario:
+     * - Given: One account holding 50.0 and one empty account.
+     * - When: A fee of 5.0 is charged.
+     * - Then: The first account is charged and the second is counted as rejected.
+     */
+    @Test
+    void shouldRejectFeeWhenFundsAreInsufficient() {
+        // Arrange
+        Account funded = new Account("Joe","EUR");
+        funded.setBalance(50.0);
+        Account empty = new Account("Ann","EUR");
+        BatchPostingService batch = new BatchPostingServiceImpl(accountService, checkpointStore, 1, 2);
+
+        // Act
+        BatchReport report = batch.chargeFee("fee-2025-01", List.of(funded, empty), 5.0);
+
+        // Assert
+        assertEquals(45.0, funded.getBalance());
+        assertEquals(0.0, empty.getBalance());
+        assertEquals(2, report.getAccountsProcessed());
+        assertEquals(1, report.getTransactionsPosted());
+        assertEquals(1, report.getPostingsRejected());
+    }
+
+    /**
+     * Verifies that a run resumes from its checkpoints instead of restarting.
+     *
+     * <p>Scenario:
+     * - Given: Four accounts in partitions of two, with partition 0 already checkpointed.
+     * - When: The fee run is started with the same identifier.
+     * - Then: Only the accounts of partition 1 are charged, and running it again posts nothing.
+     */
+    @Test
+    void shouldResumeFromCheckpoint() {
+        // Arrange
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            account.setBalance(10.0);
+            accounts.add(account);
+        }
+        checkpointStore.recordLayout("fee-run", BatchLayout.of(2, accounts));
+        checkpointStore.markCompleted("fee-run", 0);
+        BatchPostingService batch = new BatchPostingServiceImpl(accountService, checkpointStore, 2, 2);
+
+        // Act
+        BatchReport report = batch.chargeFee("fee-run", accounts, 1.0);
+        BatchReport rerun = batch.chargeFee("fee-run", accounts, 1.0);
+
+        // Assert
+        assertEquals(1, report.getPartitionsResumed());
+        assertEquals(2, report.getAccountsProcessed());
+        assertEquals(10.0, accounts.get(0).getBalance());
+        assertEquals(9.0, accounts.get(3).getBalance());
+        assertEquals(0, rerun.getAccountsProcessed());
+    }
+
+    /**
+     * Verifies that a run interrupted partway through a partition resumes at the next account.
+     *
+     * <p>Scenario:
+     * - Given: Ten accounts in partitions of five, and a posting thread interrupted after its fourth fee.
+     * - When: The run is started, then resumed with the same identifier.
+     * - Then: The first run fails after recording the progress of its partition, and every
+     *   account ends up charged exactly once.
+     */
+    @Test
+    void shouldResumeInterruptedPartitionWithoutPostingTwice() {
+        // Arrange
+        List<Account> accounts = fundedAccounts(10);
+        BatchPostingService interrupted = new BatchPostingServiceImpl(
+                new InterruptingAccountService(4), checkpointStore, 5, 1);
+        BatchPostingService batch = new BatchPostingServiceImpl(accountService, checkpointStore, 5, 1);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> interrupted.chargeFee("fee-run", accounts, 1.0));
+        Map<Integer, Integer> progress = checkpointStore.getPartitionProgress("fee-run");
+        BatchReport resumed = batch.chargeFee("fee-run", accounts, 1.0);
+
+        // Assert
+        assertEquals(Map.of(0, 4), progress);
+        assertEquals(6, resumed.getAccountsProcessed());
+        for (Account account : accounts) {
+            assertEquals(9.0, account.getBalance());
+            assertEquals(1, account.getTransactions().size());
+        }
+    }
+
+    /**
+     * Verifies that a run cannot be resumed over a different layout.
+     *
+     * <p>Scenario:
+     * - Given: A fee run stopped partway through its first partition.
+     * - When: It is resumed with another partition size, then with the accounts reordered.
+     * - Then: Both resumes are refused and no account is charged again.
+     */
+    @Test
+    void shouldRefuseResumeWithDifferentLayout() {
+        // Arrange
+        List<Account> accounts = fundedAccounts(6);
+        BatchPostingService interrupted = new BatchPostingServiceImpl(
+                new InterruptingAccountService(2), checkpointStore, 3, 1);
+        assertThrows(IllegalStateException.class, () -> interrupted.chargeFee("fee-run", accounts, 1.0));
+        List<Account> reordered = new ArrayList<>(accounts);
+        Collections.reverse(reordered);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BatchPostingServiceImpl(accountService,
+                checkpointStore, 2, 1).chargeFee("fee-run", accounts, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new BatchPostingServiceImpl(accountService,
+                checkpointStore, 3, 1).chargeFee("fee-run", reordered, 1.0));
+        assertEquals(2, accounts.stream().filter(account -> account.getBalance() == 9.0).count());
+        assertEquals(4, accounts.stream().filter(account -> account.getBalance() == 10.0).count());
+    }
+
+    private static List<Account> fundedAccounts(int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            account.setBalance(10.0);
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    /**
+     * Account service interrupting the posting thread after a number of withdrawals,
+     * as shutting the posting pool down would.
+     */
+    private static final class InterruptingAccountService extends AccountServiceImpl {
+        private int remaining;
+
+        private InterruptingAccountService(int withdrawals) {
+            super(new TransactionServiceImpl());
+            this.remaining = withdrawals;
+        }
+
+        @Override
+        public OperationResult tryWithdraw(Account account, double amount) {
+            OperationResult result = super.tryWithdraw(account, amount);
+            if (--remaining == 0) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }
+    }
+
+    private static Transaction at(Transaction transaction, LocalDateTime date) {
+        Transaction stubbed = spy(transaction);
+        doReturn(date).when(stubbed).getDate();
+        return stubbed;
+    }
+}
@@ -0,0 +1,168 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for CachingTransactionFormatterServiceImpl.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class CachingTransactionFormatterServiceTest {
+
+    private final AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+
+    /**
+     * Verifies that cached statements are identical to the ones of the delegate.
+     *
+     * <p>Scenario:
+     * - Given: A text and a CSV formatter wrapped in a cache.
+     * - When: An account is formatted before and after new transactions.
+     * - Then: Every statement matches the delegate output.
+     */
+    @Test
+    void shouldRenderTheSameStatementAsTheDelegate() {
+        // Arrange
+        TransactionFormatterServiceImpl text = new TransactionFormatterServiceImpl();
+        CsvTransactionFormatterServiceImpl csv = new CsvTransactionFormatterServiceImpl();
+        CachingTransactionFormatterServiceImpl cachedText = new CachingTransactionFormatterServiceImpl(text);
+        CachingTransactionFormatterServiceImpl cachedCsv = new CachingTransactionFormatterServiceImpl(csv);
+        Account account = new Account("John Doe", "USD");
+
+        // Act & Assert
+        assertEquals(text.format(account), cachedText.format(account));
+        assertEquals(csv.format(account), cachedCsv.format(account));
+        for (int i = 1; i <= 50; i++) {
+            accountService.deposit(account, i);
+            assertEquals(text.format(account), cachedText.format(account));
+            assertEquals(csv.format(account), cachedCsv.format(account));
+        }
+    }
+
+    /**
+     * Verifies that only the rows of new transactions are rendered.
+     *
+     * <p>Scenario:
+     * - Given: An account with two transactions, already formatted once.
+     * - When: One more transaction is recorded and the statement is requested twice.
+     * - Then: The delegate renders a single new row, and the metrics count a miss, an append and a hit.
+     */
+    @Test
+    void shouldAppendOnlyNewTransactions() {
+        // Arrange
+        TransactionFormatterServiceImpl delegate = spy(new TransactionFormatterServiceImpl());
+        CachingTransactionFormatterServiceImpl cache = new CachingTransactionFormatterServiceImpl(delegate);
+        Account account = new Account("John Doe", "USD");
+        accountService.deposit(account, 100.0);
+        accountService.withdraw(account, 40.0);
+        cache.format(account);
+
+        // Act
+        accountService.deposit(account, 10.0);
+        cache.format(account);
+        String statement = cache.format(account);
+
+        // Assert
+        verify(delegate, times(3)).formatRow(any(), any());
+        verify(delegate, times(1)).formatHeader(account);
+        assertEquals(new TransactionFormatterServiceImpl().format(account), statement);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getAppendCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2.0 / 3, cache.getHitRate(), 1e-9);
+        assertEquals(3, cache.getRowsRendered());
+    }
+
+    /**
+     * Verifies that the least recently used statements are evicted to stay within the budget.
+     *
+     * <p>Scenario:
+     * - Given: A cache whose budget fits about two statements.
+     * - When: Three accounts are formatted in turn, the first one being read between each.
+     * - Then: The second then the third account are evicted and the cache weight stays within the budget.
+     */
+    @Test
+    void shouldEvictLeastRecentlyUsedStatementsByWeight() {
+        // Arrange
+        TransactionFormatterServiceImpl delegate = new TransactionFormatterServiceImpl();
+        Account first = new Account("First", "EUR");
+        Account second = new Account("Second", "EUR");
+        Account third = new Account("Third", "EUR");
+        CachingTransactionFormatterServiceImpl probe = new CachingTransactionFormatterServiceImpl(delegate);
+        probe.format(first);
+        long budget = probe.getWeightBytes() * 5 / 2;
+        CachingTransactionFormatterServiceImpl cache = new CachingTransactionFormatterServiceImpl(delegate, budget);
+
+        // Act
+        cache.format(first);
+        cache.format(second);
+        cache.format(first);
+        cache.format(third);
+        cache.format(first);
+        cache.format(second);
+
+        // Assert
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(2, cache.getHitCount() + cache.getAppendCount());
+        assertEquals(4, cache.getMissCount());
+        assertTrue(cache.getWeightBytes() <= budget);
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Verifies that invalidated statements are rendered again.
+     *
+     * <p>Scenario:
+     * - Given: A cached statement.
+     * - When: The account is invalidated and formatted again.
+     * - Then: The statement is rendered from scratch and the cache is empty in between.
+     */
+    @Test
+    void shouldRenderAgainAfterInvalidation() {
+        // Arrange
+        CachingTransactionFormatterServiceImpl cache =
+                new CachingTransactionFormatterServiceImpl(new TransactionFormatterServiceImpl());
+        Account account = new Account("John Doe", "USD");
+        accountService.deposit(account, 100.0);
+        cache.format(account);
+
+        // Act
+        cache.invalidate(account.getAccountId());
+        long weightAfterInvalidation = cache.getWeightBytes();
+        cache.format(account);
+
+        // Assert
+        assertEquals(0, weightAfterInvalidation);
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Verifies that the cache rejects invalid arguments.
+     *
+     * <p>Scenario:
+     * - Given: A null delegate, a non-positive budget or a null account.
+     * - When: The cache is built or used.
+     * - Then: An IllegalArgumentException is thrown.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        // Arrange
+        CachingTransactionFormatterServiceImpl cache =
+                new CachingTransactionFormatterServiceImpl(new TransactionFormatterServiceImpl());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingTransactionFormatterServiceImpl((TransactionFormatterServiceImpl) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingTransactionFormatterServiceImpl(new TransactionFormatterServiceImpl(), 0));
+        assertThrows(IllegalArgumentException.class, () -> cache.format(null));
+    }
+}
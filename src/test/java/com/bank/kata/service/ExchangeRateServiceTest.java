@@ -0,0 +1,98 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.CurrencyRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ExchangeRateService implementation.
+ *
+ * <p>This class verifies that rates are derived from the reference table,
+ * that missing rates are reported as {@code NaN}, and that every change
+ * publishes a new version of the table.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ExchangeRateServiceTest {
+
+    /**
+     * Verifies that the rate between two currencies is derived from their reference rates.
+     *
+     * <p>Scenario:
+     * - Given: EUR worth 1.0 and USD worth 0.5 reference units.
+     * - When: The USD to EUR and EUR to USD rates are requested.
+     * - Then: The rates are 0.5 and 2.0.
+     */
+    @Test
+    void shouldDeriveRateFromReferenceRates() {
+        // Arrange
+        ExchangeRateService exchangeRateService = new ExchangeRateServiceImpl();
+        exchangeRateService.updateRates(Map.of("EUR", 1.0, "USD", 0.5));
+        int eur = CurrencyRegistry.idOf("EUR");
+        int usd = CurrencyRegistry.idOf("USD");
+
+        // Act & Assert
+        assertEquals(0.5, exchangeRateService.getRate(usd, eur));
+        assertEquals(2.0, exchangeRateService.getRate(eur, usd));
+        assertEquals(1.0, exchangeRateService.getRate(usd, usd));
+    }
+
+    /**
+     * Verifies that a missing rate is reported as NaN.
+     *
+     * <p>Scenario:
+     * - Given: A table that only knows EUR.
+     * - When: The rate from an unknown currency is requested.
+     * - Then: The rate is NaN.
+     */
+    @Test
+    void shouldReturnNaNWhenRateIsMissing() {
+        // Arrange
+        ExchangeRateService exchangeRateService = new ExchangeRateServiceImpl();
+        exchangeRateService.setRate("EUR", 1.0);
+
+        // Act
+        double rate = exchangeRateService.getRate(CurrencyRegistry.idOf("XTS"), CurrencyRegistry.idOf("EUR"));
+
+        // Assert
+        assertTrue(Double.isNaN(rate));
+    }
+
+    /**
+     * Verifies that each change publishes a new version and keeps earlier rates.
+     *
+     * <p>Scenario:
+     * - Given: An empty table.
+     * - When: Two rates are set one after the other.
+     * - Then: The version is 2 and both rates are available.
+     */
+    @Test
+    void shouldIncrementVersionOnEachChange() {
+        // Arrange
+        ExchangeRateService exchangeRateService = new ExchangeRateServiceImpl();
+
+        // Act
+        exchangeRateService.setRate("EUR", 1.0);
+        exchangeRateService.setRate("GBP", 1.2);
+
+        // Assert
+        assertEquals(2L, exchangeRateService.getVersion());
+        assertEquals(1.2, exchangeRateService.getRate(CurrencyRegistry.idOf("GBP"), CurrencyRegistry.idOf("EUR")));
+    }
+
+    /**
+     * Verifies that non-positive rates are rejected.
+     */
+    @Test
+    void shouldThrowExceptionWhenRateIsNotPositive() {
+        ExchangeRateService exchangeRateService = new ExchangeRateServiceImpl();
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+                exchangeRateService.setRate("EUR", 0.0));
+        assertEquals("Exchange rate must be positive.", exception.getMessage());
+    }
+}
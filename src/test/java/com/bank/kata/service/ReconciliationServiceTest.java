@@ -0,0 +1,217 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Discrepancy;
+import com.bank.kata.model.DiscrepancyKind;
+import com.bank.kata.model.ReconciliationReport;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReconciliationServiceImpl.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ReconciliationServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+
+    /**
+     * Verifies that consistent histories produce a clean report.
+     *
+     * <p>Scenario:
+     * - Given: 100 accounts with deposits and withdrawals recorded by the account service.
+     * - When: They are reconciled in tasks of 8 accounts.
+     * - Then: Every account and row is checked and no discrepancy is found.
+     */
+    @Test
+    void shouldReportNoDiscrepancyForConsistentHistories() {
+        // Arrange
+        List<Account> accounts = accounts(100);
+        ReconciliationService service = new ReconciliationServiceImpl(new ForkJoinPool(4), 8, 10);
+
+        // Act
+        ReconciliationReport report = service.reconcile(accounts);
+
+        // Assert
+        assertTrue(report.isClean());
+        assertEquals(100, report.getAccountsChecked());
+        assertEquals(300, report.getRowsChecked());
+        assertTrue(report.getDiscrepancies().isEmpty());
+    }
+
+    /**
+     * Verifies that archived histories are checked without being loaded back.
+     *
+     * <p>Scenario:
+     * - Given: 10 accounts, one of which is archived.
+     * - When: They are reconciled.
+     * - Then: Every row is checked, no discrepancy is found and the account is still archived.
+     */
+    @Test
+    void shouldCheckArchivedHistoriesWithoutLoadingThemBack() {
+        // Arrange
+        List<Account> accounts = accounts(10);
+        Account archived = accounts.get(3);
+        List<Transaction> history = List.copyOf(archived.getTransactions());
+        archived.archive(() -> history);
+        ReconciliationService service = new ReconciliationServiceImpl(new ForkJoinPool(2), 4, 10);
+
+        // Act
+        ReconciliationReport report = service.reconcile(accounts);
+
+        // Assert
+        assertTrue(report.isClean());
+        assertEquals(30, report.getRowsChecked());
+        assertTrue(archived.isArchived());
+    }
+
+    /**
+     * Verifies that broken chains and final balances are reported in account order.
+     *
+     * <p>Scenario:
+     * - Given: 100 accounts, one with a forged amount in its history and one with a tampered balance.
+     * - When: They are reconciled.
+     * - Then: The forged row and the tampered balance are reported, the earlier account first.
+     */
+    @Test
+    void shouldReportBrokenChainsAndBalanceMismatches() {
+        // Arrange
+        List<Account> accounts = accounts(100);
+        Account forged = accounts.get(10);
+        forged.getTransactions().set(1, new Transaction(TransactionType.DEPOSIT, 6.5, 15.5));
+        Account tampered = accounts.get(70);
+        tampered.setBalance(tampered.getBalance() + 0.01);
+        ReconciliationService service = new ReconciliationServiceImpl(new ForkJoinPool(4), 8, 10);
+
+        // Act
+        ReconciliationReport report = service.reconcile(accounts);
+
+        // Assert
+        assertEquals(2, report.getDiscrepancyCount());
+        assertEquals(2, report.getAccountsWithDiscrepancies());
+        Discrepancy first = report.getDiscrepancies().get(0);
+        assertEquals(forged.getAccountId(), first.getAccountId());
+        assertEquals(DiscrepancyKind.BROKEN_CHAIN, first.getKind());
+        assertEquals(1, first.getTransactionIndex());
+        assertEquals(16.5, first.getExpected());
+        assertEquals(15.5, first.getActual());
+        Discrepancy second = report.getDiscrepancies().get(1);
+        assertEquals(tampered.getAccountId(), second.getAccountId());
+        assertEquals(DiscrepancyKind.BALANCE_MISMATCH, second.getKind());
+    }
+
+    /**
+     * Verifies that the report keeps only the first discrepancies while counting all of them.
+     *
+     * <p>Scenario:
+     * - Given: 50 accounts whose balances were all tampered with.
+     * - When: They are reconciled with a report limited to 5 discrepancies.
+     * - Then: The count is 50 and the 5 listed discrepancies are those of the first 5 accounts.
+     */
+    @Test
+    void shouldKeepTheReportCompact() {
+        // Arrange
+        List<Account> accounts = accounts(50);
+        for (Account account : accounts) {
+            account.setBalance(-1.0);
+        }
+        ReconciliationService service = new ReconciliationServiceImpl(new ForkJoinPool(4), 4, 5);
+
+        // Act
+        ReconciliationReport report = service.reconcile(accounts);
+
+        // Assert
+        assertEquals(50, report.getDiscrepancyCount());
+        assertEquals(5, report.getDiscrepancies().size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(accounts.get(i).getAccountId(), report.getDiscrepancies().get(i).getAccountId());
+        }
+    }
+
+    /**
+     * Verifies that exported columnar histories are reconciled against the stored accounts.
+     *
+     * <p>Scenario:
+     * - Given: 40 accounts exported in the columnar format over 3 files, and a repository
+     *   holding all of them but one, with another one credited after the export.
+     * - When: The files are reconciled against the repository.
+     * - Then: The chains are consistent, the missing account is unknown and the credited one mismatches.
+     */
+    @Test
+    void shouldReconcileColumnarExportsAgainstRepository() throws Exception {
+        // Arrange
+        List<Account> accounts = accounts(40);
+        List<Path> files = new StatementExportServiceImpl().exportAll(accounts,
+                new ColumnarTransactionFormatterServiceImpl(), directory, 3);
+        AccountRepository repository = new AccountRepositoryImpl();
+        for (int i = 1; i < accounts.size(); i++) {
+            repository.save(accounts.get(i));
+        }
+        accountService.deposit(accounts.get(5), 1.0);
+        ReconciliationService service = new ReconciliationServiceImpl(new ForkJoinPool(4), 4, 10);
+
+        // Act
+        ReconciliationReport chainsOnly = service.reconcileFiles(files, null);
+        ReconciliationReport report = service.reconcileFiles(files, repository);
+
+        // Assert
+        assertTrue(chainsOnly.isClean());
+        assertEquals(40, chainsOnly.getAccountsChecked());
+        assertEquals(120, chainsOnly.getRowsChecked());
+        assertEquals(2, report.getDiscrepancyCount());
+        List<DiscrepancyKind> kinds = new ArrayList<>();
+        for (Discrepancy discrepancy : report.getDiscrepancies()) {
+            kinds.add(discrepancy.getKind());
+        }
+        assertTrue(kinds.contains(DiscrepancyKind.UNKNOWN_ACCOUNT));
+        assertTrue(kinds.contains(DiscrepancyKind.BALANCE_MISMATCH));
+    }
+
+    /**
+     * Verifies that files which are not columnar exports are rejected.
+     *
+     * <p>Scenario:
+     * - Given: A text file.
+     * - When: It is reconciled.
+     * - Then: An IllegalArgumentException is thrown.
+     */
+    @Test
+    void shouldRejectFilesInAnotherFormat() throws Exception {
+        // Arrange
+        Path file = Files.writeString(directory.resolve("statement.txt"), "Account Owner: Joe\n");
+        ReconciliationService service = new ReconciliationServiceImpl();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.reconcileFiles(List.of(file), null));
+        assertThrows(IllegalArgumentException.class, () -> service.reconcile(null));
+    }
+
+    private List<Account> accounts(int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            accountService.deposit(account, 10.0);
+            accountService.deposit(account, 5.5);
+            accountService.withdraw(account, 1.25);
+            accounts.add(account);
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,264 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.ReplayPoint;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionEvent;
+import com.bank.kata.repository.AccountRepository;
+import com.bank.kata.repository.AccountRepositoryImpl;
+import com.bank.kata.support.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ReplayServiceImpl.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class ReplayServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+    private final MutableClock clock = new MutableClock(START.toInstant(ZoneOffset.UTC).toEpochMilli());
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private TransactionFeedService feed;
+    private AccountService accountService;
+    private AccountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TransactionFeedServiceImpl();
+        ExchangeRateService exchangeRateService = new ExchangeRateServiceImpl();
+        exchangeRateService.updateRates(Map.of("EUR", 1.0, "USD", 0.5));
+        accountService = new AccountServiceImpl(new TransactionServiceImpl(feed, null, clock), exchangeRateService);
+        repository = new AccountRepositoryImpl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Verifies that an account is rebuilt as it was after a given feed event.
+     *
+     * <p>Scenario:
+     * - Given: An account with a deposit, a converted deposit and a withdrawal, one minute apart.
+     * - When: It is rebuilt at the sequence number of the converted deposit.
+     * - Then: The rebuilt account holds the first two transactions, with their original dates and balances,
+     *   and the live account is untouched.
+     */
+    @Test
+    void shouldReconstructAccountAtSequence() {
+        // Arrange
+        Account account = open("Ada", "EUR");
+        accountService.deposit(account, 100.0);
+        clock.advance(60_000);
+        accountService.deposit(account, 40.0, "USD");
+        clock.advance(60_000);
+        accountService.withdraw(account, 30.0);
+        List<TransactionEvent> journal = journal();
+        ReplayService replay = new ReplayServiceImpl(pool, 4);
+
+        // Act
+        Account rebuilt = replay.reconstruct(account, journal, ReplayPoint.atSequence(journal.get(1).getSequence()));
+
+        // Assert
+        assertEquals(account.getAccountId(), rebuilt.getAccountId());
+        assertEquals(account.getCreatedAt(), rebuilt.getCreatedAt());
+        assertEquals(120.0, rebuilt.getBalance());
+        assertEquals(2, rebuilt.getTransactions().size());
+        Transaction converted = rebuilt.getTransactions().get(1);
+        assertEquals(START.plusMinutes(1), converted.getDate());
+        assertEquals(120.0, converted.getBalanceAfterTransaction());
+        assertEquals(40.0, converted.getOriginalAmount());
+        assertEquals("USD", converted.getOriginalCurrency());
+        assertEquals(90.0, account.getBalance());
+        assertEquals(3, account.getTransactions().size());
+    }
+
+    /**
+     * Verifies that a replay at a date keeps only the transactions dated up to it.
+     *
+     * <p>Scenario:
+     * - Given: Two accounts with transactions on three consecutive days.
+     * - When: Every account is rebuilt at the end of the second day.
+     * - Then: Each rebuilt account holds its transactions of the first two days only.
+     */
+    @Test
+    void shouldReconstructAllAccountsAtDate() {
+        // Arrange
+        Account ada = open("Ada", "EUR");
+        Account bob = open("Bob", "EUR");
+        for (int day = 0; day < 3; day++) {
+            accountService.deposit(ada, 10.0 * (day + 1));
+            accountService.deposit(bob, 100.0);
+            clock.advance(86_400_000);
+        }
+        ReplayService replay = new ReplayServiceImpl(pool, 4);
+
+        // Act
+        Map<String, Account> rebuilt = replay.reconstructAll(journal(), repository,
+                ReplayPoint.atDate(START.plusDays(1).withHour(23)));
+
+        // Assert
+        assertEquals(2, rebuilt.size());
+        assertEquals(30.0, rebuilt.get(ada.getAccountId()).getBalance());
+        assertEquals(200.0, rebuilt.get(bob.getAccountId()).getBalance());
+        assertEquals(2, rebuilt.get(bob.getAccountId()).getTransactions().size());
+    }
+
+    /**
+     * Verifies that replaying the whole journal gives back the live accounts, whatever the partitioning.
+     *
+     * <p>Scenario:
+     * - Given: Fifty accounts with interleaved deposits and withdrawals.
+     * - When: Every account is rebuilt at the last event, with one partition and with seven.
+     * - Then: Both replays match the live balances and histories exactly.
+     */
+    @Test
+    void shouldMatchLiveAccountsWithAnyPartitioning() {
+        // Arrange
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            accounts.add(open("Owner " + i, "EUR"));
+        }
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < accounts.size(); i++) {
+                accountService.deposit(accounts.get(i), 0.1 * (i + round + 1));
+                if ((i + round) % 3 == 0) {
+                    accountService.withdraw(accounts.get(i), 0.07);
+                }
+                clock.advance(1_000);
+            }
+        }
+        List<TransactionEvent> journal = journal();
+        ReplayPoint last = ReplayPoint.atSequence(journal.get(journal.size() - 1).getSequence());
+
+        // Act
+        Map<String, Account> sequential = new ReplayServiceImpl(pool, 1).reconstructAll(journal, repository, last);
+        Map<String, Account> partitioned = new ReplayServiceImpl(pool, 7).reconstructAll(journal, repository, last);
+
+        // Assert
+        for (Account account : accounts) {
+            for (Map<String, Account> rebuilt : List.of(sequential, partitioned)) {
+                Account replica = rebuilt.get(account.getAccountId());
+                assertEquals(account.getBalance(), replica.getBalance());
+                List<Transaction> expected = account.getTransactions();
+                List<Transaction> actual = replica.getTransactions();
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getDate(), actual.get(i).getDate());
+                    assertEquals(expected.get(i).getBalanceAfterTransaction(),
+                            actual.get(i).getBalanceAfterTransaction());
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifies that invalid journals are rejected.
+     *
+     * <p>Scenario:
+     * - Given: A journal out of sequence order, and a journal referring to an unregistered account.
+     * - When: They are replayed.
+     * - Then: Both replays are rejected.
+     */
+    @Test
+    void shouldRejectInvalidJournals() {
+        // Arrange
+        Account registered = open("Ada", "EUR");
+        Account unregistered = new Account("Eve", "EUR");
+        accountService.deposit(registered, 10.0);
+        accountService.deposit(registered, 20.0);
+        accountService.deposit(unregistered, 5.0);
+        List<TransactionEvent> journal = journal();
+        List<TransactionEvent> reversed = List.of(journal.get(1), journal.get(0));
+        ReplayService replay = new ReplayServiceImpl(pool, 2);
+        ReplayPoint point = ReplayPoint.atDate(START);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> replay.reconstruct(registered, reversed, point));
+        assertThrows(IllegalArgumentException.class, () -> replay.reconstructAll(journal, repository, point));
+        assertThrows(IllegalArgumentException.class, () -> ReplayPoint.atSequence(-1));
+    }
+
+    /**
+     * Verifies that a journal missing the first transactions of an account is rejected.
+     *
+     * <p>Scenario:
+     * - Given: An account with three deposits, and a journal that lost the first one.
+     * - When: The account, and every account, are rebuilt from that journal.
+     * - Then: Both replays are rejected instead of returning a balance missing the first deposit.
+     */
+    @Test
+    void shouldRejectJournalMissingEarlierTransactions() {
+        // Arrange
+        Account account = open("Ada", "EUR");
+        accountService.deposit(account, 10.0);
+        accountService.deposit(account, 20.0);
+        accountService.deposit(account, 30.0);
+        List<TransactionEvent> journal = journal();
+        List<TransactionEvent> truncated = journal.subList(1, journal.size());
+        ReplayService replay = new ReplayServiceImpl(pool, 2);
+        ReplayPoint last = ReplayPoint.atSequence(journal.get(journal.size() - 1).getSequence());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> replay.reconstruct(account, truncated, last));
+        assertThrows(IllegalArgumentException.class, () -> replay.reconstructAll(truncated, repository, last));
+    }
+
+    /**
+     * Verifies that every account of the repository is rebuilt, including those without transactions.
+     *
+     * <p>Scenario:
+     * - Given: An account with a deposit and an account without any transaction.
+     * - When: Every account is rebuilt at the last event.
+     * - Then: Both are returned, the idle one with a zero balance and no transactions.
+     */
+    @Test
+    void shouldReconstructAccountsWithoutTransactions() {
+        // Arrange
+        Account active = open("Ada", "EUR");
+        Account idle = open("Bob", "EUR");
+        accountService.deposit(active, 10.0);
+        List<TransactionEvent> journal = journal();
+        ReplayService replay = new ReplayServiceImpl(pool, 2);
+
+        // Act
+        Map<String, Account> rebuilt = replay.reconstructAll(journal, repository,
+                ReplayPoint.atSequence(journal.get(0).getSequence()));
+
+        // Assert
+        assertEquals(2, rebuilt.size());
+        assertEquals(10.0, rebuilt.get(active.getAccountId()).getBalance());
+        assertEquals(0.0, rebuilt.get(idle.getAccountId()).getBalance());
+        assertTrue(rebuilt.get(idle.getAccountId()).getTransactions().isEmpty());
+    }
+
+    private Account open(String ownerName, String currency) {
+        return repository.save(new Account(ownerName, currency));
+    }
+
+    private List<TransactionEvent> journal() {
+        FeedSubscription subscription = feed.subscribe("replay", 0);
+        List<TransactionEvent> events = new ArrayList<>();
+        while (feed.poll(subscription, events, 1_024) > 0) {
+            // Drain the feed
+        }
+        feed.unsubscribe("replay");
+        return events;
+    }
+}
@@ -0,0 +1,203 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.OperationStatus;
+import com.bank.kata.model.RiskAlert;
+import com.bank.kata.support.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for RiskScoringServiceImpl and its use by AccountServiceImpl.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class RiskScoringServiceTest {
+
+    /**
+     * 2025-01-09T10:00Z, a regular working hour for the accounts of these tests.
+     */
+    private static final long MORNING = Instant.parse("2025-01-09T10:00:00Z").toEpochMilli();
+
+    private final List<RiskAlert> alerts = new CopyOnWriteArrayList<>();
+    private final MutableClock clock = new MutableClock(MORNING);
+
+    /**
+     * Verifies that an amount far above the usual ones is declined in blocking mode.
+     *
+     * <p>Scenario:
+     * - Given: An account with 20 deposits between 90 and 110, one minute apart.
+     * - When: A deposit of 10,000 is attempted, then one of 105.
+     * - Then: The first is declined with an amount outlier alert and the second is accepted.
+     */
+    @Test
+    void shouldDeclineAmountOutliers() {
+        // Arrange
+        RiskScoringServiceImpl scoring = blocking();
+        AccountService accountService = accountService(scoring);
+        Account account = new Account("Joe", "EUR");
+        for (int i = 0; i < 20; i++) {
+            accountService.deposit(account, 90 + i);
+            clock.advance(60_000);
+        }
+
+        // Act
+        OperationStatus outlier = accountService.tryDeposit(account, 10_000).getStatus();
+        OperationStatus usual = accountService.tryDeposit(account, 105).getStatus();
+
+        // Assert
+        assertEquals(OperationStatus.DECLINED, outlier);
+        assertEquals(OperationStatus.OK, usual);
+        assertEquals(1, alerts.size());
+        assertTrue(alerts.get(0).hasFlag(RiskAlert.AMOUNT_OUTLIER));
+        assertTrue(alerts.get(0).isDeclined());
+        assertTrue(alerts.get(0).getZScore() > RiskScoringServiceImpl.OUTLIER_Z_SCORE);
+        assertEquals(21, account.getTransactions().size());
+        assertThrows(IllegalArgumentException.class, () -> accountService.withdraw(account, 5_000));
+    }
+
+    /**
+     * Verifies that an account always depositing the same amount is not declined for a slightly larger one.
+     *
+     * <p>Scenario:
+     * - Given: An account with 20 deposits of exactly 100, one minute apart.
+     * - When: A deposit of 100.01 is attempted, then one of 10,000.
+     * - Then: The first is accepted without an alert and the second is declined as an amount outlier.
+     */
+    @Test
+    void shouldNotDeclineSlightlyLargerAmountAfterConstantHistory() {
+        // Arrange
+        RiskScoringServiceImpl scoring = blocking();
+        AccountService accountService = accountService(scoring);
+        Account account = new Account("Joe", "EUR");
+        for (int i = 0; i < 20; i++) {
+            accountService.deposit(account, 100);
+            clock.advance(60_000);
+        }
+
+        // Act
+        OperationStatus slightlyLarger = accountService.tryDeposit(account, 100.01).getStatus();
+        clock.advance(60_000);
+        OperationStatus outlier = accountService.tryDeposit(account, 10_000).getStatus();
+
+        // Assert
+        assertEquals(OperationStatus.OK, slightlyLarger);
+        assertEquals(OperationStatus.DECLINED, outlier);
+        assertEquals(1, alerts.size());
+        assertTrue(alerts.get(0).hasFlag(RiskAlert.AMOUNT_OUTLIER));
+        assertTrue(Double.isFinite(alerts.get(0).getZScore()));
+    }
+
+    /**
+     * Verifies that too many operations in a short time are declined.
+     *
+     * <p>Scenario:
+     * - Given: An account that just made as many deposits as the burst limit, 100 ms apart.
+     * - When: One more deposit is attempted, then another once the window has passed.
+     * - Then: The first is declined as a burst and the second is accepted.
+     */
+    @Test
+    void shouldDeclineBursts() {
+        // Arrange
+        RiskScoringServiceImpl scoring = blocking();
+        AccountService accountService = accountService(scoring);
+        Account account = new Account("Joe", "EUR");
+        for (int i = 0; i < RiskScoringServiceImpl.BURST_LIMIT; i++) {
+            accountService.deposit(account, 100);
+            clock.advance(100);
+        }
+
+        // Act
+        OperationStatus burst = accountService.tryDeposit(account, 100).getStatus();
+        clock.advance(RiskScoringServiceImpl.BURST_WINDOW_MILLIS);
+        OperationStatus later = accountService.tryDeposit(account, 100).getStatus();
+
+        // Assert
+        assertEquals(OperationStatus.DECLINED, burst);
+        assertTrue(alerts.get(0).hasFlag(RiskAlert.BURST));
+        assertEquals(OperationStatus.OK, later);
+        assertEquals(1, scoring.getDeclinedCount());
+    }
+
+    /**
+     * Verifies that activity at an unusual hour raises an alert without being declined.
+     *
+     * <p>Scenario:
+     * - Given: An account with 20 deposits, all made in the morning.
+     * - When: A usual deposit is made at 3 AM.
+     * - Then: It is accepted and an unusual hour alert is raised.
+     */
+    @Test
+    void shouldFlagUnusualHours() {
+        // Arrange
+        RiskScoringServiceImpl scoring = blocking();
+        AccountService accountService = accountService(scoring);
+        Account account = new Account("Joe", "EUR");
+        for (int i = 0; i < 20; i++) {
+            accountService.deposit(account, 100);
+            clock.advance(60_000);
+        }
+
+        // Act
+        clock.set(Instant.parse("2025-01-10T03:00:00Z").toEpochMilli());
+        OperationStatus status = accountService.tryDeposit(account, 100).getStatus();
+
+        // Assert
+        assertEquals(OperationStatus.OK, status);
+        assertEquals(1, alerts.size());
+        assertEquals(RiskAlert.UNUSUAL_HOUR, alerts.get(0).getFlags());
+        assertFalse(alerts.get(0).isDeclined());
+    }
+
+    /**
+     * Verifies that the flag-only mode never declines and scores in the background.
+     *
+     * <p>Scenario:
+     * - Given: A flag-only scorer and an account with 20 usual deposits.
+     * - When: A deposit of 10,000 is made.
+     * - Then: It is committed, and an alert is raised once the worker scored every transaction.
+     */
+    @Test
+    void shouldOnlyFlagInFlagOnlyMode() throws Exception {
+        // Arrange
+        try (RiskScoringServiceImpl scoring = new RiskScoringServiceImpl(RiskScoringServiceImpl.Mode.FLAG_ONLY,
+                RiskScoringServiceImpl.DEFAULT_BLOCKING_FLAGS, alerts::add, clock)) {
+            AccountService accountService = accountService(scoring);
+            Account account = new Account("Joe", "EUR");
+            for (int i = 0; i < 20; i++) {
+                accountService.deposit(account, 90 + i);
+                clock.advance(60_000);
+            }
+
+            // Act
+            OperationStatus status = accountService.tryDeposit(account, 10_000).getStatus();
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (scoring.getScoredCount() < 21 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            // Assert
+            assertEquals(OperationStatus.OK, status);
+            assertEquals(21, scoring.getScoredCount());
+            assertEquals(1, alerts.size());
+            assertTrue(alerts.get(0).hasFlag(RiskAlert.AMOUNT_OUTLIER));
+            assertFalse(alerts.get(0).isDeclined());
+            assertEquals(0, scoring.getDeclinedCount());
+        }
+    }
+
+    private RiskScoringServiceImpl blocking() {
+        return new RiskScoringServiceImpl(RiskScoringServiceImpl.Mode.BLOCKING,
+                RiskScoringServiceImpl.DEFAULT_BLOCKING_FLAGS, alerts::add, clock);
+    }
+
+    private static AccountService accountService(RiskScoringService scoring) {
+        return new AccountServiceImpl(new TransactionServiceImpl(), new ExchangeRateServiceImpl(), scoring);
+    }
+}
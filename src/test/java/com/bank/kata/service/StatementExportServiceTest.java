@@ -0,0 +1,187 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.Transaction;
+import com.bank.kata.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Test suite for the CSV and columnar formatters and the statement exporter.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class StatementExportServiceTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Verifies that the CSV formatter writes a header and one row per transaction.
+     *
+     * <p>Scenario:
+     * - Given: An account with a deposit and a withdrawal at known dates.
+     * - When: The account is formatted as CSV.
+     * - Then: The rows carry the account, the date, the type, the amount and the balance.
+     */
+    @Test
+    void shouldFormatTransactionsAsCsv() {
+        // Arrange
+        Account account = accountWithHistory();
+
+        // Act
+        String csv = new CsvTransactionFormatterServiceImpl().format(account);
+
+        // Assert
+        String prefix = account.getAccountId() + ",USD,";
+        assertEquals(CsvTransactionFormatterServiceImpl.HEADER
+                + prefix + "2025-01-09T10:30,DEPOSIT,100.0,100.0\r\n"
+                + prefix + "2025-01-09T10:35,WITHDRAWAL,50.25,49.75\r\n", csv);
+    }
+
+    /**
+     * Verifies that the columnar format decodes back to the same columns.
+     *
+     * <p>Scenario:
+     * - Given: An account with a deposit and a withdrawal at known dates.
+     * - When: The account is formatted in the columnar format and decoded.
+     * - Then: Every column matches the original transactions.
+     */
+    @Test
+    void shouldRoundTripColumnarFormat() {
+        // Arrange
+        Account account = accountWithHistory();
+
+        // Act
+        byte[] bytes = Base64.getDecoder().decode(new ColumnarTransactionFormatterServiceImpl().format(account));
+        List<ColumnarTransactionFormatterServiceImpl.StatementBlock> blocks =
+                ColumnarTransactionFormatterServiceImpl.read(ByteBuffer.wrap(bytes));
+
+        // Assert
+        assertEquals(1, blocks.size());
+        ColumnarTransactionFormatterServiceImpl.StatementBlock block = blocks.get(0);
+        assertEquals(account.getAccountId(), block.getAccountId());
+        assertEquals("USD", block.getCurrency());
+        assertArrayEquals(new TransactionType[]{TransactionType.DEPOSIT, TransactionType.WITHDRAWAL}, block.getTypes());
+        assertArrayEquals(new double[]{100.0, 50.25}, block.getAmounts());
+        assertArrayEquals(new double[]{100.0, 49.75}, block.getBalances());
+        assertEquals(ColumnarTransactionFormatterServiceImpl.toEpochMicros(LocalDateTime.of(2025, 1, 9, 10, 35)),
+                block.getEpochMicros()[1]);
+    }
+
+    /**
+     * Verifies that amounts which are not whole cents are kept exactly.
+     */
+    @Test
+    void shouldKeepAmountsThatAreNotWholeCents() {
+        Account account = new Account("Joe", "EUR");
+        account.getTransactions().add(new Transaction(TransactionType.DEPOSIT, 0.1 + 0.2, 1.0 / 3));
+
+        byte[] bytes = Base64.getDecoder().decode(new ColumnarTransactionFormatterServiceImpl().format(account));
+        ColumnarTransactionFormatterServiceImpl.StatementBlock block =
+                ColumnarTransactionFormatterServiceImpl.read(ByteBuffer.wrap(bytes)).get(0);
+
+        assertEquals(0.1 + 0.2, block.getAmounts()[0]);
+        assertEquals(1.0 / 3, block.getBalances()[0]);
+    }
+
+    /**
+     * Verifies that every account is exported once across the partition files.
+     *
+     * <p>Scenario:
+     * - Given: 10 accounts with 3 transactions each.
+     * - When: They are exported in CSV and columnar formats over 3 partitions.
+     * - Then: The CSV files hold 30 rows and 3 headers, and the columnar files decode to 10 blocks.
+     */
+    @Test
+    void shouldExportAllAccountsAcrossPartitions() throws Exception {
+        // Arrange
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Account account = new Account("Owner " + i, "EUR");
+            accountService.deposit(account, 10.0);
+            accountService.deposit(account, 5.5);
+            accountService.withdraw(account, 1.0);
+            accounts.add(account);
+        }
+        StatementExportService exporter = new StatementExportServiceImpl();
+
+        // Act
+        List<Path> csvFiles = exporter.exportAll(accounts, new CsvTransactionFormatterServiceImpl(),
+                directory.resolve("csv"), 3);
+        List<Path> columnarFiles = exporter.exportAll(accounts, new ColumnarTransactionFormatterServiceImpl(),
+                directory.resolve("columnar"), 3);
+
+        // Assert
+        long lines = 0;
+        for (Path file : csvFiles) {
+            lines += Files.readAllLines(file).size();
+        }
+        assertEquals(33, lines);
+        int blocks = 0;
+        for (Path file : columnarFiles) {
+            blocks += ColumnarTransactionFormatterServiceImpl.read(ByteBuffer.wrap(Files.readAllBytes(file))).size();
+        }
+        assertEquals(10, blocks);
+        assertTrue(columnarFiles.get(0).toString().endsWith("statements-0.bkc"));
+    }
+
+    /**
+     * Verifies that accounts can be exported while deposits append to their histories.
+     *
+     * <p>Scenario:
+     * - Given: An account receiving 20,000 deposits from another thread.
+     * - When: It is exported in CSV and columnar formats repeatedly in the meantime.
+     * - Then: Every export succeeds.
+     */
+    @Test
+    void shouldExportWhileDepositsAreRecorded() throws Exception {
+        // Arrange
+        AccountService accountService = new AccountServiceImpl(new TransactionServiceImpl());
+        Account account = new Account("Joe", "EUR");
+        Thread depositor = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                accountService.deposit(account, 1.0);
+            }
+        });
+        StatementExportService exporter = new StatementExportServiceImpl();
+        depositor.start();
+
+        // Act & Assert
+        try {
+            for (int i = 0; i < 20; i++) {
+                exporter.exportAll(List.of(account), new CsvTransactionFormatterServiceImpl(),
+                        directory.resolve("csv"), 1);
+                exporter.exportAll(List.of(account), new ColumnarTransactionFormatterServiceImpl(),
+                        directory.resolve("columnar"), 1);
+            }
+        } finally {
+            depositor.join();
+        }
+    }
+
+    private static Account accountWithHistory() {
+        Account account = new Account("John Doe", "USD");
+        Transaction deposit = spy(new Transaction(TransactionType.DEPOSIT, 100.0, 100.0));
+        Transaction withdrawal = spy(new Transaction(TransactionType.WITHDRAWAL, 50.25, 49.75));
+        doReturn(LocalDateTime.of(2025, 1, 9, 10, 30)).when(deposit).getDate();
+        doReturn(LocalDateTime.of(2025, 1, 9, 10, 35)).when(withdrawal).getDate();
+        account.getTransactions().add(deposit);
+        account.getTransactions().add(withdrawal);
+        return account;
+    }
+}
@@ -0,0 +1,172 @@
+package com.bank.kata.service;
+
+import com.bank.kata.model.Account;
+import com.bank.kata.model.TransactionEvent;
+import com.bank.kata.model.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TransactionFeedService implementation.
+ *
+ * <p>This class verifies that recorded transactions are published in order,
+ * that consumers poll in batches from their own cursor, can replay retained
+ * events, and skip events overwritten while they were too slow.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public class TransactionFeedServiceTest {
+
+    /**
+     * Verifies that transactions recorded by the TransactionService reach a subscriber.
+     *
+     * <p>Scenario:
+     * - Given: A subscriber registered before any transaction.
+     * - When: Two transactions are recorded.
+     * - Then: The subscriber polls both, in order, and has no lag left.
+     */
+    @Test
+    void shouldDeliverRecordedTransactionsInOrder() {
+        // Arrange
+        TransactionFeedService feed = new TransactionFeedServiceImpl(8);
+        TransactionService transactionService = new TransactionServiceImpl(feed);
+        FeedSubscription subscription = feed.subscribe("fraud");
+        Account account = new Account("Joe","EUR");
+
+        // Act
+        transactionService.recordTransaction(account, TransactionType.DEPOSIT, 100.0);
+        transactionService.recordTransaction(account, TransactionType.WITHDRAWAL, 40.0);
+        List<TransactionEvent> events = new ArrayList<>();
+        int read = feed.poll(subscription, events, 10);
+
+        // Assert
+        assertEquals(2, read);
+        assertEquals(0L, events.get(0).getSequence());
+        assertEquals(TransactionType.WITHDRAWAL, events.get(1).getTransaction().getType());
+        assertEquals(account.getAccountId(), events.get(1).getAccountId());
+        assertEquals(0L, feed.getLag(subscription));
+    }
+
+    /**
+     * Verifies that polling respects the batch size and that a consumer can replay.
+     *
+     * <p>Scenario:
+     * - Given: Five published transactions.
+     * - When: A consumer polls with a batch of two, and another replays from sequence 3.
+     * - Then: The first gets sequences 0 and 1, the second gets 3 and 4.
+     */
+    @Test
+    void shouldPollInBatchesAndReplayFromSequence() {
+        // Arrange
+        TransactionFeedService feed = new TransactionFeedServiceImpl(8);
+        TransactionService transactionService = new TransactionServiceImpl(feed);
+        FeedSubscription analytics = feed.subscribe("analytics", 0L);
+        Account account = new Account("Joe","EUR");
+        for (int i = 0; i < 5; i++) {
+            transactionService.recordTransaction(account, TransactionType.DEPOSIT, 10.0);
+        }
+
+        // Act
+        List<TransactionEvent> batch = new ArrayList<>();
+        feed.poll(analytics, batch, 2);
+        FeedSubscription replay = feed.subscribe("replay", 3L);
+        List<TransactionEvent> replayed = new ArrayList<>();
+        feed.poll(replay, replayed, 10);
+
+        // Assert
+        assertEquals(2, batch.size());
+        assertEquals(1L, batch.get(1).getSequence());
+        assertEquals(3L, feed.getLag(analytics));
+        assertEquals(2, replayed.size());
+        assertEquals(3L, replayed.get(0).getSequence());
+    }
+
+    /**
+     * Verifies that a slow consumer skips overwritten events instead of blocking publishers.
+     *
+     * <p>Scenario:
+     * - Given: A feed retaining 4 events and a consumer at sequence 0.
+     * - When: 10 transactions are published before it polls.
+     * - Then: It reads the last 4 events and reports 6 missed events.
+     */
+    @Test
+    void shouldSkipOverwrittenEventsForSlowConsumer() {
+        // Arrange
+        TransactionFeedService feed = new TransactionFeedServiceImpl(4);
+        TransactionService transactionService = new TransactionServiceImpl(feed);
+        FeedSubscription slow = feed.subscribe("slow");
+        Account account = new Account("Joe","EUR");
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            transactionService.recordTransaction(account, TransactionType.DEPOSIT, 1.0);
+        }
+        List<TransactionEvent> events = new ArrayList<>();
+        feed.poll(slow, events, 100);
+
+        // Assert
+        assertEquals(4, events.size());
+        assertEquals(6L, events.get(0).getSequence());
+        assertEquals(6L, slow.getMissedEvents());
+        assertEquals(10L, slow.getPosition());
+    }
+
+    /**
+     * Verifies that a consumer keeps up with publishers lapping a small ring concurrently.
+     *
+     * <p>Scenario:
+     * - Given: A feed retaining 4 events and a consumer at sequence 0.
+     * - When: 4 threads publish 20,000 transactions each while the consumer polls.
+     * - Then: Once publishing stops, the consumer reaches the head, reading or skipping every event.
+     */
+    @Test
+    void shouldReachHeadWhilePublishersLapTheRing() throws Exception {
+        // Arrange
+        TransactionFeedService feed = new TransactionFeedServiceImpl(4);
+        TransactionService transactionService = new TransactionServiceImpl(feed);
+        FeedSubscription consumer = feed.subscribe("consumer");
+        List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Account account = new Account("Joe","EUR");
+            publishers.add(new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    transactionService.recordTransaction(account, TransactionType.DEPOSIT, 1.0);
+                }
+            }));
+        }
+
+        // Act
+        publishers.forEach(Thread::start);
+        List<TransactionEvent> events = new ArrayList<>();
+        long read = 0;
+        while (publishers.stream().anyMatch(Thread::isAlive)) {
+            read += feed.poll(consumer, events, 64);
+            events.clear();
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        read += feed.poll(consumer, events, Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(80_000L, consumer.getPosition());
+        assertEquals(80_000L, read + consumer.getMissedEvents());
+    }
+
+    /**
+     * Verifies that a consumer name can only be subscribed once.
+     */
+    @Test
+    void shouldThrowExceptionWhenConsumerIsAlreadySubscribed() {
+        TransactionFeedService feed = new TransactionFeedServiceImpl();
+        feed.subscribe("fraud");
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> feed.subscribe("fraud"));
+        assertEquals("Consumer is already subscribed: fraud", exception.getMessage());
+    }
+}
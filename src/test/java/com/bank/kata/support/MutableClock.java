@@ -0,0 +1,95 @@
+package com.bank.kata.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clock moved by hand, for tests and benchmarks that simulate the passing of time.
+ *
+ * <p>The clock can also move forward by a fixed step each time it is read. Clocks
+ * returned by {@link #withZone(ZoneId)} share the time of this one, so moving either
+ * moves both.
+ *
+ * @author [Houssem Eddine Yahia]
+ * @version 1.0
+ */
+public final class MutableClock extends Clock {
+
+    /**
+     * Current time in epoch milliseconds, shared with the clocks in other zones.
+     */
+    private final AtomicLong millis;
+
+    /**
+     * Milliseconds added each time the clock is read.
+     */
+    private final long tick;
+
+    private final ZoneId zone;
+
+    /**
+     * Creates a UTC clock that only moves when told to.
+     *
+     * @param millis the initial time, in epoch milliseconds.
+     */
+    public MutableClock(long millis) {
+        this(millis, 0);
+    }
+
+    /**
+     * Creates a UTC clock moving forward by {@code tick} milliseconds each time it is read.
+     *
+     * @param millis the initial time, in epoch milliseconds.
+     * @param tick the milliseconds added after each read.
+     */
+    public MutableClock(long millis, long tick) {
+        this(new AtomicLong(millis), tick, ZoneOffset.UTC);
+    }
+
+    private MutableClock(AtomicLong millis, long tick, ZoneId zone) {
+        this.millis = millis;
+        this.tick = tick;
+        this.zone = zone;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param delta the milliseconds to add.
+     */
+    public void advance(long delta) {
+        millis.addAndGet(delta);
+    }
+
+    /**
+     * Sets the clock to a given time.
+     *
+     * @param millis the new time, in epoch milliseconds.
+     */
+    public void set(long millis) {
+        this.millis.set(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new MutableClock(millis, tick, zone);
+    }
+
+    @Override
+    public long millis() {
+        return tick == 0 ? millis.get() : millis.getAndAdd(tick);
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+}